@@ -7,6 +7,11 @@ create table game
     length       integer      not null check (length <= 20 AND length >= 1),
     pool         varchar(255) not null,
     code_text    varchar(20)  not null,
+    solved       boolean      default false not null,
+    guess_count  integer      default 0 not null,
+    last_guess_at timestamp,
+    ttl_minutes  integer check (ttl_minutes <= 525600 AND ttl_minutes >= 1),
+    version      bigint       default 0 not null,
     primary key (game_id)
 );
 create table guess
@@ -20,10 +25,20 @@ create table guess
     game_id       bigint      not null,
     primary key (guess_id)
 );
+create table lease
+(
+    name    varchar(64) not null,
+    holder  varchar(64) not null,
+    token   bigint      not null,
+    expires timestamp   not null,
+    primary key (name)
+);
 create index IDXlk7h4xhf32khhkbqqlpw3h6c6 on game (created);
+create index IDX4iy62oobl4cqx4cxt5aiqrorm on game (last_guess_at);
 alter table game
     add constraint UK_h5ly13atfey58ueo3eccgihug unique (external_key);
 create index IDX4xl15u97wgd6b6ji19yfqgdjr on guess (created);
+create index IDXj5v53w95atprg7mi50isv3jjt on guess (game_id, guess_id);
 alter table guess
     add constraint UK_91c9f1d56yrtyaj69sprv3ppx unique (external_key);
 alter table guess
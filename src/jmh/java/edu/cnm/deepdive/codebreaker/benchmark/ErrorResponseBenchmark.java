@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Measures the throughput of requests answered with the HTTP 404 (not found) and 409 (conflict)
+ * response statuses: retrieving a game that doesn't exist, and submitting a guess against a game
+ * that has already been solved. As in {@link RequestThroughputBenchmark}, the service runs in the
+ * benchmark JVM, against an in-memory database, and is called over HTTP on the loopback interface.
+ * To compare the cost of signalling these outcomes with and without stack traces, run this
+ * benchmark against builds before and after that change; {@link ExceptionSignallingBenchmark}
+ * isolates the difference within a single build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+  private static final String GAMES_PATH = "/games";
+  private static final String GUESSES_PATH = "/guesses";
+  private static final String BATCH_PATH = "/batch";
+  private static final String GAME_BODY = "{\"pool\": \"AB\", \"length\": 1}";
+  private static final String SOLVING_BODY = "[{\"text\": \"A\"}, {\"text\": \"B\"}]";
+  private static final String GUESS_BODY = "{\"text\": \"A\"}";
+  private static final String JSON_CONTENT_TYPE = "application/json";
+  private static final String CONTENT_TYPE_HEADER = "Content-Type";
+  private static final String LOCATION_HEADER = "Location";
+
+  @Param({"platform", "reactive"})
+  private String stack;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private HttpRequest missingGame;
+  private HttpRequest solvedGuess;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, InterruptedException {
+    String profiles = stack.equals("platform") ? "service" : "service," + stack;
+    context = new SpringApplicationBuilder(CodebreakerApplication.class)
+        .run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:errors;DB_CLOSE_DELAY=-1",
+            "--reactive.r2dbc.url=r2dbc:h2:mem:///errors;DB_CLOSE_DELAY=-1",
+            "--spring.profiles.active=" + profiles,
+            "--logging.level.root=WARN"
+        );
+    Environment environment = context.getEnvironment();
+    String port = environment.getProperty("local.server.port");
+    String contextPath = environment.getProperty("spring.webflux.base-path",
+        environment.getProperty("server.servlet.context-path", ""));
+    URI games = URI.create("http://localhost:" + port + contextPath + GAMES_PATH);
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+    URI game = URI.create(client
+        .send(post(games, GAME_BODY), BodyHandlers.discarding())
+        .headers()
+        .firstValue(LOCATION_HEADER)
+        .orElseThrow());
+    client.send(post(URI.create(game + GUESSES_PATH + BATCH_PATH), SOLVING_BODY),
+        BodyHandlers.discarding());
+    missingGame = HttpRequest.newBuilder(URI.create(games + "/" + randomKey()))
+        .GET()
+        .build();
+    solvedGuess = post(URI.create(game + GUESSES_PATH), GUESS_BODY);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int notFound() throws IOException, InterruptedException {
+    return client.send(missingGame, BodyHandlers.ofString()).statusCode();
+  }
+
+  @Benchmark
+  public int conflict() throws IOException, InterruptedException {
+    return client.send(solvedGuess, BodyHandlers.ofString()).statusCode();
+  }
+
+  private static HttpRequest post(URI uri, String body) {
+    return HttpRequest.newBuilder(uri)
+        .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static String randomKey() {
+    UUID key = UUID.randomUUID();
+    byte[] bytes = ByteBuffer
+        .allocate(16)
+        .putLong(key.getMostSignificantBits())
+        .putLong(key.getLeastSignificantBits())
+        .array();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of throwing and catching a conventional {@link NoSuchElementException} with
+ * that of a {@link NotFoundException}, which doesn't capture a stack trace, when thrown from the
+ * specified call depth. (The depth of a controller method below the servlet container's request
+ * thread is typically over 100 frames.)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionSignallingBenchmark {
+
+  @Param({"10", "150"})
+  private int depth;
+
+  @Benchmark
+  public Object withStackTrace() {
+    try {
+      return descend(depth, false);
+    } catch (NoSuchElementException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object withoutStackTrace() {
+    try {
+      return descend(depth, true);
+    } catch (NoSuchElementException e) {
+      return e;
+    }
+  }
+
+  private static Object descend(int remaining, boolean stackless) {
+    if (remaining > 0) {
+      return descend(remaining - 1, stackless);
+    }
+    throw stackless ? new NotFoundException() : new NoSuchElementException();
+  }
+
+}
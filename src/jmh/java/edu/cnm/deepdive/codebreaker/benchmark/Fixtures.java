@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import edu.cnm.deepdive.codebreaker.service.GameCache;
+import edu.cnm.deepdive.codebreaker.service.GameExpiryTracker;
+import edu.cnm.deepdive.codebreaker.service.GameLocks;
+import edu.cnm.deepdive.codebreaker.service.GuessService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Shared setup helpers for the benchmarks in this package: synthetic character pools and texts,
+ * and in-memory stand-ins for the Spring Data repositories, the game cache, and the expiry tracker, so that service methods can be measured
+ * without a database.
+ */
+final class Fixtures {
+
+  private static final int BMP_BASE = 0x0100;
+  private static final int SUPPLEMENTARY_BASE = 0x1F300;
+  private static final int LOCK_STRIPES = 1024;
+  private static final long LOCK_WAIT_MILLIS = 5000;
+  private static final int MAX_ATTEMPTS = 3;
+
+  private Fixtures() {
+  }
+
+  /**
+   * Returns a pool of {@code size} distinct, defined, non-whitespace code points, drawn either from
+   * the Basic Multilingual Plane or (if {@code supplementary} is {@code true}) from a supplementary
+   * plane, so that every character is encoded as a surrogate pair.
+   */
+  static String pool(int size, boolean supplementary) {
+    int base = supplementary ? SUPPLEMENTARY_BASE : BMP_BASE;
+    int[] codePoints = IntStream
+        .range(base, base + size)
+        .toArray();
+    return new String(codePoints, 0, codePoints.length);
+  }
+
+  /**
+   * Returns {@code count} random texts of {@code length} code points, drawn from {@code pool}.
+   */
+  static String[] texts(String pool, int length, int count, Random rng) {
+    int[] poolCodePoints = pool.codePoints().toArray();
+    String[] texts = new String[count];
+    for (int i = 0; i < count; i++) {
+      int[] codePoints = IntStream
+          .generate(() -> poolCodePoints[rng.nextInt(poolCodePoints.length)])
+          .limit(length)
+          .toArray();
+      texts[i] = new String(codePoints, 0, codePoints.length);
+    }
+    return texts;
+  }
+
+  /**
+   * Returns an unsolved game with the specified pool and code text, with the generated state
+   * (primary key, external key, and creation timestamp) that a persisted game would have.
+   */
+  static Game game(String pool, String text) {
+    return new GameSnapshot(1L, UUID.randomUUID(), Instant.now(), pool, text,
+        text.codePointCount(0, text.length()), null, false, 0, null, 0)
+        .restore();
+  }
+
+  /**
+   * Returns a {@link GuessService} backed by the stand-ins in this class.
+   */
+  static GuessService guessService() {
+    MeterRegistry registry = meterRegistry();
+    return new GuessService(
+        repository(GuessRepository.class), repository(GameRepository.class), gameCache(),
+        expiryTracker(), new GameLocks(registry, LOCK_STRIPES, LOCK_WAIT_MILLIS),
+        transactionManager(), registry, MAX_ATTEMPTS);
+  }
+
+  /**
+   * Returns a stand-in for the repository interface {@code type}, in which the {@code save} and
+   * {@code saveAll} methods return their argument unchanged, {@code int}-valued (modifying query)
+   * methods report a single row updated, and all other methods throw
+   * {@link UnsupportedOperationException}.
+   */
+  static <T> T repository(Class<T> type) {
+    return type.cast(Proxy.newProxyInstance(
+        type.getClassLoader(),
+        new Class<?>[]{type},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "save", "saveAll" -> args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          case "toString" -> type.getSimpleName();
+          default -> {
+            if (method.getReturnType() == int.class) {
+              yield 1;
+            }
+            throw new UnsupportedOperationException(method.getName());
+          }
+        }
+    ));
+  }
+
+  /**
+   * Returns a stand-in for {@link GameCache} that ignores additions and updates; the games used in
+   * the benchmarks are never persisted, and so have none of the generated state that a snapshot
+   * requires.
+   */
+  static GameCache gameCache() {
+    return new GameCache(1, Duration.ZERO) {
+
+      @Override
+      public void put(Game game) {
+      }
+
+      @Override
+      public void recordGuesses(Game game, int previousGuessCount) {
+      }
+
+    };
+  }
+
+  /**
+   * Returns a stand-in for {@link GameExpiryTracker} that ignores recorded activity, for the same
+   * reason as {@link #gameCache()}.
+   */
+  static GameExpiryTracker expiryTracker() {
+    return new GameExpiryTracker(repository(GameRepository.class), 1, 1000) {
+
+      @Override
+      public void record(Game game, Date timestamp) {
+      }
+
+    };
+  }
+
+  /**
+   * Returns a stand-in for the transaction manager, in which transactions have no effect.
+   */
+  static PlatformTransactionManager transactionManager() {
+    return new PlatformTransactionManager() {
+
+      @Override
+      public TransactionStatus getTransaction(TransactionDefinition definition) {
+        return new SimpleTransactionStatus();
+      }
+
+      @Override
+      public void commit(TransactionStatus status) {
+      }
+
+      @Override
+      public void rollback(TransactionStatus status) {
+      }
+
+    };
+  }
+
+  /**
+   * Returns an in-memory {@link MeterRegistry}, so that the instrumentation of service methods is
+   * included in the measurements.
+   */
+  static MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
+
+}
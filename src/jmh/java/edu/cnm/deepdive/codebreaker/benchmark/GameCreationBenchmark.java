@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.configuration.Beans;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.service.GameService;
+import edu.cnm.deepdive.codebreaker.service.PendingGameSummaries;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link GameService#add(Game)}&mdash;pool validation and secret code generation&mdash;with
+ * a no-op save, using each of the secret generation strategies that may be configured for the
+ * service (with a {@link SecureRandom} source for the {@code shared} strategy). Games are started
+ * both from a single thread and from 64 threads concurrently, sharing one service instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameCreationBenchmark {
+
+  @Param({"4", "20"})
+  private int codeLength;
+
+  @Param({"6", "255"})
+  private int poolSize;
+
+  @Param({"false", "true"})
+  private boolean supplementary;
+
+  @Param({"shared", "per-thread"})
+  private String generator;
+
+  private GameService service;
+  private String pool;
+
+  @Setup
+  public void setup() {
+    pool = Fixtures.pool(poolSize, supplementary);
+    service = new GameService(
+        Fixtures.repository(GameRepository.class), Fixtures.gameCache(), null,
+        Fixtures.expiryTracker(), new PendingGameSummaries(),
+        new Beans().getSecretGenerator(generator, new SecureRandom()), Fixtures.meterRegistry());
+  }
+
+  @Benchmark
+  public Game add() {
+    Game game = new Game();
+    game.setPool(pool);
+    game.setLength(codeLength);
+    return service.add(game);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public Game addConcurrently() {
+    return add();
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Compares the request throughput of the service running on Tomcat's platform-thread pool with
+ * that of the service running on virtual threads (with the database connection limiter), and with
+ * that of the reactive (WebFlux and R2DBC) stack, under the same load: more concurrent clients than
+ * there are platform request threads, each repeatedly starting a game, submitting a guess, and
+ * retrieving the game. The service runs in the benchmark JVM, against an in-memory database, and is
+ * called over HTTP on the loopback interface. (For latency percentiles, run in sample-time mode,
+ * e.g. with {@code -bm sample -tu ms}.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+@Fork(1)
+public class RequestThroughputBenchmark {
+
+  private static final String GAMES_PATH = "/games";
+  private static final String GUESSES_PATH = "/guesses";
+  private static final String GAME_BODY = "{\"pool\": \"ABCDEF\", \"length\": 4}";
+  private static final String GUESS_BODY = "{\"text\": \"ABCD\"}";
+  private static final String JSON_CONTENT_TYPE = "application/json";
+  private static final String CONTENT_TYPE_HEADER = "Content-Type";
+  private static final String LOCATION_HEADER = "Location";
+
+  @Param({"platform", "virtual", "reactive"})
+  private String stack;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private URI games;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    String profiles = stack.equals("platform") ? "service" : "service," + stack;
+    context = new SpringApplicationBuilder(CodebreakerApplication.class)
+        .run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:throughput;DB_CLOSE_DELAY=-1",
+            "--reactive.r2dbc.url=r2dbc:h2:mem:///throughput;DB_CLOSE_DELAY=-1",
+            "--spring.profiles.active=" + profiles,
+            "--logging.level.root=WARN"
+        );
+    Environment environment = context.getEnvironment();
+    String port = environment.getProperty("local.server.port");
+    String contextPath = environment.getProperty("spring.webflux.base-path",
+        environment.getProperty("server.servlet.context-path", ""));
+    games = URI.create(
+        "http://localhost:" + port + contextPath + GAMES_PATH);
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int playRound() throws IOException, InterruptedException {
+    HttpResponse<Void> created = client.send(post(games, GAME_BODY), BodyHandlers.discarding());
+    URI game = URI.create(created
+        .headers()
+        .firstValue(LOCATION_HEADER)
+        .orElseThrow());
+    client.send(post(URI.create(game + GUESSES_PATH), GUESS_BODY),
+        BodyHandlers.discarding());
+    return client
+        .send(HttpRequest.newBuilder(game).GET().build(), BodyHandlers.ofString())
+        .statusCode();
+  }
+
+  private static HttpRequest post(URI uri, String body) {
+    return HttpRequest.newBuilder(uri)
+        .header(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE)
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+}
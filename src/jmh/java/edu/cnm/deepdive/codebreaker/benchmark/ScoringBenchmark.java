@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.service.GuessService;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures guess scoring, both through {@link GuessService#add(Game, Guess)} (validation, scoring,
+ * and a no-op save) and directly in the {@link CodePool} kernel, across code lengths, pool sizes,
+ * and BMP vs. supplementary code points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+  private static final int GUESS_COUNT = 64;
+
+  @Param({"1", "4", "8", "12", "20"})
+  private int codeLength;
+
+  @Param({"2", "6", "26", "64", "255"})
+  private int poolSize;
+
+  @Param({"false", "true"})
+  private boolean supplementary;
+
+  private GuessService service;
+  private Game game;
+  private Guess[] guesses;
+  private int next;
+
+  @Setup
+  public void setup() {
+    Random rng = new Random(codeLength * 1000L + poolSize);
+    String pool = Fixtures.pool(poolSize, supplementary);
+    game = Fixtures.game(pool, Fixtures.texts(pool, codeLength, 1, rng)[0]);
+    String[] texts = Fixtures.texts(pool, codeLength, GUESS_COUNT, rng);
+    guesses = new Guess[GUESS_COUNT];
+    for (int i = 0; i < GUESS_COUNT; i++) {
+      Guess guess = new Guess();
+      guess.setText(texts[i]);
+      guesses[i] = guess;
+    }
+    service = Fixtures.guessService();
+  }
+
+  @Benchmark
+  public Guess add() {
+    return service.add(game, nextGuess());
+  }
+
+  @Benchmark
+  public int score() {
+    return game
+        .getCodePool()
+        .score(game.getEncodedText(), nextGuess().getText());
+  }
+
+  private Guess nextGuess() {
+    return guesses[next++ & (GUESS_COUNT - 1)];
+  }
+
+}
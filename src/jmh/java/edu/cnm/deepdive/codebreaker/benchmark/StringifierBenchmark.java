@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.view.Base64UrlStringifier;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Base64UrlStringifier} encoding and decoding of external keys, and rejection of
+ * malformed keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringifierBenchmark {
+
+  private static final String MALFORMED = "not-a-key";
+
+  private Base64UrlStringifier stringifier;
+  private UUID key;
+  private String encoded;
+
+  @Setup
+  public void setup() {
+    stringifier = new Base64UrlStringifier(Fixtures.meterRegistry());
+    key = UUID.randomUUID();
+    encoded = stringifier.toString(key);
+  }
+
+  @Benchmark
+  public String encode() {
+    return stringifier.toString(key);
+  }
+
+  @Benchmark
+  public UUID decode() {
+    return stringifier.fromString(encoded);
+  }
+
+  @Benchmark
+  public Optional<UUID> parseMalformed() {
+    return stringifier.parse(MALFORMED);
+  }
+
+}
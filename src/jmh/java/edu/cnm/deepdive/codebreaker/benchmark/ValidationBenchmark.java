@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.service.GuessService;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures guess validation: the {@link CodePool#lengthOf(String)} membership and length check on
+ * its own, and the rejection of an invalid guess by {@link GuessService#add(Game, Guess)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({"4", "20"})
+  private int codeLength;
+
+  @Param({"6", "255"})
+  private int poolSize;
+
+  @Param({"false", "true"})
+  private boolean supplementary;
+
+  private GuessService service;
+  private Game game;
+  private CodePool codePool;
+  private String validText;
+  private Guess invalidGuess;
+
+  @Setup
+  public void setup() {
+    Random rng = new Random(codeLength * 1000L + poolSize);
+    String pool = Fixtures.pool(poolSize, supplementary);
+    game = Fixtures.game(pool, Fixtures.texts(pool, codeLength, 1, rng)[0]);
+    codePool = CodePool.of(pool);
+    validText = Fixtures.texts(pool, codeLength, 1, rng)[0];
+    invalidGuess = new Guess();
+    invalidGuess.setText(validText.substring(0, validText.length() - 1) + "!");
+    service = Fixtures.guessService();
+  }
+
+  @Benchmark
+  public int lengthOfValid() {
+    return codePool.lengthOf(validText);
+  }
+
+  @Benchmark
+  public Object addInvalid() {
+    try {
+      return service.add(game, invalidGuess);
+    } catch (InvalidPropertyException e) {
+      return e;
+    }
+  }
+
+}
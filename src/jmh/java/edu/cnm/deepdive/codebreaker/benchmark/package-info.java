@@ -0,0 +1,6 @@
+/**
+ * JMH benchmarks for the gameplay hot paths: guess scoring and validation, secret code generation,
+ * and external key encoding. These are compiled and run only with the {@code benchmarks} Maven
+ * profile.
+ */
+package edu.cnm.deepdive.codebreaker.benchmark;
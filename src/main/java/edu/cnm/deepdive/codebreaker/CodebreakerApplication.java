@@ -17,13 +17,20 @@ package edu.cnm.deepdive.codebreaker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Starts a simple RESTful service providing a generalized form of the game <a
- * href="https://en.wikipedia.org/wiki/Bulls_and_Cows">Bulls and Cows</a>.
+ * href="https://en.wikipedia.org/wiki/Bulls_and_Cows">Bulls and Cows</a>. Spring Boot's R2DBC
+ * auto-configuration is excluded (in every profile and in tests); the reactive stack configures its
+ * own R2DBC infrastructure in {@link edu.cnm.deepdive.codebreaker.configuration.ReactiveBeans}.
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {
+    R2dbcAutoConfiguration.class,
+    R2dbcTransactionManagerAutoConfiguration.class
+})
 @EnableScheduling
 public class CodebreakerApplication {
 
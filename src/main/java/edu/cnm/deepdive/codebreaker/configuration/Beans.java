@@ -15,10 +15,24 @@
  */
 package edu.cnm.deepdive.codebreaker.configuration;
 
+import com.zaxxer.hikari.HikariDataSource;
+import edu.cnm.deepdive.codebreaker.service.ExternalKeyGenerator;
+import edu.cnm.deepdive.codebreaker.service.PerThreadSecretGenerator;
+import edu.cnm.deepdive.codebreaker.service.SecretGenerator;
+import edu.cnm.deepdive.codebreaker.service.SharedSecretGenerator;
+import edu.cnm.deepdive.codebreaker.service.TimeOrderedKeyGenerator;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Utility class providing {@link Bean}-annotated methods to satisfy dependencies (declared in
@@ -27,6 +41,12 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class Beans {
 
+  private static final String UNKNOWN_GENERATOR_FORMAT = "Unknown external key generator: %s";
+  private static final String UNKNOWN_SECRET_GENERATOR_FORMAT = "Unknown secret generator: %s";
+  private static final int DEFAULT_CONCURRENCY_LIMIT = 8;
+  private static final int DEFAULT_RESERVED_CONNECTIONS = 2;
+  private static final long DEFAULT_PERMIT_TIMEOUT = 30_000;
+
   /**
    * Returns an instance of {@link Random} (or a subclass), which may be used by Spring to satisfy
    * an explicit bean request or a dependency declared by a Spring component.
@@ -39,4 +59,86 @@ public class Beans {
     return new SecureRandom();
   }
 
+  /**
+   * Returns the {@link ExternalKeyGenerator} selected by the {@code external-key.generator}
+   * application property: {@code time-ordered} (the default) for RFC 9562 UUIDv7 keys, or
+   * {@code random} for UUIDv4 keys drawn from the shared {@link SecureRandom} of {@link
+   * UUID#randomUUID()}.
+   *
+   * @param generator Name of the key generation strategy.
+   * @return (See above.)
+   */
+  @Bean
+  public ExternalKeyGenerator getExternalKeyGenerator(
+      @Value("${external-key.generator:time-ordered}") String generator) {
+    return switch (generator) {
+      case "time-ordered" -> new TimeOrderedKeyGenerator();
+      case "random" -> UUID::randomUUID;
+      default -> throw new IllegalArgumentException(
+          String.format(UNKNOWN_GENERATOR_FORMAT, generator));
+    };
+  }
+
+  /**
+   * Returns the {@link SecretGenerator} selected by the {@code secret.generator} application
+   * property: {@code per-thread} (the default) for codes drawn from a buffered, periodically
+   * reseeded generator confined to the calling thread, or {@code shared} for codes drawn from the
+   * {@link Random} bean, shared by all threads.
+   *
+   * @param generator Name of the code generation strategy.
+   * @param rng       Source of randomness for the {@code shared} strategy.
+   * @return (See above.)
+   */
+  @Bean
+  public SecretGenerator getSecretGenerator(
+      @Value("${secret.generator:per-thread}") String generator, Random rng) {
+    return switch (generator) {
+      case "per-thread" -> new PerThreadSecretGenerator();
+      case "shared" -> new SharedSecretGenerator(rng);
+      default -> throw new IllegalArgumentException(
+          String.format(UNKNOWN_SECRET_GENERATOR_FORMAT, generator));
+    };
+  }
+
+  /**
+   * Returns a {@link BeanPostProcessor} that wraps the application {@link DataSource} in a
+   * {@link ConcurrencyLimitedDataSource}, limiting the connections concurrently obtained while
+   * handling web requests. This is only used when request handlers and scheduled tasks run on
+   * virtual threads (i.e. when the {@code spring.threads.virtual.enabled} application property is
+   * {@code true}). By default, the limit is the maximum size of the connection pool, less
+   * {@code datasource.reserved-connections}, so that those connections remain available to
+   * scheduled tasks and background writers, which aren't limited.
+   *
+   * @param environment Source of the {@code datasource.concurrency-limit} (maximum number of
+   *                    connections concurrently obtained by request handlers),
+   *                    {@code datasource.reserved-connections} (number of pooled connections
+   *                    withheld from request handlers, if no limit is set), and
+   *                    {@code datasource.permit-timeout} (maximum wait, in milliseconds, for a
+   *                    connection permit) properties.
+   * @return (See above.)
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public static BeanPostProcessor getDataSourceLimiter(Environment environment) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof ConcurrencyLimitedDataSource)) {
+          int reserved = environment.getProperty("datasource.reserved-connections",
+              Integer.class, DEFAULT_RESERVED_CONNECTIONS);
+          int defaultLimit = (dataSource instanceof HikariDataSource hikari)
+              ? Math.max(1, hikari.getMaximumPoolSize() - reserved)
+              : DEFAULT_CONCURRENCY_LIMIT;
+          return new ConcurrencyLimitedDataSource(dataSource,
+              environment.getProperty("datasource.concurrency-limit", Integer.class, defaultLimit),
+              environment.getProperty("datasource.permit-timeout", Long.class,
+                  DEFAULT_PERMIT_TIMEOUT),
+              () -> RequestContextHolder.getRequestAttributes() != null);
+        }
+        return bean;
+      }
+    };
+  }
+
 }
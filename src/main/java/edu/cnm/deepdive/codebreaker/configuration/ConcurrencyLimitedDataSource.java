@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Limits the number of connections concurrently obtained from a {@link DataSource} (typically a
+ * connection pool) by a class of callers (e.g. request handlers) with a fair {@link Semaphore}.
+ * When requests run on virtual threads, there may be thousands of them waiting for connections;
+ * with a limit below the size of the pool, they queue on the semaphore (which parks a virtual
+ * thread without pinning its carrier), while the remaining connections stay available to callers
+ * not subject to the limit (e.g. scheduled maintenance tasks and background writers), which would
+ * otherwise wait behind them in the pool's own queue. For a limited caller, a permit is acquired
+ * before a connection is obtained, and released when the connection is closed (i.e. returned to
+ * the pool); other callers obtain connections directly from the pool.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private static final String TIMEOUT_FORMAT =
+      "No database connection permit available within %d ms";
+  private static final String CLOSE_METHOD = "close";
+  private static final String EQUALS_METHOD = "equals";
+  private static final String HASH_CODE_METHOD = "hashCode";
+
+  private final Semaphore permits;
+  private final long timeoutMillis;
+  private final BooleanSupplier limited;
+
+  /**
+   * Initializes this instance with the {@link DataSource} to which connection requests are
+   * delegated, the limits applied to those requests, and the test selecting the callers subject to
+   * those limits.
+   *
+   * @param target        {@link DataSource} providing connections.
+   * @param limit         Maximum number of connections concurrently obtained by limited callers.
+   * @param timeoutMillis Maximum time to wait for a permit, in milliseconds.
+   * @param limited       Test, evaluated on the calling thread, of whether a connection request is
+   *                      subject to the limit.
+   */
+  public ConcurrencyLimitedDataSource(
+      DataSource target, int limit, long timeoutMillis, BooleanSupplier limited) {
+    super(target);
+    permits = new Semaphore(limit, true);
+    this.timeoutMillis = timeoutMillis;
+    this.limited = limited;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!limited.getAsBoolean()) {
+      return obtainTargetDataSource().getConnection();
+    }
+    acquire();
+    return limited(obtainTargetDataSource()::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (!limited.getAsBoolean()) {
+      return obtainTargetDataSource().getConnection(username, password);
+    }
+    acquire();
+    return limited(() -> obtainTargetDataSource().getConnection(username, password));
+  }
+
+  /**
+   * Returns the number of connections that may currently be obtained by limited callers without
+   * waiting.
+   *
+   * @return (See above.)
+   */
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(String.format(TIMEOUT_FORMAT, timeoutMillis));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException(e);
+    }
+  }
+
+  private Connection limited(ConnectionSupplier supplier) throws SQLException {
+    Connection connection;
+    try {
+      connection = supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case EQUALS_METHOD:
+              return proxy == args[0];
+            case HASH_CODE_METHOD:
+              return System.identityHashCode(proxy);
+            default:
+              break;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          } finally {
+            if (method.getName().equals(CLOSE_METHOD) && released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+        }
+    );
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+
+    Connection get() throws SQLException;
+
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Provides the R2DBC infrastructure used by the reactive API stack, which is active only when the
+ * application runs as a reactive web application (i.e. with the {@code reactive} profile). Spring
+ * Boot's own R2DBC auto-configuration is excluded, since its transaction manager would conflict
+ * with the JPA transaction manager (still used by the scheduled maintenance tasks); instead, the
+ * {@link R2dbcTransactionManager} created here is exposed only through a
+ * {@link TransactionalOperator}.
+ * <p>
+ * Since the R2DBC {@link ConnectionFactory} defined here switches off Spring Boot's
+ * {@link DataSourceAutoConfiguration}, the JDBC {@link DataSource} (needed by JPA, and thus by the
+ * scheduled maintenance tasks and expiry tracking) is defined here as well, from the same
+ * {@code spring.datasource} properties used by the auto-configuration.
+ * </p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveBeans {
+
+  /**
+   * Returns a pooled JDBC {@link DataSource}, configured (as by
+   * {@link DataSourceAutoConfiguration}) by the {@code spring.datasource} properties.
+   *
+   * @param properties JDBC connection properties.
+   * @return (See above.)
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource getDataSource(DataSourceProperties properties) {
+    return properties
+        .initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+  }
+
+  /**
+   * Returns a pooled R2DBC {@link ConnectionFactory}, connected to the database specified by the
+   * {@code reactive.r2dbc.url} property. Unless that URL specifies them, the user name and password
+   * are those used by the JDBC {@link DataSource}, so that both connect to the same database alike.
+   *
+   * @param properties  JDBC connection properties.
+   * @param url         R2DBC URL of the database (normally the same database used via JPA).
+   * @param maxPoolSize Maximum number of pooled connections.
+   * @return (See above.)
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool getConnectionFactory(DataSourceProperties properties,
+      @Value("${reactive.r2dbc.url}") String url,
+      @Value("${reactive.r2dbc.max-pool-size:20}") int maxPoolSize) {
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url);
+    ConnectionFactoryOptions.Builder builder = options.mutate();
+    String username = properties.determineUsername();
+    if (!options.hasOption(ConnectionFactoryOptions.USER) && username != null) {
+      builder.option(ConnectionFactoryOptions.USER, username);
+    }
+    String password = properties.determinePassword();
+    if (!options.hasOption(ConnectionFactoryOptions.PASSWORD) && password != null) {
+      builder.option(ConnectionFactoryOptions.PASSWORD, password);
+    }
+    return new ConnectionPool(
+        ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(builder.build()))
+            .initialSize(0)
+            .maxSize(maxPoolSize)
+            .build()
+    );
+  }
+
+  /**
+   * Returns a {@link DatabaseClient} executing SQL statements on connections obtained from
+   * {@code connectionFactory}.
+   *
+   * @param connectionFactory Source of R2DBC connections.
+   * @return (See above.)
+   */
+  @Bean
+  public DatabaseClient getDatabaseClient(ConnectionFactory connectionFactory) {
+    return DatabaseClient.create(connectionFactory);
+  }
+
+  /**
+   * Returns a {@link TransactionalOperator} demarcating transactions on connections obtained from
+   * {@code connectionFactory}.
+   *
+   * @param connectionFactory Source of R2DBC connections.
+   * @return (See above.)
+   */
+  @Bean
+  public TransactionalOperator getTransactionalOperator(ConnectionFactory connectionFactory) {
+    return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+  }
+
+}
@@ -19,17 +19,25 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.view.UUIDStringifier.DecodeException;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 /**
  * Defines several mappings of exception types (thrown by the methods in {@link GameController} and
@@ -38,9 +46,12 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  */
 @SuppressWarnings("unused")
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class CodebreakerExceptionHandler {
 
   private static final String ALREADY_SOLVED_MESSAGE = "Already solved";
+  private static final String SERVICE_BUSY_MESSAGE = "Service busy";
+  private static final String CONCURRENT_MODIFICATION_MESSAGE = "Modified concurrently";
   private static final String NOT_FOUND_MESSAGE = "Not found";
   private static final String VALIDATION_FAILURE_MESSAGE = "Validation failure";
   private static final String ILLEGAL_ARGUMENT_MESSAGE = "Invalid request content";
@@ -67,6 +78,26 @@ public class CodebreakerExceptionHandler {
   public void handleAlreadySolved() {
   }
 
+  /**
+   * Maps {@link OptimisticLockingFailureException} (thrown when a game is changed concurrently, on
+   * this or another service node, while it is being modified) to the HTTP 409 (conflict) response
+   * status.
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseStatus(value = HttpStatus.CONFLICT, reason = CONCURRENT_MODIFICATION_MESSAGE)
+  public void handleConcurrentModification() {
+  }
+
+  /**
+   * Maps {@link ServiceBusyException} (thrown when a submission can't be accepted for persistence,
+   * or can't obtain the lock of its game, within the configured time) to the HTTP 503 (service
+   * unavailable) response status.
+   */
+  @ExceptionHandler(ServiceBusyException.class)
+  @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = SERVICE_BUSY_MESSAGE)
+  public void handleServiceBusy() {
+  }
+
   /**
    * Maps {@link MethodArgumentNotValidException} (thrown when one of the {@link jakarta.validation}
    * conditions, declared on fields of {@link Game} and
@@ -86,11 +117,32 @@ public class CodebreakerExceptionHandler {
     return new DetailedExceptionResponse(
         HttpStatus.BAD_REQUEST,
         VALIDATION_FAILURE_MESSAGE,
-        ex.getBindingResult()
-            .getAllErrors()
-            .stream()
-            .collect(Collectors.toMap((error) -> ((FieldError) error).getField(),
-                ObjectError::getDefaultMessage)),
+        fieldErrorDetails(ex.getBindingResult()),
+        request
+    );
+  }
+
+  /**
+   * Maps {@link HandlerMethodValidationException} (thrown when one of the {@link
+   * jakarta.validation} conditions declared on a controller method parameter&mdash;or on the
+   * elements of a collection-valued parameter, such as a batch of guesses&mdash;fails) to the HTTP
+   * 400 (bad request) response status, then constructs and returns a response body with details on
+   * the failure. Failures of collection elements are keyed by element index and property name
+   * (e.g. {@code [1].text}); other failures are keyed by parameter name.
+   *
+   * @param ex      {@link HandlerMethodValidationException} thrown by one of the {@link
+   *                jakarta.validation} conditions.
+   * @param request {@link HttpServletRequest} containing the request that failed validation.
+   * @return {@link DetailedExceptionResponse} with details extracted from {@code ex}.
+   */
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public DetailedExceptionResponse handleMethodValidationFailure(
+      HandlerMethodValidationException ex, HttpServletRequest request) {
+    return new DetailedExceptionResponse(
+        HttpStatus.BAD_REQUEST,
+        VALIDATION_FAILURE_MESSAGE,
+        parameterErrorDetails(ex),
         request
     );
   }
@@ -151,13 +203,72 @@ public class CodebreakerExceptionHandler {
   public void handleIllegalArgument() {
   }
 
+  static Map<String, String> fieldErrorDetails(BindingResult bindingResult) {
+    return bindingResult
+        .getAllErrors()
+        .stream()
+        .collect(Collectors.toMap((error) -> ((FieldError) error).getField(),
+            ObjectError::getDefaultMessage));
+  }
+
+  static Map<String, String> parameterErrorDetails(HandlerMethodValidationException ex) {
+    Map<String, String> details = new LinkedHashMap<>();
+    for (ParameterValidationResult result : ex.getAllValidationResults()) {
+      if (result instanceof ParameterErrors errors) {
+        String prefix = (errors.getContainerIndex() != null)
+            ? "[" + errors.getContainerIndex() + "]."
+            : "";
+        errors
+            .getFieldErrors()
+            .forEach((error) ->
+                details.putIfAbsent(prefix + error.getField(), error.getDefaultMessage()));
+      } else {
+        result
+            .getResolvableErrors()
+            .forEach((error) -> details.putIfAbsent(
+                result.getMethodParameter().getParameterName(), error.getDefaultMessage()));
+      }
+    }
+    return details;
+  }
+
+  /**
+   * Defines a subclass of {@link NoSuchElementException}, for use when a request refers to a
+   * {@link Game} or {@link edu.cnm.deepdive.codebreaker.model.entity.Guess} that does not exist.
+   * Since this is an expected outcome, mapped directly to a response status, instances of this
+   * class do not capture a stack trace.
+   */
+  public static class NotFoundException extends NoSuchElementException {
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+  }
+
   /**
    * Defines a subclass of {@link IllegalStateException}, for use when a {@link
    * edu.cnm.deepdive.codebreaker.model.entity.Guess} is submitted for a {@link Game} that is
-   * already solved.
+   * already solved. As with {@link NotFoundException}, instances of this class do not capture a
+   * stack trace.
    */
   public static class AlreadySolvedException extends IllegalStateException {
 
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+  }
+
+  /**
+   * Defines a subclass of {@link IllegalStateException}, for use when a submission is rejected
+   * because the queue of submissions awaiting persistence is full, or because the lock of its game
+   * can't be obtained in time.
+   */
+  public static class ServiceBusyException extends IllegalStateException {
+
   }
 
   /**
@@ -214,11 +325,24 @@ public class CodebreakerExceptionHandler {
      */
     public DetailedExceptionResponse(HttpStatus status, String message, Map<String, String> details,
         HttpServletRequest request) {
+      this(status, message, details, request.getRequestURI());
+    }
+
+    /**
+     * Initializes this error payload object with the specified properties.
+     *
+     * @param status  {@link HttpStatus} containing the error code.
+     * @param message General error text.
+     * @param details Request-specific properties.
+     * @param path    Path of the request from which exception was thrown.
+     */
+    public DetailedExceptionResponse(HttpStatus status, String message, Map<String, String> details,
+        String path) {
       timestamp = new Date();
       this.status = status.value();
       this.message = message;
       error = status.getReasonPhrase();
-      path = request.getRequestURI();
+      this.path = path;
       this.details = details;
     }
 
@@ -16,16 +16,21 @@
 package edu.cnm.deepdive.codebreaker.controller;
 
 import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.model.entity.Guess;
 import edu.cnm.deepdive.codebreaker.service.AbstractGameService;
+import edu.cnm.deepdive.codebreaker.service.AbstractGuessService;
 import edu.cnm.deepdive.codebreaker.service.GameService;
+import edu.cnm.deepdive.codebreaker.service.GuessService;
 import java.net.URI;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.hateoas.server.ExposesResourceFor;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -44,20 +49,31 @@ import org.springframework.web.bind.annotation.RestController;
  * are handled by {@link GuessController}.)
  */
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping(PathComponents.GAMES_PATH)
 @ExposesResourceFor(Game.class)
 @CrossOrigin({"http://localhost:4200"})
 public class GameController {
 
+  private static final int RECENT_GUESS_LIMIT = 10;
+
   private final AbstractGameService gameService;
+  private final AbstractGuessService guessService;
+  private final LinkFactory linkFactory;
 
   /**
-   * Initializes this instance with a {@link GameService}.
+   * Initializes this instance with a {@link GameService}, {@link GuessService}, and
+   * {@link LinkFactory}.
    *
-   * @param gameService Provider of high-level {@link Game}-related operations.
+   * @param gameService  Provider of high-level {@link Game}-related operations.
+   * @param guessService Provider of high-level {@link Guess}-related operations.
+   * @param linkFactory  Builder of resource URIs.
    */
-  public GameController(AbstractGameService gameService) {
+  public GameController(AbstractGameService gameService, AbstractGuessService guessService,
+      LinkFactory linkFactory) {
     this.gameService = gameService;
+    this.guessService = guessService;
+    this.linkFactory = linkFactory;
   }
 
   /**
@@ -65,7 +81,9 @@ public class GameController {
    * text), thereby starting a new game. Minimally, {@code game} must include the {@code pool} and
    * {@code length} properties; otherwise, the secret text of the code can't be generated.
    *
-   * @param game {@link Game} specifying the character pool and length of the code to be generated.
+   * @param game    {@link Game} specifying the character pool and length of the code to be
+   *                generated.
+   * @param request Current request, providing the base URI of the new game's location.
    * @return Validated, completed, and persisted {@link Game} instance. validation for data model
    * integrity.
    * @throws InvalidPropertyException If the {@code game} properties fail high-level validation
@@ -73,23 +91,19 @@ public class GameController {
    */
   @PostMapping(
       consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<Game> post(@Valid @RequestBody Game game)
+  public ResponseEntity<Game> post(@Valid @RequestBody Game game, HttpServletRequest request)
       throws InvalidPropertyException {
     game = gameService.add(game);
-    URI location = WebMvcLinkBuilder
-        .linkTo(
-            WebMvcLinkBuilder
-                .methodOn(GameController.class)
-                .get(game.getExternalKey())
-        )
-        .toUri();
+    URI location = linkFactory.game(request, game.getExternalKey());
     return ResponseEntity
         .created(location)
         .body(game);
   }
 
   /**
-   * Returns the single {@link Game} matching the specified {@code gameId}, if it exists.
+   * Returns the single {@link Game} matching the specified {@code gameId}, if it exists. The
+   * returned representation includes only the most recent guesses submitted in the game; the
+   * complete history is available (in pages) from {@link GuessController}.
    *
    * @param gameId Unique identifier of {@link Game} to be retrieved.
    * @return {@link Game} referenced by {@code gameId}.
@@ -100,7 +114,11 @@ public class GameController {
   public Game get(@PathVariable UUID gameId) throws NoSuchElementException {
     return gameService
         .get(gameId)
-        .orElseThrow();
+        .map((game) -> {
+          game.setRecentGuesses(guessService.recent(game, RECENT_GUESS_LIMIT));
+          return game;
+        })
+        .orElseThrow(NotFoundException::new);
   }
 
   /**
@@ -117,7 +135,7 @@ public class GameController {
         .ifPresentOrElse(
             gameService::remove,
             () -> {
-              throw new NoSuchElementException();
+              throw new NotFoundException();
             }
         );
   }
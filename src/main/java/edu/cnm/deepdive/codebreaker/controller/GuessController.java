@@ -16,6 +16,7 @@
 package edu.cnm.deepdive.codebreaker.controller;
 
 import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.model.entity.Guess;
 import edu.cnm.deepdive.codebreaker.service.AbstractGameService;
@@ -23,12 +24,19 @@ import edu.cnm.deepdive.codebreaker.service.AbstractGuessService;
 import edu.cnm.deepdive.codebreaker.service.GameService;
 import edu.cnm.deepdive.codebreaker.service.GuessService;
 import java.net.URI;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.hateoas.server.ExposesResourceFor;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -37,6 +45,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -45,48 +55,67 @@ import org.springframework.web.bind.annotation.RestController;
  * components and path variables to reference an instance of {@link Game}.
  */
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping(PathComponents.GUESSES_PATH)
 @ExposesResourceFor(Guess.class)
 @CrossOrigin({"http://localhost:4200"})
 public class GuessController {
 
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final String DEFAULT_PAGE_SIZE = "100";
+
   private final AbstractGameService gameService;
   private final AbstractGuessService guessService;
+  private final LinkFactory linkFactory;
 
   /**
-   * Initializes this instance with a {@link GameService} and {@link GuessService}.
+   * Initializes this instance with a {@link GameService}, {@link GuessService}, and
+   * {@link LinkFactory}.
    *
    * @param gameService  Provider of high-level {@link Game}-related operations.
    * @param guessService Provider of high-level {@link Guess}-related operations.
+   * @param linkFactory  Builder of resource URIs.
    */
   @Autowired
-  public GuessController(AbstractGameService gameService, AbstractGuessService guessService) {
+  public GuessController(AbstractGameService gameService, AbstractGuessService guessService,
+      LinkFactory linkFactory) {
     this.gameService = gameService;
     this.guessService = guessService;
+    this.linkFactory = linkFactory;
   }
 
   /**
-   * Returns all {@link Guess} instances associated with the specified {@link Game}.
+   * Returns a page of the {@link Guess} instances associated with the specified {@link Game}, in
+   * order of submission. Pages are selected by keyset: the first page is returned if {@code after}
+   * is omitted; the next page is requested by passing the identifier of the last guess in the
+   * current page as {@code after}.
    *
    * @param gameId Unique identifier of code.
-   * @return All guesses submitted against the specified {@link Game}, in descending order by
-   * submission timestamp.
-   * @throws NoSuchElementException If {@code gameId} does not refer to a known {@link Game}.
+   * @param after  Unique identifier of the last guess in the previous page (if any).
+   * @param limit  Maximum number of guesses to return.
+   * @return Page of guesses submitted against the specified {@link Game}, in ascending order of
+   * submission.
+   * @throws NoSuchElementException If {@code gameId} does not refer to a known {@link Game}, or
+   *                                {@code after} does not refer to a guess in that game.
    */
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-  public Iterable<Guess> list(@PathVariable UUID gameId)
+  public List<Guess> list(@PathVariable UUID gameId,
+      @RequestParam(required = false) UUID after,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int limit)
       throws NoSuchElementException {
     return gameService
         .get(gameId)
-        .map(Game::getGuesses)
-        .orElseThrow();
+        .map((game) -> guessService.list(game, after, limit))
+        .orElseThrow(NotFoundException::new);
   }
 
   /**
    * Adds the specified {@link Guess} to the referenced {@link Game game}'s collection of guesses.
    *
-   * @param gameId Unique identifier of game.
-   * @param guess  {@link Guess} submitted against {@link Game} referenced by {@code gameId}.
+   * @param gameId  Unique identifier of game.
+   * @param guess   {@link Guess} submitted against {@link Game} referenced by {@code gameId}.
+   * @param request Current request, providing the base URI of the new guess's location.
    * @return Validated and persisted {@link Guess} instance.
    * @throws NoSuchElementException          If {@code gameId} does not refer to a known {@link
    *                                         Game}.
@@ -96,24 +125,45 @@ public class GuessController {
   @PostMapping(
       consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Guess> post(
-      @PathVariable UUID gameId, @Valid @RequestBody Guess guess)
+      @PathVariable UUID gameId, @Valid @RequestBody Guess guess, HttpServletRequest request)
       throws NoSuchElementException, InvalidPropertyException {
     return gameService
         .get(gameId)
         .map((game) -> guessService.add(game, guess))
         .map((g) -> {
-          URI location = WebMvcLinkBuilder
-              .linkTo(
-                  WebMvcLinkBuilder
-                      .methodOn(GuessController.class)
-                      .get(gameId, guess.getExternalKey())
-              )
-              .toUri();
+          URI location = linkFactory.guess(request, gameId, g.getExternalKey());
           return ResponseEntity
               .created(location)
               .body(g);
         })
-        .orElseThrow();
+        .orElseThrow(NotFoundException::new);
+  }
+
+  /**
+   * Adds the specified {@link Guess} instances, in order, to the referenced {@link Game game}'s
+   * collection of guesses, stopping at the first guess that matches the code exactly. Any guesses
+   * following that one are ignored. If any of the processed guesses fails validation, none are
+   * added.
+   *
+   * @param gameId  Unique identifier of game.
+   * @param guesses {@link Guess} instances submitted against {@link Game} referenced by
+   *                {@code gameId}, in order of submission.
+   * @return Validated and persisted {@link Guess} instances, in order of submission.
+   * @throws NoSuchElementException          If {@code gameId} does not refer to a known {@link
+   *                                         Game}.
+   * @throws InvalidPropertyException        If the properties of any processed guess fail
+   *                                         high-level validation against business rules.
+   */
+  @PostMapping(value = PathComponents.BATCH_COMPONENT,
+      consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  @ResponseStatus(HttpStatus.CREATED)
+  public List<Guess> postBatch(@PathVariable UUID gameId,
+      @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid Guess> guesses)
+      throws NoSuchElementException, InvalidPropertyException {
+    return gameService
+        .get(gameId)
+        .map((game) -> guessService.addAll(game, guesses))
+        .orElseThrow(NotFoundException::new);
   }
 
   /**
@@ -135,7 +185,7 @@ public class GuessController {
     return gameService
         .get(gameId)
         .flatMap((game) -> guessService.get(game, guessId))
-        .orElseThrow();
+        .orElseThrow(NotFoundException::new);
   }
 
 }
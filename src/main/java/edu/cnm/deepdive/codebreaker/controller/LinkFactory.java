@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the URIs of single {@link Game} and {@link Guess} resources (as returned in the
+ * {@code Location} header of a {@code POST} response), without the controller proxies and
+ * reflective mapping lookups of {@link org.springframework.hateoas.server.mvc.WebMvcLinkBuilder}.
+ * The path templates of {@link PathComponents} are parsed once, when this instance is created;
+ * each URI is then assembled by concatenating the base URI of the current request, the literal
+ * parts of the template, and the external keys of the referenced resources.
+ * <p>The base URI is composed from the scheme, server name, port, and context path of the request,
+ * following the same rules as
+ * {@link org.springframework.web.servlet.support.ServletUriComponentsBuilder#fromContextPath}
+ * (which is used by {@code WebMvcLinkBuilder}), so the URIs are identical to those previously
+ * produced. Forwarded headers are honored according to {@code server.forward-headers-strategy}:
+ * with the {@code native} strategy, the servlet container applies them to the request before it
+ * reaches the controller; with the {@code framework} strategy, the request is wrapped by
+ * {@link org.springframework.web.filter.ForwardedHeaderFilter}. Either way, the values read from
+ * the request already reflect them.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class LinkFactory {
+
+  private static final String HTTP_SCHEME = "http";
+  private static final String HTTPS_SCHEME = "https";
+  private static final int HTTP_DEFAULT_PORT = 80;
+  private static final int HTTPS_DEFAULT_PORT = 443;
+  private static final int UNSPECIFIED_PORT = -1;
+  private static final int INITIAL_CAPACITY = 128;
+
+  private final UUIDStringifier stringifier;
+  private final PathTemplate gameTemplate;
+  private final PathTemplate guessTemplate;
+
+  /**
+   * Initializes this instance with the {@link UUIDStringifier} used to render external keys in
+   * path components, and parses the path templates of single games and guesses.
+   *
+   * @param stringifier Converter of {@link UUID} values to external keys.
+   */
+  @Autowired
+  public LinkFactory(UUIDStringifier stringifier) {
+    this.stringifier = stringifier;
+    gameTemplate = PathTemplate.parse(PathComponents.GAMES_PATH + PathComponents.GAME_ID_COMPONENT);
+    guessTemplate =
+        PathTemplate.parse(PathComponents.GUESSES_PATH + PathComponents.GUESS_ID_COMPONENT);
+  }
+
+  /**
+   * Returns the URI of the {@link Game} with the specified external key, relative to the base URI
+   * of {@code request}.
+   *
+   * @param request Current request.
+   * @param gameId  External key of game.
+   * @return (See above.)
+   */
+  public URI game(HttpServletRequest request, UUID gameId) {
+    return URI.create(gameTemplate.expand(base(request), stringifier.toString(gameId)));
+  }
+
+  /**
+   * Returns the URI of the {@link Guess} with the specified external key, submitted against the
+   * {@link Game} with the specified external key, relative to the base URI of {@code request}.
+   *
+   * @param request Current request.
+   * @param gameId  External key of game.
+   * @param guessId External key of guess.
+   * @return (See above.)
+   */
+  public URI guess(HttpServletRequest request, UUID gameId, UUID guessId) {
+    return URI.create(guessTemplate.expand(
+        base(request), stringifier.toString(gameId), stringifier.toString(guessId)));
+  }
+
+  private static StringBuilder base(HttpServletRequest request) {
+    String scheme = request.getScheme();
+    int port = request.getServerPort();
+    StringBuilder builder = new StringBuilder(INITIAL_CAPACITY)
+        .append(scheme)
+        .append("://")
+        .append(request.getServerName());
+    if (((HTTP_SCHEME.equals(scheme) && port != HTTP_DEFAULT_PORT)
+        || (HTTPS_SCHEME.equals(scheme) && port != HTTPS_DEFAULT_PORT))
+        && port != UNSPECIFIED_PORT) {
+      builder
+          .append(':')
+          .append(port);
+    }
+    return builder.append(request.getContextPath());
+  }
+
+  /**
+   * Path template, reduced to the literal text between its variables. Since external keys consist
+   * only of URL-safe characters, variable values are inserted without encoding; any regular
+   * expression constraining a variable (which may itself contain braces) is discarded.
+   */
+  private static final class PathTemplate {
+
+    private final String[] literals;
+
+    private PathTemplate(String[] literals) {
+      this.literals = literals;
+    }
+
+    static PathTemplate parse(String template) {
+      List<String> literals = new ArrayList<>();
+      StringBuilder literal = new StringBuilder();
+      int depth = 0;
+      for (char c : template.toCharArray()) {
+        if (c == '{') {
+          if (depth++ == 0) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+          }
+        } else if (c == '}') {
+          depth--;
+        } else if (depth == 0) {
+          literal.append(c);
+        }
+      }
+      literals.add(literal.toString());
+      return new PathTemplate(literals.toArray(String[]::new));
+    }
+
+    String expand(StringBuilder builder, String... values) {
+      if (values.length != literals.length - 1) {
+        throw new IllegalArgumentException();
+      }
+      builder.append(literals[0]);
+      for (int i = 0; i < values.length; i++) {
+        builder
+            .append(values[i])
+            .append(literals[i + 1]);
+      }
+      return builder.toString();
+    }
+
+  }
+
+}
@@ -24,5 +24,6 @@ class PathComponents {
   static final String GUESSES_COMPONENT = "/guesses";
   static final String GUESSES_PATH = GAMES_COMPONENT + GAME_ID_COMPONENT + GUESSES_COMPONENT;
   static final String GUESS_ID_COMPONENT = "/{guessId:" + ID_PATTERN +  "}";
+  static final String BATCH_COMPONENT = "/batch";
 
 }
@@ -0,0 +1,204 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.DetailedExceptionResponse;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier.DecodeException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CodebreakerExceptionHandler}, mapping the exceptions raised by
+ * {@link ReactiveGameController} and {@link ReactiveGuessController} to the same HTTP response
+ * statuses and bodies. Responses without details are produced by re-raising the exception as a
+ * {@link ResponseStatusException}, so that they are rendered (like their servlet counterparts) by
+ * Spring Boot's default error handling.
+ */
+@SuppressWarnings("unused")
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+  private static final String ALREADY_SOLVED_MESSAGE = "Already solved";
+  private static final String CONCURRENT_MODIFICATION_MESSAGE = "Modified concurrently";
+  private static final String NOT_FOUND_MESSAGE = "Not found";
+  private static final String VALIDATION_FAILURE_MESSAGE = "Validation failure";
+  private static final String ILLEGAL_ARGUMENT_MESSAGE = "Invalid request content";
+  private static final String LENGTH_PROPERTY = "length";
+  private static final String INVALID_LENGTH_MESSAGE = "must be an integer";
+
+  /**
+   * Maps instances of {@link NoSuchElementException} and {@link DecodeException} to the HTTP 404
+   * (not found) response status.
+   *
+   * @return {@link Mono} emitting the corresponding {@link ResponseStatusException}.
+   */
+  @ExceptionHandler({NoSuchElementException.class, DecodeException.class})
+  public Mono<Void> handleNotFound() {
+    return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, NOT_FOUND_MESSAGE));
+  }
+
+  /**
+   * Maps {@link AlreadySolvedException} to the HTTP 409 (conflict) response status.
+   *
+   * @return {@link Mono} emitting the corresponding {@link ResponseStatusException}.
+   */
+  @ExceptionHandler(AlreadySolvedException.class)
+  public Mono<Void> handleAlreadySolved() {
+    return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT, ALREADY_SOLVED_MESSAGE));
+  }
+
+  /**
+   * Maps {@link OptimisticLockingFailureException} (thrown when a game is changed concurrently, on
+   * this or another service node, while it is being modified) to the HTTP 409 (conflict) response
+   * status.
+   *
+   * @return {@link Mono} emitting the corresponding {@link ResponseStatusException}.
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public Mono<Void> handleConcurrentModification() {
+    return Mono.error(
+        new ResponseStatusException(HttpStatus.CONFLICT, CONCURRENT_MODIFICATION_MESSAGE));
+  }
+
+  /**
+   * Maps {@link WebExchangeBindException} (thrown when one of the {@link jakarta.validation}
+   * conditions declared on fields of a request body fails) to the HTTP 400 (bad request) response
+   * status, with details on the failure.
+   *
+   * @param ex      {@link WebExchangeBindException} thrown by one of the {@link
+   *                jakarta.validation} conditions.
+   * @param request {@link ServerHttpRequest} containing the request that failed validation.
+   * @return {@link DetailedExceptionResponse} with details extracted from {@code ex}.
+   */
+  @ExceptionHandler(WebExchangeBindException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public DetailedExceptionResponse handleGeneralValidationFailure(
+      WebExchangeBindException ex, ServerHttpRequest request) {
+    return new DetailedExceptionResponse(
+        HttpStatus.BAD_REQUEST,
+        VALIDATION_FAILURE_MESSAGE,
+        CodebreakerExceptionHandler.fieldErrorDetails(ex.getBindingResult()),
+        request.getPath().value()
+    );
+  }
+
+  /**
+   * Maps {@link HandlerMethodValidationException} to the HTTP 400 (bad request) response status,
+   * with details on the failure, keyed as described for
+   * {@link CodebreakerExceptionHandler#handleMethodValidationFailure}.
+   *
+   * @param ex      {@link HandlerMethodValidationException} thrown by one of the {@link
+   *                jakarta.validation} conditions.
+   * @param request {@link ServerHttpRequest} containing the request that failed validation.
+   * @return {@link DetailedExceptionResponse} with details extracted from {@code ex}.
+   */
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public DetailedExceptionResponse handleMethodValidationFailure(
+      HandlerMethodValidationException ex, ServerHttpRequest request) {
+    return new DetailedExceptionResponse(
+        HttpStatus.BAD_REQUEST,
+        VALIDATION_FAILURE_MESSAGE,
+        CodebreakerExceptionHandler.parameterErrorDetails(ex),
+        request.getPath().value()
+    );
+  }
+
+  /**
+   * Maps {@link InvalidPropertyException} (thrown when high-level validation against business rules
+   * fails) to the HTTP 400 (bad request) response status, with details on the failure.
+   *
+   * @param ex      {@link InvalidPropertyException} thrown by violation of high-level business
+   *                rules.
+   * @param request {@link ServerHttpRequest} containing the request that failed validation.
+   * @return {@link DetailedExceptionResponse} with details extracted from {@code ex}.
+   */
+  @ExceptionHandler(InvalidPropertyException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public DetailedExceptionResponse handlePropertyValidationFailure(
+      InvalidPropertyException ex, ServerHttpRequest request) {
+    return new DetailedExceptionResponse(
+        HttpStatus.BAD_REQUEST,
+        VALIDATION_FAILURE_MESSAGE,
+        Map.of(ex.getProperty(), ex.getMessage()),
+        request.getPath().value()
+    );
+  }
+
+  /**
+   * Maps {@link ServerWebInputException} (thrown when a request body can't be decoded, or a path
+   * variable or request parameter can't be converted) according to its cause: a
+   * {@link MismatchedInputException} (e.g. a floating-point value for an integer-valued field) is
+   * mapped to the HTTP 400 (bad request) response status, with details on the failure; a
+   * {@link DecodeException} (an invalid external key) to the HTTP 404 (not found) response status;
+   * anything else to the HTTP 400 (bad request) response status, without details.
+   *
+   * @param ex      {@link ServerWebInputException} thrown on decoding or conversion.
+   * @param request {@link ServerHttpRequest} containing the invalid input.
+   * @return {@link Mono} emitting a {@link DetailedExceptionResponse}, or the corresponding
+   * {@link ResponseStatusException}.
+   */
+  @ExceptionHandler(ServerWebInputException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public Mono<DetailedExceptionResponse> handleInvalidInput(
+      ServerWebInputException ex, ServerHttpRequest request) {
+    for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof MismatchedInputException) {
+        return Mono.just(new DetailedExceptionResponse(
+            HttpStatus.BAD_REQUEST,
+            VALIDATION_FAILURE_MESSAGE,
+            Map.of(LENGTH_PROPERTY, INVALID_LENGTH_MESSAGE),
+            request.getPath().value()
+        ));
+      }
+      if (cause instanceof DecodeException) {
+        return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, NOT_FOUND_MESSAGE));
+      }
+    }
+    return Mono.error(
+        new ResponseStatusException(HttpStatus.BAD_REQUEST, ILLEGAL_ARGUMENT_MESSAGE));
+  }
+
+  /**
+   * Maps any {@link IllegalArgumentException} instances not handled more specifically to the HTTP
+   * 400 (bad request) response status.
+   *
+   * @return {@link Mono} emitting the corresponding {@link ResponseStatusException}.
+   */
+  @ExceptionHandler(IllegalArgumentException.class)
+  public Mono<Void> handleIllegalArgument() {
+    return Mono.error(
+        new ResponseStatusException(HttpStatus.BAD_REQUEST, ILLEGAL_ARGUMENT_MESSAGE));
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.service.ReactiveGameService;
+import edu.cnm.deepdive.codebreaker.service.ReactiveGuessService;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link GameController}, active only when the application runs as a
+ * reactive web application. Endpoints, request bodies, and response representations are the same
+ * as those of {@link GameController}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequestMapping(PathComponents.GAMES_PATH)
+@CrossOrigin({"http://localhost:4200"})
+public class ReactiveGameController {
+
+  private static final int RECENT_GUESS_LIMIT = 10;
+
+  private final ReactiveGameService gameService;
+  private final ReactiveGuessService guessService;
+  private final UUIDStringifier stringifier;
+
+  /**
+   * Initializes this instance with a {@link ReactiveGameService}, {@link ReactiveGuessService}, and
+   * {@link UUIDStringifier}.
+   *
+   * @param gameService  Provider of non-blocking {@link Game}-related operations.
+   * @param guessService Provider of non-blocking guess-related operations.
+   * @param stringifier  Encoder of external keys in resource locations.
+   */
+  @Autowired
+  public ReactiveGameController(ReactiveGameService gameService,
+      ReactiveGuessService guessService, UUIDStringifier stringifier) {
+    this.gameService = gameService;
+    this.guessService = guessService;
+    this.stringifier = stringifier;
+  }
+
+  /**
+   * Adds {@code game} to the system, as described for {@link GameController#post(Game)}.
+   *
+   * @param game       {@link Game} specifying the character pool and length of the code to be
+   *                   generated.
+   * @param uriBuilder Builder of URIs relative to the current request.
+   * @return {@link Mono} emitting the response containing the validated, completed, and persisted
+   * {@link Game} instance.
+   */
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Game>> post(
+      @Valid @RequestBody Game game, UriComponentsBuilder uriBuilder) {
+    return gameService
+        .add(game)
+        .map((saved) -> ResponseEntity
+            .created(
+                uriBuilder
+                    .path(PathComponents.GAMES_COMPONENT)
+                    .pathSegment(stringifier.toString(saved.getExternalKey()))
+                    .build()
+                    .toUri()
+            )
+            .body(saved));
+  }
+
+  /**
+   * Returns the single {@link Game} matching the specified {@code gameId}, as described for
+   * {@link GameController#get(UUID)}.
+   *
+   * @param gameId Unique identifier of {@link Game} to be retrieved.
+   * @return {@link Mono} emitting the {@link Game} referenced by {@code gameId}, or
+   * {@link NoSuchElementException} if there is no such game.
+   */
+  @GetMapping(value = PathComponents.GAME_ID_COMPONENT,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<Game> get(@PathVariable UUID gameId) {
+    return gameService
+        .get(gameId)
+        .switchIfEmpty(Mono.error(NotFoundException::new))
+        .flatMap((game) -> guessService
+            .recent(game, RECENT_GUESS_LIMIT)
+            .map((guesses) -> {
+              game.setRecentGuesses(guesses);
+              return game;
+            }));
+  }
+
+  /**
+   * Deletes the single {@link Game} matching the specified {@code gameId}, if it exists.
+   *
+   * @param gameId Unique identifier of {@link Game} to be deleted.
+   * @return {@link Mono} completing when the game has been deleted, or emitting
+   * {@link NoSuchElementException} if there is no such game.
+   */
+  @DeleteMapping(value = PathComponents.GAME_ID_COMPONENT)
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public Mono<Void> delete(@PathVariable UUID gameId) {
+    return gameService
+        .get(gameId)
+        .switchIfEmpty(Mono.error(NotFoundException::new))
+        .flatMap(gameService::remove);
+  }
+
+}
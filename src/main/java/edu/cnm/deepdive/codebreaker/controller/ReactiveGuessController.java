@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.service.ReactiveGameService;
+import edu.cnm.deepdive.codebreaker.service.ReactiveGuessService;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link GuessController}, active only when the application runs as a
+ * reactive web application. Endpoints, request parameters and bodies, and response representations
+ * are the same as those of {@link GuessController}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequestMapping(PathComponents.GUESSES_PATH)
+@CrossOrigin({"http://localhost:4200"})
+public class ReactiveGuessController {
+
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final String DEFAULT_PAGE_SIZE = "100";
+
+  private final ReactiveGameService gameService;
+  private final ReactiveGuessService guessService;
+  private final UUIDStringifier stringifier;
+
+  /**
+   * Initializes this instance with a {@link ReactiveGameService}, {@link ReactiveGuessService}, and
+   * {@link UUIDStringifier}.
+   *
+   * @param gameService  Provider of non-blocking {@link Game}-related operations.
+   * @param guessService Provider of non-blocking {@link Guess}-related operations.
+   * @param stringifier  Encoder of external keys in resource locations.
+   */
+  @Autowired
+  public ReactiveGuessController(ReactiveGameService gameService,
+      ReactiveGuessService guessService, UUIDStringifier stringifier) {
+    this.gameService = gameService;
+    this.guessService = guessService;
+    this.stringifier = stringifier;
+  }
+
+  /**
+   * Returns a page of the {@link Guess} instances associated with the specified {@link Game}, as
+   * described for {@link GuessController#list(UUID, UUID, int)}.
+   *
+   * @param gameId Unique identifier of code.
+   * @param after  Unique identifier of the last guess in the previous page (if any).
+   * @param limit  Maximum number of guesses to return.
+   * @return {@link Mono} emitting the page of guesses, or {@link NoSuchElementException} if
+   * {@code gameId} does not refer to a known {@link Game}, or {@code after} does not refer to a
+   * guess in that game.
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<List<Guess>> list(@PathVariable UUID gameId,
+      @RequestParam(required = false) UUID after,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+    return gameService
+        .get(gameId)
+        .switchIfEmpty(Mono.error(NotFoundException::new))
+        .flatMap((game) -> guessService
+            .list(game, after, limit)
+            .collectList());
+  }
+
+  /**
+   * Adds the specified {@link Guess} to the referenced {@link Game game}'s collection of guesses,
+   * as described for {@link GuessController#post(UUID, Guess)}.
+   *
+   * @param gameId     Unique identifier of game.
+   * @param guess      {@link Guess} submitted against {@link Game} referenced by {@code gameId}.
+   * @param uriBuilder Builder of URIs relative to the current request.
+   * @return {@link Mono} emitting the response containing the validated and persisted
+   * {@link Guess} instance.
+   */
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Guess>> post(@PathVariable UUID gameId,
+      @Valid @RequestBody Guess guess, UriComponentsBuilder uriBuilder) {
+    return gameService
+        .get(gameId)
+        .switchIfEmpty(Mono.error(NotFoundException::new))
+        .flatMap((game) -> guessService.add(game, guess))
+        .map((saved) -> ResponseEntity
+            .created(
+                uriBuilder
+                    .path(PathComponents.GAMES_COMPONENT)
+                    .pathSegment(stringifier.toString(gameId))
+                    .path(PathComponents.GUESSES_COMPONENT)
+                    .pathSegment(stringifier.toString(saved.getExternalKey()))
+                    .build()
+                    .toUri()
+            )
+            .body(saved));
+  }
+
+  /**
+   * Adds the specified {@link Guess} instances, in order, to the referenced {@link Game game}'s
+   * collection of guesses, as described for {@link GuessController#postBatch(UUID, List)}.
+   *
+   * @param gameId  Unique identifier of game.
+   * @param guesses {@link Guess} instances submitted against {@link Game} referenced by
+   *                {@code gameId}, in order of submission.
+   * @return {@link Mono} emitting the validated and persisted {@link Guess} instances, in order of
+   * submission.
+   */
+  @PostMapping(value = PathComponents.BATCH_COMPONENT,
+      consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+  @ResponseStatus(HttpStatus.CREATED)
+  public Mono<List<Guess>> postBatch(@PathVariable UUID gameId,
+      @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid Guess> guesses) {
+    return gameService
+        .get(gameId)
+        .switchIfEmpty(Mono.error(NotFoundException::new))
+        .flatMap((game) -> guessService.addAll(game, guesses));
+  }
+
+  /**
+   * Returns a single instance of {@link Guess}, as specified by {@code gameId} and
+   * {@code guessId}, as described for {@link GuessController#get(UUID, UUID)}.
+   *
+   * @param gameId  Unique identifier of game.
+   * @param guessId Unique identifier of guess.
+   * @return {@link Mono} emitting the {@link Guess} referenced by {@code guessId}, or
+   * {@link NoSuchElementException} if the game or guess does not exist, or the guess was not
+   * submitted against the game.
+   */
+  @GetMapping(value = PathComponents.GUESS_ID_COMPONENT,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<Guess> get(@PathVariable UUID gameId, @PathVariable UUID guessId) {
+    return gameService
+        .get(gameId)
+        .flatMap((game) -> guessService.get(game, guessId))
+        .switchIfEmpty(Mono.error(NotFoundException::new));
+  }
+
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Offline summary of the events in a JFR recording file, by event type: the number of events,
+ * their total duration, duration percentiles, the game (if any) of the longest event, and the number
+ * of events in which each {@code boolean} field (e.g. {@code cacheHit}) is set. Only event types
+ * with names starting with one of a set of prefixes are included; by default, these are the events
+ * of this service, and the JDK events for garbage collection pauses and lock contention, so that
+ * these can be compared.
+ * <p>
+ * This class depends only on the JDK, and can be run against the compiled classes:
+ * </p>
+ * <pre>
+ * java -cp target/classes \
+ *     edu.cnm.deepdive.codebreaker.diagnostics.EventSummary recording.jfr
+ * </pre>
+ */
+public final class EventSummary {
+
+  /** Event type name prefixes included in the summary by default. */
+  public static final List<String> DEFAULT_PREFIXES = List.of(
+      "codebreaker.", "jdk.GarbageCollection", "jdk.GCPhasePause", "jdk.JavaMonitorEnter",
+      "jdk.ThreadPark");
+
+  private static final String USAGE = "Usage: EventSummary <recording.jfr> [event-prefix ...]";
+  private static final String HEADER_FORMAT = "%-28s %8s %12s %10s %10s %10s %10s  %s%n";
+  private static final String ROW_FORMAT = "%-28s %8d %12s %10s %10s %10s %10s  %s%n";
+
+  private EventSummary() {
+  }
+
+  /**
+   * Prints a summary of the recording file specified by the first argument to standard output. Any
+   * additional arguments are used as the event type name prefixes to include, in place of
+   * {@link #DEFAULT_PREFIXES}.
+   *
+   * @param args Path of recording file, followed by optional event type name prefixes.
+   * @throws IOException If the recording file can't be read.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    List<String> prefixes = (args.length > 1)
+        ? Arrays.asList(args).subList(1, args.length)
+        : DEFAULT_PREFIXES;
+    print(summarize(Path.of(args[0]), prefixes).values(), System.out);
+  }
+
+  /**
+   * Reads the recording file at {@code recording}, and returns summaries of the events with type
+   * names starting with any of the specified {@code prefixes}, keyed and ordered by type name.
+   *
+   * @param recording Path of JFR recording file.
+   * @param prefixes  Event type name prefixes to include.
+   * @return (See above.)
+   * @throws IOException If the recording file can't be read.
+   */
+  public static Map<String, Summary> summarize(Path recording, Collection<String> prefixes)
+      throws IOException {
+    Map<String, Accumulator> accumulators = new TreeMap<>();
+    try (RecordingFile file = new RecordingFile(recording)) {
+      while (file.hasMoreEvents()) {
+        RecordedEvent event = file.readEvent();
+        String name = event.getEventType().getName();
+        if (prefixes.stream().anyMatch(name::startsWith)) {
+          accumulators
+              .computeIfAbsent(name, (key) -> new Accumulator())
+              .add(event);
+        }
+      }
+    }
+    Map<String, Summary> summaries = new LinkedHashMap<>();
+    accumulators.forEach((name, accumulator) -> summaries.put(name, accumulator.summarize(name)));
+    return summaries;
+  }
+
+  /**
+   * Prints the specified {@code summaries} as a table to {@code out}.
+   *
+   * @param summaries Event type summaries.
+   * @param out       Destination of printed table.
+   */
+  public static void print(Collection<Summary> summaries, PrintStream out) {
+    out.printf(HEADER_FORMAT, "Event", "Count", "Total", "p50", "p99", "Max", "Slowest game",
+        "Flags");
+    for (Summary summary : summaries) {
+      out.printf(ROW_FORMAT, summary.eventType(), summary.count(), format(summary.total()),
+          format(summary.median()), format(summary.p99()), format(summary.max()),
+          (summary.slowestGame() != null) ? summary.slowestGame() : "-", summary.flags());
+    }
+  }
+
+  private static String format(Duration duration) {
+    long nanos = duration.toNanos();
+    if (nanos < 10_000) {
+      return nanos + "ns";
+    }
+    if (nanos < 10_000_000) {
+      return (nanos / 1_000) + "us";
+    }
+    return (nanos / 1_000_000) + "ms";
+  }
+
+  /**
+   * Summary of the events of a single type in a recording.
+   *
+   * @param eventType   Name of event type.
+   * @param count       Number of events.
+   * @param total       Total duration of events.
+   * @param median      Median (50th percentile) event duration.
+   * @param p99         99th percentile event duration.
+   * @param max         Maximum event duration.
+   * @param slowestGame External key of the game of the longest event, or {@code null} if the event
+   *                    type doesn't identify a game.
+   * @param flags       Number of events in which each {@code boolean} field is set, by field name.
+   */
+  public record Summary(String eventType, int count, Duration total, Duration median,
+                        Duration p99, Duration max, String slowestGame,
+                        Map<String, Integer> flags) {
+
+  }
+
+  private static class Accumulator {
+
+    private long[] durations = new long[64];
+    private int count;
+    private long total;
+    private long max = -1;
+    private String slowestGame;
+    private final Map<String, Integer> flags = new TreeMap<>();
+
+    void add(RecordedEvent event) {
+      long nanos = event.getDuration().toNanos();
+      if (count == durations.length) {
+        durations = Arrays.copyOf(durations, 2 * count);
+      }
+      durations[count++] = nanos;
+      total += nanos;
+      if (nanos > max) {
+        max = nanos;
+        slowestGame = event.hasField(GameEvent.GAME_KEY_FIELD)
+            ? event.getString(GameEvent.GAME_KEY_FIELD)
+            : null;
+      }
+      for (ValueDescriptor field : event.getFields()) {
+        if (field.getTypeName().equals("boolean")) {
+          flags.merge(field.getName(), event.getBoolean(field.getName()) ? 1 : 0, Integer::sum);
+        }
+      }
+    }
+
+    Summary summarize(String name) {
+      long[] sorted = Arrays.copyOf(durations, count);
+      Arrays.sort(sorted);
+      return new Summary(name, count, Duration.ofNanos(total),
+          Duration.ofNanos(percentile(sorted, 50)), Duration.ofNanos(percentile(sorted, 99)),
+          Duration.ofNanos(max), slowestGame, flags);
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+      return sorted[(int) Math.ceil(percent / 100.0 * sorted.length) - 1];
+    }
+
+  }
+
+}
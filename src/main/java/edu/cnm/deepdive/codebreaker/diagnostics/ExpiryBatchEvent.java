@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records the deletion of a single batch of expired games by scheduled maintenance.
+ */
+@Name(ExpiryBatchEvent.NAME)
+@Label("Expired Games Deleted")
+@Description("Deletion of a batch of expired games")
+@Category({"Codebreaker", "Maintenance"})
+@StackTrace(false)
+public final class ExpiryBatchEvent extends Event {
+
+  /** Name of this event type. */
+  public static final String NAME = "codebreaker.ExpiryBatch";
+
+  @Label("Candidates")
+  private int candidates;
+
+  @Label("Deleted")
+  private int deleted;
+
+  /**
+   * Ends this event and commits it (if enabled), recording the number of candidate and deleted
+   * games.
+   *
+   * @param candidates Number of games found expired by the expiry tracker.
+   * @param deleted    Number of those games confirmed as expired and deleted.
+   */
+  public void complete(int candidates, int deleted) {
+    if (shouldCommit()) {
+      this.candidates = candidates;
+      this.deleted = deleted;
+      commit();
+    }
+  }
+
+}
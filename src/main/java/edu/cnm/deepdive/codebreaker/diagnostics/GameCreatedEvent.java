@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the validation of the pool, generation of the code, and persistence of a new game.
+ */
+@Name(GameCreatedEvent.NAME)
+@Label("Game Created")
+@Description("Validation, code generation, and persistence of a new game")
+public final class GameCreatedEvent extends GameEvent {
+
+  /** Name of this event type. */
+  public static final String NAME = "codebreaker.GameCreated";
+
+  /**
+   * Ends this event and commits it (if enabled), describing the created {@code game}.
+   *
+   * @param game Persisted {@link Game} instance.
+   */
+  public void complete(Game game) {
+    if (shouldCommit()) {
+      describe(game);
+      commit();
+    }
+  }
+
+}
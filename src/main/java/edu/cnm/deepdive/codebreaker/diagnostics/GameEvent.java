@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.UUID;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the events recorded for operations on a single {@link Game}, identifying the game
+ * by its external key, and describing its code length, pool size, and guess count. (The fields of
+ * this class are package-private, rather than private, because JFR ignores private fields declared
+ * in the superclasses of an event class.)
+ */
+@Category({"Codebreaker", "Gameplay"})
+@StackTrace(false)
+public abstract class GameEvent extends Event {
+
+  /** Name of the field holding the external key of the game. */
+  public static final String GAME_KEY_FIELD = "gameKey";
+
+  @Label("Game")
+  String gameKey;
+
+  @Label("Code Length")
+  int codeLength;
+
+  @Label("Pool Size")
+  int poolSize;
+
+  @Label("Guess Count")
+  int guessCount;
+
+  /**
+   * Sets the fields of this event describing the specified {@code game}.
+   *
+   * @param game {@link Game} instance described by this event.
+   */
+  protected void describe(Game game) {
+    UUID externalKey = game.getExternalKey();
+    gameKey = (externalKey != null) ? externalKey.toString() : null;
+    codeLength = game.getLength();
+    poolSize = game.getCodePool().size();
+    guessCount = game.getGuessCount();
+  }
+
+}
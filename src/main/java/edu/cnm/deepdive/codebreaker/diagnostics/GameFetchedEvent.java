@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the retrieval of a game by its external key, either from the game cache or (on a cache
+ * miss) from the database.
+ */
+@Name(GameFetchedEvent.NAME)
+@Label("Game Fetched")
+@Description("Retrieval of a game by its external key")
+public final class GameFetchedEvent extends GameEvent {
+
+  /** Name of this event type. */
+  public static final String NAME = "codebreaker.GameFetched";
+
+  @Label("Cache Hit")
+  private boolean cacheHit = true;
+
+  @Label("Found")
+  private boolean found;
+
+  /**
+   * Records that the game was not found in the cache, and was queried from the database.
+   */
+  public void miss() {
+    cacheHit = false;
+  }
+
+  /**
+   * Ends this event and commits it (if enabled), describing the retrieved {@code game}.
+   *
+   * @param game Retrieved {@link Game} instance, or {@code null} if no game was found.
+   */
+  public void complete(Game game) {
+    if (shouldCommit()) {
+      found = (game != null);
+      if (found) {
+        describe(game);
+      }
+      commit();
+    }
+  }
+
+}
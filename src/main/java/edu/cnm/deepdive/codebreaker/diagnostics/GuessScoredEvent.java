@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the validation, scoring, and persistence of a single guess or batch of guesses. The guess
+ * count of the game includes the submitted guesses.
+ */
+@Name(GuessScoredEvent.NAME)
+@Label("Guess Scored")
+@Description("Validation, scoring, and persistence of a submitted guess or batch of guesses")
+public final class GuessScoredEvent extends GameEvent {
+
+  /** Name of this event type. */
+  public static final String NAME = "codebreaker.GuessScored";
+
+  @Label("Submitted Guesses")
+  private int submitted;
+
+  @Label("Solution")
+  private boolean solution;
+
+  /**
+   * Ends this event and commits it (if enabled), describing the {@code game} and the submission.
+   *
+   * @param game      {@link Game} against which the guesses were scored.
+   * @param submitted Number of guesses submitted.
+   * @param solution  Flag indicating whether the submission solved the code.
+   */
+  public void complete(Game game, int submitted, boolean solution) {
+    if (shouldCommit()) {
+      describe(game);
+      this.submitted = submitted;
+      this.solution = solution;
+      commit();
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a failure to decode the {@link String} representation of an external key. This is an
+ * instant event, committed without being begun; its stack trace identifies the caller.
+ */
+@Name(KeyDecodeFailedEvent.NAME)
+@Label("Key Decode Failed")
+@Description("Failure to decode the string representation of an external key")
+@Category({"Codebreaker", "Requests"})
+public final class KeyDecodeFailedEvent extends Event {
+
+  /** Name of this event type. */
+  public static final String NAME = "codebreaker.KeyDecodeFailed";
+
+  @Label("Value Length")
+  private int valueLength;
+
+  @Label("Reason")
+  private String reason;
+
+  /**
+   * Commits this event (if enabled), recording the length of the undecodable {@code value} and the
+   * {@code reason} it could not be decoded.
+   *
+   * @param value  Value that could not be decoded.
+   * @param reason Description of the reason for the failure.
+   */
+  public void complete(String value, String reason) {
+    if (shouldCommit()) {
+      valueLength = (value != null) ? value.length() : -1;
+      this.reason = reason;
+      commit();
+    }
+  }
+
+}
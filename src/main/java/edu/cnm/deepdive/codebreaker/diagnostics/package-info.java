@@ -0,0 +1,24 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * Java Flight Recorder events emitted on the gameplay hot path (creating, fetching, and scoring
+ * games), by scheduled maintenance, and on failures to decode external keys, together with
+ * {@link edu.cnm.deepdive.codebreaker.diagnostics.EventSummary}, an offline summary of the events
+ * in a recording file. Each event is created and begun unconditionally, but its fields are set and
+ * it is committed only if {@link jdk.jfr.Event#shouldCommit()} returns {@code true}; when no
+ * recording is enabled for an event, the JIT compiler reduces it to a few instructions.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import java.util.Date;
+
+/**
+ * Projection of the expiry-related state of a
+ * {@link edu.cnm.deepdive.codebreaker.model.entity.Game}: the time of its most recent activity
+ * (creation, or the submission of a guess), and its time-to-live override (if any).
+ */
+public interface GameActivity extends GameKey {
+
+  /**
+   * Returns the time of the most recent activity in the game.
+   *
+   * @return (See above.)
+   */
+  Date getLastActivity();
+
+  /**
+   * Returns the time-to-live override (in minutes) of the game, or {@code null} if none.
+   *
+   * @return (See above.)
+   */
+  Integer getTtlMinutes();
+
+}
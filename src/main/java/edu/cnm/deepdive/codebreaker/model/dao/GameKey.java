@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import java.util.UUID;
+
+/**
+ * Projection of the identifiers (primary and external keys) of a
+ * {@link edu.cnm.deepdive.codebreaker.model.entity.Game}, used to select games for bulk deletion
+ * without loading their state.
+ */
+public interface GameKey {
+
+  /**
+   * Returns the primary key of the game.
+   *
+   * @return (See above.)
+   */
+  Long getId();
+
+  /**
+   * Returns the external key of the game.
+   *
+   * @return (See above.)
+   */
+  UUID getExternalKey();
+
+}
@@ -16,17 +16,24 @@
 package edu.cnm.deepdive.codebreaker.model.dao;
 
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Extends the {@link JpaRepository} interface for the {@link Game} entity. In addition to the
  * data-access operations declared in {@code JpaRepository}, this interface declares queries to
- * retrieve {@link Iterable Iterable&lt;Code&gt;}, optionally filtering on solution state, and
- * in descending order by creation date (i.e. most recent first).
+ * retrieve the keys and activity state of games (in bounded chunks, or by external key) for
+ * expiry and bulk deletion, and to maintain the denormalized summary columns of {@link Game}.
  */
 public interface GameRepository extends JpaRepository<Game, Long> {
 
@@ -40,12 +47,112 @@ public interface GameRepository extends JpaRepository<Game, Long> {
   Optional<Game> findByExternalKey(UUID externalKey);
 
   /**
-   * Queries and returns all {@link Game} instances that have no guesses recorded since the {@code
-   * cutoff} date.
-   * @param cutoff Threshold date for most recently recorded guess in a stale game.
-   * @return Stale (not recently modified) {@link Game} instances.
+   * Queries and returns the summary state (including the version) of the {@link Game} with the
+   * specified primary key, as currently stored.
+   *
+   * @param id Primary key of {@link Game}.
+   * @return Summary state of the specified {@link Game}, if it exists.
+   */
+  @Query("SELECT c.version AS version, c.guessCount AS guessCount, c.lastGuessAt AS lastGuessAt, c.solved AS solved FROM Game AS c WHERE c.id = :id")
+  Optional<GameSummary> findSummaryById(Long id);
+
+  /**
+   * Queries and returns the activity state of the {@link Game} instances with the specified
+   * external keys.
+   *
+   * @param externalKeys Resource identifiers.
+   * @return Activity state of specified {@link Game} instances (if they exist).
+   */
+  @Query("SELECT c.id AS id, c.externalKey AS externalKey, COALESCE(c.lastGuessAt, c.created) AS lastActivity, c.ttlMinutes AS ttlMinutes FROM Game AS c WHERE c.externalKey IN :externalKeys")
+  List<GameActivity> findActivityByExternalKeys(Collection<UUID> externalKeys);
+
+  /**
+   * Queries and returns the activity state of up to {@code limit} {@link Game} instances with
+   * primary keys greater than {@code after}, in primary key order.
+   *
+   * @param after Primary key of the last game in the previous chunk (or 0 for the first chunk).
+   * @param limit Maximum number of games to return.
+   * @return Activity state of {@link Game} instances.
+   */
+  @Query("SELECT c.id AS id, c.externalKey AS externalKey, COALESCE(c.lastGuessAt, c.created) AS lastActivity, c.ttlMinutes AS ttlMinutes FROM Game AS c WHERE c.id > :after ORDER BY c.id")
+  List<GameActivity> findActivity(Long after, Limit limit);
+
+  /**
+   * Queries and returns the keys of up to {@code limit} {@link Game} instances with primary keys
+   * greater than {@code after}, in primary key order.
+   *
+   * @param after Primary key of the last game in the previous chunk (or 0 for the first chunk).
+   * @param limit Maximum number of keys to return.
+   * @return Keys of {@link Game} instances.
+   */
+  @Query("SELECT c.id AS id, c.externalKey AS externalKey FROM Game AS c WHERE c.id > :after ORDER BY c.id")
+  List<GameKey> findKeys(Long after, Limit limit);
+
+  /**
+   * Locks the rows of the {@link Game} instances with the specified primary keys until the end of
+   * the current transaction, so that guesses can't be written against them concurrently, and
+   * returns the primary keys of those that exist.
+   *
+   * @param ids Primary keys of {@link Game} instances.
+   * @return Primary keys of the locked {@link Game} instances.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c.id FROM Game AS c WHERE c.id IN :ids ORDER BY c.id")
+  List<Long> lockAllByIds(Collection<Long> ids);
+
+  /**
+   * Deletes (with a single bulk statement) the {@link Game} instances with the specified primary
+   * keys. Any guesses recorded in these games must be deleted first.
+   *
+   * @param ids Primary keys of {@link Game} instances.
+   * @return Number of rows deleted.
+   */
+  @Modifying
+  @Query("DELETE FROM Game AS c WHERE c.id IN :ids")
+  int deleteAllByIds(Collection<Long> ids);
+
+  /**
+   * Atomically updates the summary columns of the {@link Game} with the specified primary key, to
+   * reflect the submission of {@code count} guesses at {@code timestamp}, and increments its
+   * version. Once set, the solved flag is never cleared.
+   *
+   * @param id        Primary key of {@link Game}.
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   * @return Number of rows updated.
+   */
+  @Modifying
+  @Query("UPDATE Game AS c SET c.guessCount = c.guessCount + :count, c.lastGuessAt = :timestamp, c.solved = CASE WHEN c.solved = true THEN true ELSE :solution END, c.version = c.version + 1 WHERE c.id = :id")
+  int recordGuesses(Long id, int count, Date timestamp, boolean solution);
+
+  /**
+   * Updates the summary columns of the {@link Game} with the specified primary key, as for
+   * {@link #recordGuesses(Long, int, Date, boolean)}, but only if its version is still
+   * {@code version} and it is not yet solved. If no row is updated, the game has been changed (or
+   * deleted) since {@code version} was read.
+   *
+   * @param id        Primary key of {@link Game}.
+   * @param version   Version of the summary state against which the guesses were validated.
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   * @return Number of rows updated.
+   */
+  @Modifying
+  @Query("UPDATE Game AS c SET c.guessCount = c.guessCount + :count, c.lastGuessAt = :timestamp, c.solved = :solution, c.version = c.version + 1 WHERE c.id = :id AND c.version = :version AND c.solved = false")
+  int recordGuessesIfCurrent(Long id, long version, int count, Date timestamp, boolean solution);
+
+  /**
+   * Populates the summary columns of any {@link Game} rows that have guesses recorded, but no
+   * recorded guess count. This is needed only for games created before the summary columns were
+   * introduced.
+   *
+   * @return Number of rows updated.
    */
-  @Query("SELECT c FROM Game AS c WHERE c.created < :cutoff AND NOT EXISTS (SELECT g FROM Guess AS g WHERE g.game = c AND g.created > :cutoff)")
-  Iterable<Game> findAllStale(Date cutoff);
+  @Modifying
+  @Transactional
+  @Query("UPDATE Game AS c SET c.guessCount = (SELECT COUNT(g) FROM Guess AS g WHERE g.game = c), c.lastGuessAt = (SELECT MAX(g.created) FROM Guess AS g WHERE g.game = c), c.solved = CASE WHEN EXISTS (SELECT g FROM Guess AS g WHERE g.game = c AND g.exactMatches = c.length) THEN true ELSE false END, c.version = c.version + 1 WHERE c.guessCount = 0 AND EXISTS (SELECT g FROM Guess AS g WHERE g.game = c)")
+  int backfillSummaries();
 
 }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import java.util.Date;
+
+/**
+ * Projection of the summary state of a {@link edu.cnm.deepdive.codebreaker.model.entity.Game}, as
+ * read directly from its row (rather than from an entity that may already be in the persistence
+ * context) when the state held in memory is found to be stale.
+ */
+public interface GameSummary {
+
+  /**
+   * Returns the version of the summary state of the game.
+   *
+   * @return (See above.)
+   */
+  long getVersion();
+
+  /**
+   * Returns the number of guesses submitted in the game.
+   *
+   * @return (See above.)
+   */
+  int getGuessCount();
+
+  /**
+   * Returns the time of the most recently submitted guess, or {@code null} if none.
+   *
+   * @return (See above.)
+   */
+  Date getLastGuessAt();
+
+  /**
+   * Returns a flag indicating whether the code has been guessed successfully.
+   *
+   * @return (See above.)
+   */
+  boolean isSolved();
+
+}
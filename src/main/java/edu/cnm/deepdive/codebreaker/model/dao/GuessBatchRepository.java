@@ -0,0 +1,188 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implements bulk data-access operations on the {@code guess} table (and the summary columns of the
+ * {@code game} table) with batched JDBC statements, bypassing JPA, for use by the service
+ * implementations that persist guesses after they are submitted. Primary keys of inserted guesses
+ * are drawn (in the insert statements themselves) from the same sequence used by JPA; since each
+ * value drawn from that sequence is the upper bound of a block of values reserved by the pooled
+ * optimizer, these never collide with keys assigned by JPA. This repository is registered only with
+ * the {@code wal} and {@code write-behind} profiles, which are the only ones that use it.
+ */
+@Repository
+@Profile("(wal | write-behind) & !memory")
+public class GuessBatchRepository {
+
+  private static final String SELECT_POOLS = "SELECT game_id, pool FROM game WHERE game_id IN (:gameIds) ORDER BY game_id FOR UPDATE";
+  private static final String SELECT_EXISTING_KEYS = "SELECT external_key FROM guess WHERE external_key IN (:externalKeys)";
+  private static final String INSERT_FORMAT = "INSERT INTO guess (guess_id, external_key, created, guess_text, exact_matches, near_matches, game_id) VALUES (NEXT VALUE FOR %s, ?, ?, ?, ?, ?, ?)";
+  private static final String RECORD_GUESSES = "UPDATE game SET guess_count = guess_count + ?, last_guess_at = ?, solved = (solved OR ?), version = version + 1 WHERE game_id = ?";
+  private static final String RECOMPUTE_SUMMARIES = "UPDATE game AS c SET guess_count = (SELECT COUNT(*) FROM guess AS g WHERE g.game_id = c.game_id), last_guess_at = (SELECT MAX(g.created) FROM guess AS g WHERE g.game_id = c.game_id), solved = EXISTS (SELECT 1 FROM guess AS g WHERE g.game_id = c.game_id AND g.exact_matches = c.length), version = version + 1 WHERE c.game_id IN (:gameIds)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final String insert;
+
+  /**
+   * Initializes this instance with the JDBC template used to execute statements, and the name of
+   * the sequence providing primary keys of guesses.
+   *
+   * @param jdbcTemplate JDBC statement executor.
+   * @param sequence     Name of the sequence providing primary keys of guesses.
+   */
+  @Autowired
+  public GuessBatchRepository(NamedParameterJdbcTemplate jdbcTemplate,
+      @Value("${guess-batch.guess-sequence:guess_seq}") String sequence) {
+    this.jdbcTemplate = jdbcTemplate;
+    insert = String.format(INSERT_FORMAT, sequence);
+  }
+
+  /**
+   * Queries and returns the character pools of those of the specified games that exist, keyed by
+   * primary key. The rows of those games are locked until the end of the current transaction, so
+   * that they can't be deleted while guesses are written against them.
+   *
+   * @param gameIds Primary keys of games.
+   * @return Pools of existing games.
+   */
+  public Map<Long, String> findPools(@NonNull Collection<Long> gameIds) {
+    Map<Long, String> pools = new HashMap<>();
+    if (!gameIds.isEmpty()) {
+      jdbcTemplate.query(SELECT_POOLS, Map.of("gameIds", gameIds),
+          (row) -> {
+            pools.put(row.getLong(1), row.getString(2));
+          });
+    }
+    return pools;
+  }
+
+  /**
+   * Queries and returns those of the specified guess external keys that are already present.
+   *
+   * @param externalKeys External identifiers of guesses.
+   * @return Subset of {@code externalKeys} already present in the database.
+   */
+  public Set<UUID> findExistingKeys(@NonNull Collection<UUID> externalKeys) {
+    Set<UUID> existing = new HashSet<>();
+    if (!externalKeys.isEmpty()) {
+      jdbcTemplate.query(SELECT_EXISTING_KEYS, Map.of("externalKeys", externalKeys),
+          (row) -> {
+            existing.add(row.getObject(1, UUID.class));
+          });
+    }
+    return existing;
+  }
+
+  /**
+   * Inserts the specified guesses (with a single batched statement), assigning primary keys in
+   * iteration order. Guesses are keyed by the primary key of the game in which they were
+   * submitted; the primary key (if any) of each {@link GuessSnapshot} is ignored.
+   *
+   * @param guesses Guesses to insert, grouped by game, in order of submission.
+   * @return Number of guesses inserted.
+   */
+  public int insertAll(@NonNull Map<Long, List<GuessSnapshot>> guesses) {
+    List<Object[]> rows = new ArrayList<>();
+    guesses.forEach((gameId, snapshots) -> snapshots.forEach((guess) -> rows.add(new Object[]{
+        guess.externalKey(),
+        Timestamp.from(guess.created()),
+        guess.text(),
+        guess.exactMatches(),
+        guess.nearMatches(),
+        gameId
+    })));
+    if (!rows.isEmpty()) {
+      jdbcTemplate.getJdbcTemplate().batchUpdate(insert, rows);
+    }
+    return rows.size();
+  }
+
+  /**
+   * Updates the summary columns of games (with a single batched statement) to reflect the
+   * submission of guesses, as described for
+   * {@link GameRepository#recordGuesses(Long, int, Date, boolean)}.
+   *
+   * @param updates Summary changes, at most one per game.
+   */
+  public void recordGuesses(@NonNull Collection<SummaryUpdate> updates) {
+    if (!updates.isEmpty()) {
+      jdbcTemplate.getJdbcTemplate().batchUpdate(RECORD_GUESSES, updates
+          .stream()
+          .map((update) -> new Object[]{
+              update.count(),
+              new Timestamp(update.timestamp().getTime()),
+              update.solution(),
+              update.gameId()
+          })
+          .toList());
+    }
+  }
+
+  /**
+   * Recomputes the summary columns of the specified games from their recorded guesses.
+   *
+   * @param gameIds Primary keys of games.
+   * @return Number of games updated.
+   */
+  public int recomputeSummaries(@NonNull Collection<Long> gameIds) {
+    return gameIds.isEmpty()
+        ? 0
+        : jdbcTemplate.update(RECOMPUTE_SUMMARIES, Map.of("gameIds", gameIds));
+  }
+
+  /**
+   * Change to the summary columns of a game, reflecting the submission of one or more guesses.
+   *
+   * @param gameId    Primary key of the game.
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of the most recent submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   */
+  public record SummaryUpdate(long gameId, int count, @NonNull Date timestamp, boolean solution) {
+
+    /**
+     * Combines this change with a later change to the same game.
+     *
+     * @param later Change made after this one.
+     * @return (See above.)
+     */
+    public SummaryUpdate plus(@NonNull SummaryUpdate later) {
+      return new SummaryUpdate(gameId, count + later.count, later.timestamp,
+          solution || later.solution);
+    }
+
+  }
+
+}
@@ -17,14 +17,21 @@ package edu.cnm.deepdive.codebreaker.model.dao;
 
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 /**
- * Extends the {@link JpaRepository} interface for the {@link Guess} entity. In the current
- * implementation, no additional data-access operations are declared, beyond those in {@code
- * JpaRepository}.
+ * Extends the {@link JpaRepository} interface for the {@link Guess} entity. In addition to the
+ * data-access operations declared in {@code JpaRepository}, this interface declares queries to
+ * retrieve a single guess within a game, and to retrieve bounded pages of a game's guesses in
+ * primary key order (i.e. order of submission), using the composite {@code (game_id, guess_id)}
+ * index; and to delete the guesses of multiple games in bulk.
  */
 public interface GuessRepository extends JpaRepository<Guess, Long> {
 
@@ -38,4 +45,46 @@ public interface GuessRepository extends JpaRepository<Guess, Long> {
    */
   Optional<Guess> findByGameAndExternalKey(Game game, UUID externalKey);
 
+  /**
+   * Queries and returns up to {@code limit} of the earliest {@link Guess} instances recorded in
+   * the specified {@code game}, in order of submission.
+   *
+   * @param game  {@link Game} instance in which the guesses were recorded.
+   * @param limit Maximum number of guesses to return.
+   * @return First page of guesses.
+   */
+  List<Guess> findAllByGameOrderByIdAsc(Game game, Limit limit);
+
+  /**
+   * Queries and returns up to {@code limit} of the {@link Guess} instances recorded in the
+   * specified {@code game} after the guess with primary key {@code id}, in order of submission.
+   *
+   * @param game  {@link Game} instance in which the guesses were recorded.
+   * @param id    Primary key of the last guess of the previous page.
+   * @param limit Maximum number of guesses to return.
+   * @return Next page of guesses.
+   */
+  List<Guess> findAllByGameAndIdGreaterThanOrderByIdAsc(Game game, Long id, Limit limit);
+
+  /**
+   * Queries and returns up to {@code limit} of the most recent {@link Guess} instances recorded in
+   * the specified {@code game}, in reverse order of submission (i.e. most recent first).
+   *
+   * @param game  {@link Game} instance in which the guesses were recorded.
+   * @param limit Maximum number of guesses to return.
+   * @return Most recent guesses.
+   */
+  List<Guess> findAllByGameOrderByIdDesc(Game game, Limit limit);
+
+  /**
+   * Deletes (with a single bulk statement) all {@link Guess} instances recorded in the games with
+   * the specified primary keys.
+   *
+   * @param gameIds Primary keys of {@link Game} instances.
+   * @return Number of rows deleted.
+   */
+  @Modifying
+  @Query("DELETE FROM Guess AS g WHERE g.game.id IN :gameIds")
+  int deleteAllByGameIds(Collection<Long> gameIds);
+
 }
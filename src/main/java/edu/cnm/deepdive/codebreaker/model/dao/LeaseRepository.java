@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Lease;
+import java.util.Date;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Extends the {@link JpaRepository} interface for the {@link Lease} entity. In addition to the
+ * data-access operations declared in {@code JpaRepository}, this interface declares an insert and
+ * conditional (compare-and-set) updates to create, take over, renew, release, and verify a lease.
+ * Each of these is a single statement, and so is atomic on any JDBC store.
+ */
+public interface LeaseRepository extends JpaRepository<Lease, String> {
+
+  /**
+   * Records a new lease, held by {@code holder}, with the initial fencing token 1. If a lease with
+   * the same name already exists, a {@link org.springframework.dao.DataIntegrityViolationException}
+   * is thrown.
+   *
+   * @param name    Unique name of lease.
+   * @param holder  Identifier of node acquiring the lease.
+   * @param expires Expiry time of the new lease.
+   * @return Number of rows inserted.
+   */
+  @Modifying
+  @Transactional
+  @Query("INSERT INTO Lease (name, holder, token, expires) VALUES (:name, :holder, 1, :expires)")
+  int create(String name, String holder, Date expires);
+
+  /**
+   * Transfers the specified lease to {@code holder}, incrementing its fencing token, if the lease
+   * expired before {@code now}.
+   *
+   * @param name    Unique name of lease.
+   * @param holder  Identifier of node taking over the lease.
+   * @param expires Expiry time of the new lease.
+   * @param now     Current time.
+   * @return Number of rows updated (1 if the lease was taken over; otherwise, 0).
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE Lease AS l SET l.holder = :holder, l.token = l.token + 1, l.expires = :expires WHERE l.name = :name AND l.expires < :now")
+  int takeOver(String name, String holder, Date expires, Date now);
+
+  /**
+   * Extends the expiry time of the specified lease, if it is still held by {@code holder} with the
+   * fencing token {@code token}.
+   *
+   * @param name    Unique name of lease.
+   * @param holder  Identifier of node holding the lease.
+   * @param token   Fencing token of the lease, as acquired by {@code holder}.
+   * @param expires New expiry time of the lease.
+   * @return Number of rows updated (1 if the lease was renewed; otherwise, 0).
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE Lease AS l SET l.expires = :expires WHERE l.name = :name AND l.holder = :holder AND l.token = :token")
+  int renew(String name, String holder, long token, Date expires);
+
+  /**
+   * Verifies, in the current transaction, that the specified lease is still held by {@code holder}
+   * with the fencing token {@code token}. The row lock taken by this statement is held until the
+   * transaction completes, so the lease cannot be taken over by another node until then.
+   *
+   * @param name   Unique name of lease.
+   * @param holder Identifier of node holding the lease.
+   * @param token  Fencing token of the lease, as acquired by {@code holder}.
+   * @return Number of rows updated (1 if the lease is held; otherwise, 0).
+   */
+  @Modifying
+  @Query("UPDATE Lease AS l SET l.token = l.token WHERE l.name = :name AND l.holder = :holder AND l.token = :token")
+  int verify(String name, String holder, long token);
+
+}
@@ -0,0 +1,258 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import edu.cnm.deepdive.codebreaker.service.ExternalKeyGenerator;
+import io.r2dbc.spi.Readable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implements non-blocking data-access operations on the {@code game} table with R2DBC, for use by
+ * the reactive API stack. The SQL mirrors the JPA mapping of {@link Game} (and the queries of
+ * {@link GameRepository}), so that both stacks can run against the same schema: primary keys are
+ * taken from the sequence used by Hibernate (one sequence value per row, which never falls in a
+ * block allocated by Hibernate's pooled optimizer), and external keys are assigned by the
+ * configured {@link ExternalKeyGenerator}. Rows are returned as detached {@link Game} instances,
+ * restored from {@link GameSnapshot} instances.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveGameRepository {
+
+  private static final String SELECT_BY_EXTERNAL_KEY = "SELECT game_id, external_key, created, pool, code_text, length, ttl_minutes, solved, guess_count, last_guess_at, version FROM game WHERE external_key = :externalKey";
+  private static final String INSERT = "INSERT INTO game (game_id, external_key, created, pool, code_text, length, ttl_minutes, solved, guess_count, version) VALUES (:id, :externalKey, :created, :pool, :text, :length, :ttlMinutes, FALSE, 0, 0)";
+  private static final String SELECT_SUMMARY_BY_ID = "SELECT version, guess_count, last_guess_at, solved FROM game WHERE game_id = :id";
+  private static final String RECORD_GUESSES_IF_CURRENT = "UPDATE game SET guess_count = guess_count + :count, last_guess_at = :timestamp, solved = :solution, version = version + 1 WHERE game_id = :id AND version = :version AND solved = FALSE";
+  private static final String DELETE_GUESSES = "DELETE FROM guess WHERE game_id = :id";
+  private static final String DELETE = "DELETE FROM game WHERE game_id = :id";
+  private static final String NEXT_VALUE_FORMAT = "SELECT NEXT VALUE FOR %s";
+
+  private final DatabaseClient client;
+  private final ExternalKeyGenerator generator;
+  private final String nextId;
+
+  /**
+   * Initializes this instance with the {@link DatabaseClient} used to execute statements, the
+   * {@link ExternalKeyGenerator} used to assign external keys, and the name of the sequence
+   * providing primary keys.
+   *
+   * @param client    Non-blocking SQL client.
+   * @param generator Source of new external keys.
+   * @param sequence  Name of the sequence providing primary keys of games.
+   */
+  @Autowired
+  public ReactiveGameRepository(DatabaseClient client, ExternalKeyGenerator generator,
+      @Value("${reactive.game-sequence:game_seq}") String sequence) {
+    this.client = client;
+    this.generator = generator;
+    nextId = String.format(NEXT_VALUE_FORMAT, sequence);
+  }
+
+  /**
+   * Retrieves the game with the specified external key, if it exists.
+   *
+   * @param externalKey External identifier of the game.
+   * @return {@link Mono} emitting the {@link Game}, or completing empty if there is no such game.
+   */
+  public Mono<Game> findByExternalKey(UUID externalKey) {
+    return client
+        .sql(SELECT_BY_EXTERNAL_KEY)
+        .bind("externalKey", externalKey)
+        .map(ReactiveGameRepository::toGame)
+        .one();
+  }
+
+  /**
+   * Inserts a new row for {@code game}, which must have its pool, text, and length set, assigning
+   * its primary key, external key, and creation timestamp.
+   *
+   * @param game {@link Game} to be inserted.
+   * @return {@link Mono} emitting a new {@link Game} instance with the inserted state.
+   */
+  public Mono<Game> insert(Game game) {
+    UUID externalKey = generator.generate();
+    Instant created = now();
+    return nextId(client, nextId)
+        .flatMap((id) -> bindNullable(
+            client
+                .sql(INSERT)
+                .bind("id", id)
+                .bind("externalKey", externalKey)
+                .bind("created", toLocal(created))
+                .bind("pool", game.getPool())
+                .bind("text", game.getText())
+                .bind("length", game.getLength()),
+            "ttlMinutes", game.getTtlMinutes(), Integer.class)
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(new GameSnapshot(id, externalKey, created, game.getPool(), game.getText(),
+                game.getLength(), game.getTtlMinutes(), false, 0, null, 0).restore()));
+  }
+
+  /**
+   * Retrieves the summary state of the game with the specified primary key, if it exists.
+   *
+   * @param id Primary key of the game.
+   * @return {@link Mono} emitting the {@link GameSummary}, or completing empty if there is no such
+   * game.
+   */
+  public Mono<GameSummary> findSummaryById(Long id) {
+    return client
+        .sql(SELECT_SUMMARY_BY_ID)
+        .bind("id", id)
+        .map((row) -> (GameSummary) new Summary(
+            row.get("version", Long.class),
+            row.get("guess_count", Integer.class),
+            toDate(row.get("last_guess_at", LocalDateTime.class)),
+            row.get("solved", Boolean.class)))
+        .one();
+  }
+
+  /**
+   * Updates the denormalized summary columns of the game with the specified primary key to reflect
+   * the submission of {@code count} guesses at {@code timestamp}, as described for
+   * {@link GameRepository#recordGuessesIfCurrent(Long, long, int, Date, boolean)}: only if its
+   * version is still {@code version}, and it has not been solved.
+   *
+   * @param id        Primary key of the game.
+   * @param version   Version of the summary state from which the guesses were validated.
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   * @return {@link Mono} emitting the number of rows updated: 1 if the update was made; otherwise,
+   * 0.
+   */
+  public Mono<Long> recordGuessesIfCurrent(
+      Long id, long version, int count, Date timestamp, boolean solution) {
+    return client
+        .sql(RECORD_GUESSES_IF_CURRENT)
+        .bind("count", count)
+        .bind("timestamp", toLocal(timestamp.toInstant()))
+        .bind("solution", solution)
+        .bind("id", id)
+        .bind("version", version)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  /**
+   * Deletes the game with the specified primary key, along with its guesses. This should be
+   * invoked within a transaction.
+   *
+   * @param id Primary key of the game.
+   * @return {@link Mono} emitting the number of games deleted.
+   */
+  public Mono<Long> delete(Long id) {
+    return client
+        .sql(DELETE_GUESSES)
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated()
+        .then(
+            client
+                .sql(DELETE)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+        );
+  }
+
+  static Mono<Long> nextId(DatabaseClient client, String nextIdQuery) {
+    return client
+        .sql(nextIdQuery)
+        .map((row) -> row.get(0, Long.class))
+        .one();
+  }
+
+  static GenericExecuteSpec bindNullable(
+      GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+    return (value != null) ? spec.bind(name, value) : spec.bindNull(name, type);
+  }
+
+  static Instant now() {
+    return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  static LocalDateTime toLocal(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+  }
+
+  static Instant toInstant(LocalDateTime timestamp) {
+    return (timestamp != null) ? timestamp.atZone(ZoneId.systemDefault()).toInstant() : null;
+  }
+
+  private static Date toDate(LocalDateTime timestamp) {
+    Instant instant = toInstant(timestamp);
+    return (instant != null) ? Date.from(instant) : null;
+  }
+
+  private static Game toGame(Readable row) {
+    return new GameSnapshot(
+        row.get("game_id", Long.class),
+        row.get("external_key", UUID.class),
+        toInstant(row.get("created", LocalDateTime.class)),
+        row.get("pool", String.class),
+        row.get("code_text", String.class),
+        row.get("length", Integer.class),
+        row.get("ttl_minutes", Integer.class),
+        row.get("solved", Boolean.class),
+        row.get("guess_count", Integer.class),
+        toInstant(row.get("last_guess_at", LocalDateTime.class)),
+        row.get("version", Long.class)
+    ).restore();
+  }
+
+  private record Summary(long version, int guessCount, Date lastGuessAt, boolean solved)
+      implements GameSummary {
+
+    @Override
+    public long getVersion() {
+      return version;
+    }
+
+    @Override
+    public int getGuessCount() {
+      return guessCount;
+    }
+
+    @Override
+    public Date getLastGuessAt() {
+      return lastGuessAt;
+    }
+
+    @Override
+    public boolean isSolved() {
+      return solved;
+    }
+
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.dao;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import edu.cnm.deepdive.codebreaker.service.ExternalKeyGenerator;
+import io.r2dbc.spi.Readable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implements non-blocking data-access operations on the {@code guess} table with R2DBC, for use by
+ * the reactive API stack. As in {@link GuessRepository}, pages of a game's guesses are retrieved in
+ * primary key order (i.e. order of submission), using the composite {@code (game_id, guess_id)}
+ * index. Primary and external keys are assigned as described for {@link ReactiveGameRepository}.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveGuessRepository {
+
+  private static final String SELECT_COLUMNS = "SELECT guess_id, external_key, created, guess_text, exact_matches, near_matches FROM guess ";
+  private static final String SELECT_BY_GAME_AND_EXTERNAL_KEY = SELECT_COLUMNS + "WHERE game_id = :gameId AND external_key = :externalKey";
+  private static final String SELECT_FIRST_PAGE = SELECT_COLUMNS + "WHERE game_id = :gameId ORDER BY guess_id LIMIT :limit";
+  private static final String SELECT_PAGE = SELECT_COLUMNS + "WHERE game_id = :gameId AND guess_id > :after ORDER BY guess_id LIMIT :limit";
+  private static final String SELECT_RECENT = SELECT_COLUMNS + "WHERE game_id = :gameId ORDER BY guess_id DESC LIMIT :limit";
+  private static final String INSERT = "INSERT INTO guess (guess_id, external_key, created, guess_text, exact_matches, near_matches, game_id) VALUES (:id, :externalKey, :created, :text, :exactMatches, :nearMatches, :gameId)";
+  private static final String NEXT_VALUE_FORMAT = "SELECT NEXT VALUE FOR %s";
+
+  private final DatabaseClient client;
+  private final ExternalKeyGenerator generator;
+  private final String nextId;
+
+  /**
+   * Initializes this instance with the {@link DatabaseClient} used to execute statements, the
+   * {@link ExternalKeyGenerator} used to assign external keys, and the name of the sequence
+   * providing primary keys.
+   *
+   * @param client    Non-blocking SQL client.
+   * @param generator Source of new external keys.
+   * @param sequence  Name of the sequence providing primary keys of guesses.
+   */
+  @Autowired
+  public ReactiveGuessRepository(DatabaseClient client, ExternalKeyGenerator generator,
+      @Value("${reactive.guess-sequence:guess_seq}") String sequence) {
+    this.client = client;
+    this.generator = generator;
+    nextId = String.format(NEXT_VALUE_FORMAT, sequence);
+  }
+
+  /**
+   * Retrieves the guess with the specified external key, if it was submitted against
+   * {@code game}.
+   *
+   * @param game        Game in which the guess was submitted.
+   * @param externalKey External identifier of the guess.
+   * @return {@link Mono} emitting the {@link Guess}, or completing empty if there is no such guess
+   * in {@code game}.
+   */
+  public Mono<Guess> findByGameAndExternalKey(Game game, UUID externalKey) {
+    return client
+        .sql(SELECT_BY_GAME_AND_EXTERNAL_KEY)
+        .bind("gameId", game.getId())
+        .bind("externalKey", externalKey)
+        .map((row) -> toGuess(row, game))
+        .one();
+  }
+
+  /**
+   * Retrieves the first {@code limit} guesses submitted against {@code game}, in order of
+   * submission.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param limit Maximum number of guesses to return.
+   * @return {@link Flux} emitting the page of guesses.
+   */
+  public Flux<Guess> findFirstPage(Game game, int limit) {
+    return client
+        .sql(SELECT_FIRST_PAGE)
+        .bind("gameId", game.getId())
+        .bind("limit", limit)
+        .map((row) -> toGuess(row, game))
+        .all();
+  }
+
+  /**
+   * Retrieves up to {@code limit} guesses submitted against {@code game} after the guess with the
+   * primary key {@code after}, in order of submission.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param after Primary key of the last guess of the previous page.
+   * @param limit Maximum number of guesses to return.
+   * @return {@link Flux} emitting the page of guesses.
+   */
+  public Flux<Guess> findPage(Game game, Long after, int limit) {
+    return client
+        .sql(SELECT_PAGE)
+        .bind("gameId", game.getId())
+        .bind("after", after)
+        .bind("limit", limit)
+        .map((row) -> toGuess(row, game))
+        .all();
+  }
+
+  /**
+   * Retrieves up to {@code limit} of the most recent guesses submitted against {@code game}, in
+   * reverse order of submission.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param limit Maximum number of guesses to return.
+   * @return {@link Flux} emitting the guesses, most recent first.
+   */
+  public Flux<Guess> findRecent(Game game, int limit) {
+    return client
+        .sql(SELECT_RECENT)
+        .bind("gameId", game.getId())
+        .bind("limit", limit)
+        .map((row) -> toGuess(row, game))
+        .all();
+  }
+
+  /**
+   * Inserts a new row for each of {@code guesses} (which must have been matched against their
+   * game), in order, assigning their primary keys, external keys, and creation timestamps. This
+   * should be invoked within a transaction.
+   *
+   * @param guesses Matched guesses, in order of submission.
+   * @return {@link Flux} emitting new {@link Guess} instances with the inserted state, in order of
+   * submission.
+   */
+  public Flux<Guess> insertAll(List<Guess> guesses) {
+    return Flux
+        .fromIterable(guesses)
+        .concatMap(this::insert);
+  }
+
+  /**
+   * Inserts a new row for {@code guess} (which must have been matched against its game), assigning
+   * its primary key, external key, and creation timestamp.
+   *
+   * @param guess Matched guess.
+   * @return {@link Mono} emitting a new {@link Guess} instance with the inserted state.
+   */
+  public Mono<Guess> insert(Guess guess) {
+    UUID externalKey = generator.generate();
+    Instant created = ReactiveGameRepository.now();
+    Game game = guess.getGame();
+    return ReactiveGameRepository
+        .nextId(client, nextId)
+        .flatMap((id) -> client
+            .sql(INSERT)
+            .bind("id", id)
+            .bind("externalKey", externalKey)
+            .bind("created", ReactiveGameRepository.toLocal(created))
+            .bind("text", guess.getText())
+            .bind("exactMatches", guess.getExactMatches())
+            .bind("nearMatches", guess.getNearMatches())
+            .bind("gameId", game.getId())
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(new GuessSnapshot(id, externalKey, created, guess.getText(),
+                guess.getExactMatches(), guess.getNearMatches()).restore(game)));
+  }
+
+  private static Guess toGuess(Readable row, Game game) {
+    return new GuessSnapshot(
+        row.get("guess_id", Long.class),
+        row.get("external_key", UUID.class),
+        ReactiveGameRepository.toInstant(row.get("created", LocalDateTime.class)),
+        row.get("guess_text", String.class),
+        row.get("exact_matches", Integer.class),
+        row.get("near_matches", Integer.class)
+    ).restore(game);
+  }
+
+}
@@ -3,6 +3,7 @@
  * org.springframework.data.jpa.repository.JpaRepository} for {@link
  * edu.cnm.deepdive.codebreaker.model.entity.Game} &amp; {@link
  * edu.cnm.deepdive.codebreaker.model.entity.Guess} entity types and {@link java.util.UUID} primary
- * key types.
+ * key types, non-blocking R2DBC counterparts of these, used by the reactive API stack, and a
+ * batched JDBC repository used to persist guesses after they are submitted.
  */
 package edu.cnm.deepdive.codebreaker.model.dao;
\ No newline at end of file
@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import java.util.Arrays;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Maps the distinct code points of a character pool to dense indices (in ascending code point
+ * order), and uses that mapping to compute the numbers of exact and near matches between a code and
+ * a guess with primitive count arrays. Instances are immutable, and may be shared freely between
+ * threads; the count array used while scoring is confined to the calling thread and reused, so
+ * that scoring a guess on a platform thread allocates no objects (on a virtual thread, which is
+ * typically short-lived, a count array sized to the pool is allocated instead). Instances obtained
+ * via {@link #of(String)} are kept in a bounded cache keyed by pool text, so games sharing a pool
+ * share a single instance.
+ */
+public final class CodePool {
+
+  private static final int MATCH_BITS = 16;
+  private static final int MATCH_MASK = (1 << MATCH_BITS) - 1;
+
+  private static final int CACHE_CAPACITY = 1024;
+
+  private static final ConcurrentLruCache<String, CodePool> cache =
+      new ConcurrentLruCache<>(CACHE_CAPACITY, CodePool::new);
+  private static final ThreadLocal<int[]> counts =
+      ThreadLocal.withInitial(() -> new int[Game.MAX_POOL_LENGTH]);
+
+  private final int[] codePoints;
+
+  /**
+   * Initializes this instance with the distinct code points of {@code pool}.
+   *
+   * @param pool Characters from which codes and guesses may be composed.
+   */
+  public CodePool(String pool) {
+    codePoints = pool
+        .codePoints()
+        .sorted()
+        .distinct()
+        .toArray();
+  }
+
+  /**
+   * Returns the (possibly cached) instance for the specified {@code pool}.
+   *
+   * @param pool Characters from which codes and guesses may be composed.
+   * @return {@link CodePool} for {@code pool}.
+   */
+  public static CodePool of(String pool) {
+    return cache.get(pool);
+  }
+
+  /**
+   * Returns the number of distinct code points in this pool.
+   *
+   * @return (See above.)
+   */
+  public int size() {
+    return codePoints.length;
+  }
+
+  /**
+   * Returns the dense index of {@code codePoint} in this pool, or -1 if {@code codePoint} is not a
+   * member of the pool.
+   *
+   * @param codePoint Unicode code point to look up.
+   * @return Index in the range [0, {@link #size()}), or -1.
+   */
+  public int indexOf(int codePoint) {
+    int index = Arrays.binarySearch(codePoints, codePoint);
+    return (index >= 0) ? index : -1;
+  }
+
+  /**
+   * Returns the code point at the specified dense {@code index} of this pool.
+   *
+   * @param index Position in the range [0, {@link #size()}).
+   * @return Code point mapped to {@code index}.
+   */
+  public int codePointAt(int index) {
+    return codePoints[index];
+  }
+
+  /**
+   * Returns the number of code points in {@code text}, if every one of them is a member of this
+   * pool; otherwise, returns -1. Membership and length are checked in a single pass, without
+   * allocation.
+   *
+   * @param text Candidate code or guess text.
+   * @return Length of {@code text} in code points, or -1 if {@code text} contains any non-member.
+   */
+  public int lengthOf(String text) {
+    int length = 0;
+    for (int offset = 0, end = text.length(); offset < end; length++) {
+      int codePoint = text.codePointAt(offset);
+      if (Arrays.binarySearch(codePoints, codePoint) < 0) {
+        return -1;
+      }
+      offset += Character.charCount(codePoint);
+    }
+    return length;
+  }
+
+  /**
+   * Encodes {@code text} as an array of dense pool indices, one (unsigned) {@code byte} per code
+   * point; since a pool contains at most {@link Game#MAX_POOL_LENGTH} distinct code points, every
+   * index fits in a single unsigned byte. Every code point of {@code text} must be a member of this
+   * pool.
+   *
+   * @param text Code text to be encoded.
+   * @return Pool indices of the code points in {@code text}.
+   */
+  public byte[] encode(String text) {
+    byte[] encoded = new byte[text.codePointCount(0, text.length())];
+    for (int offset = 0, position = 0; position < encoded.length; position++) {
+      int codePoint = text.codePointAt(offset);
+      encoded[position] = (byte) indexOf(codePoint);
+      offset += Character.charCount(codePoint);
+    }
+    return encoded;
+  }
+
+  /**
+   * Computes the numbers of exact and near matches between {@code code} (encoded by
+   * {@link #encode(String)}) and {@code guess}, and returns them packed into a single {@code int};
+   * {@link #exactMatches(int)} and {@link #nearMatches(int)} extract the components. {@code guess}
+   * must contain the same number of code points as {@code code}, all of which must be members of
+   * this pool.
+   *
+   * @param code  Pool-index encoding of the secret code.
+   * @param guess Guess text.
+   * @return Packed exact and near match counts.
+   */
+  public int score(byte[] code, String guess) {
+    int[] counts = Thread.currentThread().isVirtual()
+        ? new int[codePoints.length]
+        : CodePool.counts.get();
+    int exact = 0;
+    for (int position = 0, offset = 0; position < code.length; position++) {
+      int guessCodePoint = guess.codePointAt(offset);
+      int codeIndex = code[position] & 0xff;
+      if (codeIndex == indexOf(guessCodePoint)) {
+        exact++;
+      } else {
+        counts[codeIndex]++;
+      }
+      offset += Character.charCount(guessCodePoint);
+    }
+    int near = 0;
+    for (int position = 0, offset = 0; position < code.length; position++) {
+      int guessCodePoint = guess.codePointAt(offset);
+      int codeIndex = code[position] & 0xff;
+      int guessIndex = indexOf(guessCodePoint);
+      if (codeIndex != guessIndex && counts[guessIndex] > 0) {
+        counts[guessIndex]--;
+        near++;
+      }
+      offset += Character.charCount(guessCodePoint);
+    }
+    for (byte codeIndex : code) {
+      counts[codeIndex & 0xff] = 0;
+    }
+    return (exact << MATCH_BITS) | near;
+  }
+
+  /**
+   * Extracts the number of exact matches from a value returned by {@link #score(byte[], String)}.
+   *
+   * @param score Packed match counts.
+   * @return Number of exact matches.
+   */
+  public static int exactMatches(int score) {
+    return score >>> MATCH_BITS;
+  }
+
+  /**
+   * Extracts the number of near matches from a value returned by {@link #score(byte[], String)}.
+   *
+   * @param score Packed match counts.
+   * @return Number of near matches.
+   */
+  public static int nearMatches(int score) {
+    return score & MATCH_MASK;
+  }
+
+}
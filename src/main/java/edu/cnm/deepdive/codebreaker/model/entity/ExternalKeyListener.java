@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import edu.cnm.deepdive.codebreaker.service.ExternalKeyGenerator;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener that assigns an external key, obtained from the configured
+ * {@link ExternalKeyGenerator}, to each {@link Game} and {@link Guess} instance before it is first
+ * persisted. Instances of this class are created (and their dependencies injected) by Spring, via
+ * the Hibernate bean container integration.
+ */
+public class ExternalKeyListener {
+
+  private final ExternalKeyGenerator generator;
+
+  /**
+   * Initializes this instance with the {@link ExternalKeyGenerator} to be used.
+   *
+   * @param generator Source of new external keys.
+   */
+  @Autowired
+  public ExternalKeyListener(ExternalKeyGenerator generator) {
+    this.generator = generator;
+  }
+
+  /**
+   * Assigns a newly generated external key to {@code entity}.
+   *
+   * @param entity {@link Game} or {@link Guess} about to be persisted.
+   */
+  @PrePersist
+  public void assignExternalKey(Object entity) {
+    if (entity instanceof Game game) {
+      game.setExternalKey(generator.generate());
+    } else if (entity instanceof Guess guess) {
+      guess.setExternalKey(generator.generate());
+    }
+  }
+
+}
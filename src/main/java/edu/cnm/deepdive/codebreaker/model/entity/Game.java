@@ -30,20 +30,22 @@ import java.util.UUID;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
-import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.springframework.lang.NonNull;
 
@@ -54,18 +56,29 @@ import org.springframework.lang.NonNull;
  */
 @SuppressWarnings({"JpaDataSourceORMInspection", "unused", "JavadocDeclaration"})
 @Entity
+@EntityListeners(ExternalKeyListener.class)
 @Table(
-    indexes = @Index(columnList = "created")
+    indexes = {
+        @Index(columnList = "created"),
+        @Index(columnList = "last_guess_at")
+    }
 )
 @JsonInclude(Include.NON_NULL)
-@JsonPropertyOrder({"id", "created", "pool", "length", "guessCount", "solved", "text", "href"})
+@JsonPropertyOrder({"id", "created", "pool", "length", "ttlMinutes", "guessCount", "solved", "text", "href"})
 public class Game {
 
   /**
    * Maximum allowed length of a generated code (and any guess submitted against the code).
    */
   public static final int MAX_CODE_LENGTH = 20;
-  private static final int MAX_POOL_LENGTH = 255;
+  /**
+   * Maximum allowed length of the character pool from which a code is generated.
+   */
+  public static final int MAX_POOL_LENGTH = 255;
+  /**
+   * Maximum allowed time-to-live (in minutes) of a game without activity.
+   */
+  public static final int MAX_TTL_MINUTES = 365 * 24 * 60;
 
   @NonNull
   @Id
@@ -103,12 +116,49 @@ public class Game {
   @Max(MAX_CODE_LENGTH)
   private int length;
 
+  @Column(updatable = false)
+  @Min(1)
+  @Max(MAX_TTL_MINUTES)
+  private Integer ttlMinutes;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("false")
+  @JsonProperty(access = Access.READ_ONLY)
+  private boolean solved;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonProperty(access = Access.READ_ONLY)
+  private int guessCount;
+
+  @Temporal(TemporalType.TIMESTAMP)
+  @Column(name = "last_guess_at", updatable = false)
+  @JsonIgnore
+  private Date lastGuessAt;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonIgnore
+  private long version;
+
   @NonNull
-  @OneToMany(mappedBy = "game", fetch = FetchType.EAGER, cascade = CascadeType.ALL,
+  @OneToMany(mappedBy = "game", fetch = FetchType.LAZY, cascade = CascadeType.ALL,
       orphanRemoval = true)
-  @OrderBy("created ASC")
+  @OrderBy("id ASC")
+  @JsonIgnore
   private final List<Guess> guesses = new ArrayList<>();
 
+  @Transient
+  private List<Guess> recentGuesses;
+
+  @Transient
+  @JsonIgnore
+  private CodePool codePool;
+
+  @Transient
+  @JsonIgnore
+  private byte[] encodedText;
+
   /**
    * Returns the primary key and (internal) unique identifier of this code.
    *
@@ -163,6 +213,25 @@ public class Game {
    */
   public void setPool(@NonNull String pool) {
     this.pool = pool;
+    codePool = null;
+    encodedText = null;
+  }
+
+  /**
+   * Returns the {@link CodePool} mapping the characters of {@link #getPool()} to dense indices.
+   * This is obtained from the shared pool cache on first use, and retained for the lifetime of this
+   * instance.
+   *
+   * @return (See above.)
+   */
+  @JsonIgnore
+  public CodePool getCodePool() {
+    CodePool codePool = this.codePool;
+    if (codePool == null) {
+      codePool = CodePool.of(pool);
+      this.codePool = codePool;
+    }
+    return codePool;
   }
 
   /**
@@ -183,6 +252,24 @@ public class Game {
    */
   public void setText(@NonNull String code) {
     this.text = code;
+    encodedText = null;
+  }
+
+  /**
+   * Returns the generated code, encoded as indices into {@link #getCodePool()}. The encoding is
+   * derived from the code and pool on first use, and retained for the lifetime of this instance,
+   * so that guesses can be scored without decoding the code text again.
+   *
+   * @return (See above.)
+   */
+  @JsonIgnore
+  public byte[] getEncodedText() {
+    byte[] encodedText = this.encodedText;
+    if (encodedText == null) {
+      encodedText = getCodePool().encode(text);
+      this.encodedText = encodedText;
+    }
+    return encodedText;
   }
 
   /**
@@ -206,7 +293,31 @@ public class Game {
   }
 
   /**
-   * Returns the {@link List List&lt;Guess&gt;} of guesses submitted against this code.
+   * Returns the time (in minutes) after the most recent activity in this game (creation, or the
+   * submission of a guess) that the game expires and is deleted, if this overrides the default; if
+   * the default applies, {@code null} is returned.
+   *
+   * @return (See above.)
+   */
+  public Integer getTtlMinutes() {
+    return ttlMinutes;
+  }
+
+  /**
+   * Sets the time (in minutes) after the most recent activity in this game that the game expires
+   * and is deleted. If {@code null}, the default (set by the {@code schedule.stale-game-days}
+   * application property) applies.
+   *
+   * @param ttlMinutes
+   */
+  public void setTtlMinutes(Integer ttlMinutes) {
+    this.ttlMinutes = ttlMinutes;
+  }
+
+  /**
+   * Returns the {@link List List&lt;Guess&gt;} of guesses submitted against this code. This
+   * collection is loaded lazily, in its entirety, on first access; it is not included in the JSON
+   * representation of this instance (see {@link #getRecentGuesses()}).
    *
    * @return (See above.)
 
@@ -216,6 +327,29 @@ public class Game {
     return guesses;
   }
 
+  /**
+   * Returns the bounded window of most recently submitted guesses, in order of submission, that is
+   * included in the JSON representation of this instance. If no guesses have been submitted, an
+   * empty list is returned; otherwise, if no window has been set (via {@link
+   * #setRecentGuesses(List)}), {@code null} is returned.
+   *
+   * @return (See above.)
+   */
+  @JsonProperty(value = "guesses", access = Access.READ_ONLY)
+  public List<Guess> getRecentGuesses() {
+    return (recentGuesses == null && guessCount == 0) ? List.of() : recentGuesses;
+  }
+
+  /**
+   * Sets the bounded window of most recently submitted guesses, in order of submission, to be
+   * included in the JSON representation of this instance.
+   *
+   * @param recentGuesses
+   */
+  public void setRecentGuesses(List<Guess> recentGuesses) {
+    this.recentGuesses = recentGuesses;
+  }
+
   /**
    * Returns a {@code boolean} flag indicating whether the code has been guessed successfully.
    *
@@ -223,9 +357,74 @@ public class Game {
 
    */
   public boolean isSolved() {
-    return guesses
-        .stream()
-        .anyMatch(Guess::isSolution);
+    return solved;
+  }
+
+  /**
+   * Returns the number of guesses submitted against this code.
+   *
+   * @return (See above.)
+   */
+  public int getGuessCount() {
+    return guessCount;
+  }
+
+  /**
+   * Returns the date the most recent guess was submitted against this code, or {@code null} if no
+   * guesses have been submitted.
+   *
+   * @return (See above.)
+   */
+  public Date getLastGuessAt() {
+    return lastGuessAt;
+  }
+
+  /**
+   * Returns the version of the summary state of this instance, incremented with each submission of
+   * guesses. {@link edu.cnm.deepdive.codebreaker.service.GuessService} records a submission only if
+   * the version of the game's row is still the one read with the game; otherwise, the game has
+   * been changed concurrently (e.g. on another service node).
+   *
+   * @return (See above.)
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Updates the summary properties of this instance ({@link #isSolved()}, {@link #getGuessCount()},
+   * {@link #getLastGuessAt()}, and {@link #getVersion()}) to reflect the submission of
+   * {@code count} guesses at {@code timestamp}. These properties are not written to the database
+   * when this instance is saved; the corresponding columns are maintained by {@link
+   * edu.cnm.deepdive.codebreaker.model.dao.GameRepository#recordGuesses(Long, int, Date, boolean)}
+   * and {@link edu.cnm.deepdive.codebreaker.model.dao.GameRepository#recordGuessesIfCurrent(Long,
+   * long, int, Date, boolean)}.
+   *
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   */
+  public void recordGuesses(int count, @NonNull Date timestamp, boolean solution) {
+    guessCount += count;
+    lastGuessAt = timestamp;
+    solved |= solution;
+    version++;
+  }
+
+  /**
+   * Replaces the summary properties of this instance with the specified values, read from the
+   * database after a concurrent change to the game was detected.
+   *
+   * @param version     Current version of the summary state.
+   * @param guessCount  Number of guesses submitted.
+   * @param lastGuessAt Time of the most recently submitted guess, or {@code null} if none.
+   * @param solved      Flag indicating whether the code has been guessed successfully.
+   */
+  public void refreshSummary(long version, int guessCount, Date lastGuessAt, boolean solved) {
+    this.version = version;
+    this.guessCount = guessCount;
+    this.lastGuessAt = lastGuessAt;
+    this.solved = solved;
   }
 
   /**
@@ -240,9 +439,24 @@ public class Game {
     return isSolved() ? text : null;
   }
 
-  @PrePersist
-  private void generateExternalKey() {
-    externalKey = UUID.randomUUID();
+  void setExternalKey(@NonNull UUID externalKey) {
+    this.externalKey = externalKey;
+  }
+
+  void restore(@NonNull GameSnapshot snapshot) {
+    id = snapshot.id();
+    externalKey = snapshot.externalKey();
+    created = Date.from(snapshot.created());
+    pool = snapshot.pool();
+    text = snapshot.text();
+    length = snapshot.length();
+    ttlMinutes = snapshot.ttlMinutes();
+    solved = snapshot.solved();
+    guessCount = snapshot.guessCount();
+    lastGuessAt = (snapshot.lastGuessAt() != null) ? Date.from(snapshot.lastGuessAt()) : null;
+    version = snapshot.version();
+    codePool = snapshot.codePool();
+    encodedText = snapshot.encodedText();
   }
 
 }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import org.springframework.lang.NonNull;
+
+/**
+ * Immutable copy of the persistent state of a {@link Game}, suitable for sharing (e.g. in a cache)
+ * between threads and requests. A snapshot never references a live entity; {@link #restore()}
+ * creates a new, detached {@link Game} instance on each invocation, so that per-request changes
+ * (such as {@link Game#setRecentGuesses(java.util.List)}) never leak into the snapshot. The
+ * {@link CodePool} and pool-index encoding of the code are carried in the snapshot, and shared by
+ * every restored instance, so that they are computed once per snapshot rather than once per
+ * request; the encoding array must be treated as immutable.
+ *
+ * @param id          Primary key of the game.
+ * @param externalKey External identifier of the game.
+ * @param created     Creation timestamp of the game.
+ * @param pool        Character pool from which the code was generated.
+ * @param text        Generated code text.
+ * @param length      Length of the code, in code points.
+ * @param ttlMinutes  Time-to-live override of the game, in minutes, or {@code null} if none.
+ * @param solved      Flag indicating whether the code has been guessed successfully.
+ * @param guessCount  Number of guesses submitted against the code.
+ * @param lastGuessAt Time of the most recently submitted guess, or {@code null} if none.
+ * @param version     Version of the summary state of the game.
+ * @param codePool    {@link CodePool} of {@code pool}.
+ * @param encodedText {@code text}, encoded as indices into {@code codePool}.
+ */
+public record GameSnapshot(
+    @NonNull Long id,
+    @NonNull UUID externalKey,
+    @NonNull Instant created,
+    @NonNull String pool,
+    @NonNull String text,
+    int length,
+    Integer ttlMinutes,
+    boolean solved,
+    int guessCount,
+    Instant lastGuessAt,
+    long version,
+    @NonNull CodePool codePool,
+    @NonNull byte[] encodedText
+) {
+
+  /**
+   * Initializes a snapshot with the specified state, obtaining the {@link CodePool} of
+   * {@code pool} and encoding {@code text} with it.
+   *
+   * @param id          Primary key of the game.
+   * @param externalKey External identifier of the game.
+   * @param created     Creation timestamp of the game.
+   * @param pool        Character pool from which the code was generated.
+   * @param text        Generated code text.
+   * @param length      Length of the code, in code points.
+   * @param ttlMinutes  Time-to-live override of the game, in minutes, or {@code null} if none.
+   * @param solved      Flag indicating whether the code has been guessed successfully.
+   * @param guessCount  Number of guesses submitted against the code.
+   * @param lastGuessAt Time of the most recently submitted guess, or {@code null} if none.
+   * @param version     Version of the summary state of the game.
+   */
+  public GameSnapshot(@NonNull Long id, @NonNull UUID externalKey, @NonNull Instant created,
+      @NonNull String pool, @NonNull String text, int length, Integer ttlMinutes, boolean solved,
+      int guessCount, Instant lastGuessAt, long version) {
+    this(id, externalKey, created, pool, text, length, ttlMinutes, solved, guessCount,
+        lastGuessAt, version, CodePool.of(pool), CodePool.of(pool).encode(text));
+  }
+
+  /**
+   * Creates and returns a snapshot of the current state of {@code game}, which must have been
+   * persisted.
+   *
+   * @param game Source of snapshot state.
+   * @return (See above.)
+   */
+  public static GameSnapshot of(@NonNull Game game) {
+    Date lastGuessAt = game.getLastGuessAt();
+    return new GameSnapshot(game.getId(), game.getExternalKey(), game.getCreated().toInstant(),
+        game.getPool(), game.getText(), game.getLength(), game.getTtlMinutes(), game.isSolved(),
+        game.getGuessCount(), (lastGuessAt != null) ? lastGuessAt.toInstant() : null,
+        game.getVersion(), game.getCodePool(), game.getEncodedText());
+  }
+
+  /**
+   * Creates and returns a new, detached {@link Game} instance with the state of this snapshot.
+   *
+   * @return (See above.)
+   */
+  public Game restore() {
+    Game game = new Game();
+    game.restore(this);
+    return game;
+  }
+
+}
@@ -27,13 +27,13 @@ import java.util.Date;
 import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
@@ -48,8 +48,12 @@ import org.springframework.lang.NonNull;
  */
 @SuppressWarnings({"JpaDataSourceORMInspection", "unused", "JavadocDeclaration"})
 @Entity
+@EntityListeners(ExternalKeyListener.class)
 @Table(
-    indexes = @Index(columnList = "created")
+    indexes = {
+        @Index(columnList = "created"),
+        @Index(columnList = "game_id, guess_id")
+    }
 )
 @JsonInclude(Include.NON_NULL)
 @JsonPropertyOrder({"id", "created", "text", "exactMatches", "nearMatches", "solution", "href"})
@@ -220,9 +224,18 @@ public class Guess {
     return exactMatches == game.getLength();
   }
 
-  @PrePersist
-  private void generateExternalKey() {
-    externalKey = UUID.randomUUID();
+  void setExternalKey(@NonNull UUID externalKey) {
+    this.externalKey = externalKey;
+  }
+
+  void restore(@NonNull GuessSnapshot snapshot, @NonNull Game game) {
+    id = snapshot.id();
+    externalKey = snapshot.externalKey();
+    created = Date.from(snapshot.created());
+    text = snapshot.text();
+    exactMatches = snapshot.exactMatches();
+    nearMatches = snapshot.nearMatches();
+    this.game = game;
   }
 
 }
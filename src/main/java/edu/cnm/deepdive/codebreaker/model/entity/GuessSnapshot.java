@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import org.springframework.lang.NonNull;
+
+/**
+ * Immutable copy of the persistent state of a {@link Guess}, as read from (or written to) the
+ * database without JPA (e.g. by the reactive data-access layer). {@link #restore(Game)} creates a
+ * new, detached {@link Guess} instance with this state, associated with the specified {@link Game}.
+ *
+ * @param id           Primary key of the guess.
+ * @param externalKey  External identifier of the guess.
+ * @param created      Submission timestamp of the guess.
+ * @param text         Text of the guess.
+ * @param exactMatches Number of characters in the guess matching the code in the same position.
+ * @param nearMatches  Number of characters in the guess matching the code in a different position.
+ */
+public record GuessSnapshot(
+    @NonNull Long id,
+    @NonNull UUID externalKey,
+    @NonNull Instant created,
+    @NonNull String text,
+    int exactMatches,
+    int nearMatches
+) {
+
+  /**
+   * Creates and returns a new, detached {@link Guess} instance with the state of this snapshot,
+   * submitted against {@code game}.
+   *
+   * @param game {@link Game} against which the guess was submitted.
+   * @return (See above.)
+   */
+  public Guess restore(@NonNull Game game) {
+    Guess guess = new Guess();
+    guess.restore(this, game);
+    return guess;
+  }
+
+}
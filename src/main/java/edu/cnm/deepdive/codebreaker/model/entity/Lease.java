@@ -0,0 +1,133 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import java.util.Date;
+import org.springframework.lang.NonNull;
+
+/**
+ * Encapsulates a named, time-limited lease, held by (at most) one service node at a time, and used
+ * to ensure that a maintenance job runs on only one node. Each change of holder increments the
+ * fencing token of the lease; database writes made under the lease are conditioned on the token
+ * being unchanged, so that a node whose lease has expired (and been taken over) cannot write.
+ */
+@SuppressWarnings({"JpaDataSourceORMInspection", "unused", "JavadocDeclaration"})
+@Entity
+public class Lease {
+
+  /**
+   * Maximum length of lease names and holder identifiers.
+   */
+  public static final int MAX_NAME_LENGTH = 64;
+
+  @NonNull
+  @Id
+  @Column(length = MAX_NAME_LENGTH, updatable = false)
+  private String name;
+
+  @NonNull
+  @Column(length = MAX_NAME_LENGTH, nullable = false)
+  private String holder;
+
+  @Column(nullable = false)
+  private long token;
+
+  @NonNull
+  @Temporal(TemporalType.TIMESTAMP)
+  @Column(nullable = false)
+  private Date expires;
+
+  /**
+   * Returns the unique name of this lease.
+   *
+   * @return (See above.)
+   */
+  @NonNull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the unique name of this lease.
+   *
+   * @param name
+   */
+  public void setName(@NonNull String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the identifier of the node holding (or that most recently held) this lease.
+   *
+   * @return (See above.)
+   */
+  @NonNull
+  public String getHolder() {
+    return holder;
+  }
+
+  /**
+   * Sets the identifier of the node holding this lease.
+   *
+   * @param holder
+   */
+  public void setHolder(@NonNull String holder) {
+    this.holder = holder;
+  }
+
+  /**
+   * Returns the fencing token of this lease, which is incremented on each change of holder.
+   *
+   * @return (See above.)
+   */
+  public long getToken() {
+    return token;
+  }
+
+  /**
+   * Sets the fencing token of this lease.
+   *
+   * @param token
+   */
+  public void setToken(long token) {
+    this.token = token;
+  }
+
+  /**
+   * Returns the time at which this lease expires, unless renewed.
+   *
+   * @return (See above.)
+   */
+  @NonNull
+  public Date getExpires() {
+    return expires;
+  }
+
+  /**
+   * Sets the time at which this lease expires, unless renewed.
+   *
+   * @param expires
+   */
+  public void setExpires(@NonNull Date expires) {
+    this.expires = expires;
+  }
+
+}
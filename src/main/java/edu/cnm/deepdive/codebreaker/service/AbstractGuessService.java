@@ -3,6 +3,8 @@ package edu.cnm.deepdive.codebreaker.service;
 import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.lang.NonNull;
@@ -29,6 +31,19 @@ public interface AbstractGuessService {
    */
   Guess add(@NonNull Game game, @NonNull Guess guess) throws InvalidPropertyException;
 
+  /**
+   * Validates and matches each of the specified {@link Guess} instances, in order, against the
+   * related {@link Game}, as described for {@link #add(Game, Guess)}. Processing stops at the first
+   * guess that matches the code exactly; any guesses following that one are ignored. All of the
+   * processed guesses are then saved together; if any of them fails validation, none are saved.
+   *
+   * @param game    Game with secret code being guessed.
+   * @param guesses Submitted attempts to guess the secret code, in order of submission.
+   * @return Validated, summarized, and saved {@code Guess} instances, in order of submission.
+   */
+  List<Guess> addAll(@NonNull Game game, @NonNull List<Guess> guesses)
+      throws InvalidPropertyException;
+
   /**
    * Retrieves an {@link Optional Optional&lt;Guess&gt;}, specified by {@code externalKey}, from the
    * collection. If there is no instance with the specified {@code externalKey} in the collection,
@@ -39,4 +54,29 @@ public interface AbstractGuessService {
    * externalKey} (if it exists).
    */
   Optional<Guess> get(@NonNull Game game, @NonNull UUID externalKey);
+
+  /**
+   * Retrieves a page of up to {@code limit} guesses submitted against {@code game}, in order of
+   * submission. If {@code after} is {@code null}, the first page is returned; otherwise, the page
+   * begins with the guess submitted immediately after the one with the external key {@code after}.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param after Unique identifier of the last {@link Guess} of the previous page (if any).
+   * @param limit Maximum number of guesses to return.
+   * @return {@link List List&lt;Guess&gt;} containing the page of guesses.
+   * @throws NoSuchElementException If {@code after} does not refer to a guess submitted against
+   *                                {@code game}.
+   */
+  List<Guess> list(@NonNull Game game, UUID after, int limit) throws NoSuchElementException;
+
+  /**
+   * Retrieves up to {@code limit} of the most recent guesses submitted against {@code game}, in
+   * order of submission.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param limit Maximum number of guesses to return.
+   * @return {@link List List&lt;Guess&gt;} containing the most recent guesses.
+   */
+  List<Guess> recent(@NonNull Game game, int limit);
+
 }
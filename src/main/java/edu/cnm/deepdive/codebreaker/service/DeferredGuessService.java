@@ -0,0 +1,305 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GameSummary;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+
+/**
+ * Base class of the {@link AbstractGuessService} implementations that persist submitted guesses to
+ * the database after the submission has been accepted, rather than inserting them with JPA as it
+ * is made. Validation and scoring are done (as in {@link GuessService}) by {@link GameRules};
+ * accepted guesses are handed to {@link #persist(Game, List, boolean)}, and held in memory (as
+ * pending guesses, indexed by game) until the subclass reports, via
+ * {@link #persisted(long, Collection)}, that they have been written to the database. When guesses
+ * are retrieved, pending guesses are merged with those read from the database. Likewise, the
+ * summary state of each game with pending guesses is recorded in {@link PendingGameSummaries}, and
+ * applied to the game whenever it is read, until those guesses have been written.
+ * <p>
+ * As in {@link GuessService}, submissions against the same game are serialized by
+ * {@link GameLocks}. Since the {@link Game} passed to {@link #addAll(Game, List)} may have been
+ * read before the lock was acquired, its summary state is refreshed while holding the lock (from
+ * {@link PendingGameSummaries}, or, if no summary is pending, from the database) before the
+ * submission is validated, scored, and handed to {@link #persist(Game, List, boolean)}.
+ * </p>
+ */
+public abstract class DeferredGuessService implements AbstractGuessService {
+
+  private final GuessRepository guessRepository;
+  private final GameRepository gameRepository;
+  private final GameCache gameCache;
+  private final GameExpiryTracker expiryTracker;
+  private final PendingGameSummaries summaries;
+  private final GameLocks gameLocks;
+  private final ExternalKeyGenerator generator;
+  private final ConcurrentMap<Long, List<PendingGuess>> pending;
+  private volatile long persistedThrough;
+
+  /**
+   * Initializes this instance with the {@link GuessRepository} used to read persisted guesses, the
+   * {@link GameRepository} used to read the summary state of games, the {@link GameCache},
+   * {@link GameExpiryTracker}, and {@link PendingGameSummaries} updated as guesses are submitted,
+   * the {@link GameLocks} serializing submissions, and the {@link ExternalKeyGenerator} used to
+   * assign external keys to guesses.
+   *
+   * @param guessRepository Persistence operations provider for persisted {@link Guess} instances.
+   * @param gameRepository  Persistence operations provider for {@link Game} summary state.
+   * @param gameCache       Cache of {@link Game} snapshots, updated with the summary changes.
+   * @param expiryTracker   Tracker of {@link Game} expiry times, extended by each submission.
+   * @param summaries       Summary state of games with guesses not yet written.
+   * @param gameLocks       Table of locks serializing submissions against each game.
+   * @param generator       Source of new external keys.
+   */
+  protected DeferredGuessService(GuessRepository guessRepository, GameRepository gameRepository,
+      GameCache gameCache, GameExpiryTracker expiryTracker, PendingGameSummaries summaries,
+      GameLocks gameLocks, ExternalKeyGenerator generator) {
+    this.guessRepository = guessRepository;
+    this.gameRepository = gameRepository;
+    this.gameCache = gameCache;
+    this.expiryTracker = expiryTracker;
+    this.summaries = summaries;
+    this.gameLocks = gameLocks;
+    this.generator = generator;
+    pending = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Guess add(@NonNull Game game, @NonNull Guess guess) throws InvalidPropertyException {
+    return addAll(game, List.of(guess)).get(0);
+  }
+
+  @Override
+  public List<Guess> addAll(@NonNull Game game, @NonNull List<Guess> guesses)
+      throws InvalidPropertyException {
+    return gameLocks.withLock(game.getExternalKey(), () -> submit(game, guesses));
+  }
+
+  @Override
+  public Optional<Guess> get(@NonNull Game game, @NonNull UUID externalKey) {
+    Optional<Guess> accepted = pending(game)
+        .stream()
+        .filter((guess) -> guess.externalKey().equals(externalKey))
+        .findFirst()
+        .map((guess) -> guess.restore(game));
+    if (accepted.isPresent()) {
+      return accepted;
+    }
+    try {
+      return guessRepository.findByGameAndExternalKey(game, externalKey);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public List<Guess> list(@NonNull Game game, UUID after, int limit)
+      throws NoSuchElementException {
+    List<GuessSnapshot> accepted = pending(game);
+    List<Guess> stored;
+    if (after == null) {
+      stored = guessRepository.findAllByGameOrderByIdAsc(game, Limit.of(limit));
+    } else {
+      for (int index = 0; index < accepted.size(); index++) {
+        if (accepted.get(index).externalKey().equals(after)) {
+          return accepted
+              .subList(index + 1, accepted.size())
+              .stream()
+              .limit(limit)
+              .map((guess) -> guess.restore(game))
+              .toList();
+        }
+      }
+      stored = guessRepository
+          .findByGameAndExternalKey(game, after)
+          .map((guess) -> guessRepository
+              .findAllByGameAndIdGreaterThanOrderByIdAsc(game, guess.getId(), Limit.of(limit)))
+          .orElseThrow(NotFoundException::new);
+    }
+    return merge(stored, accepted, game)
+        .stream()
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public List<Guess> recent(@NonNull Game game, int limit) {
+    List<GuessSnapshot> accepted = pending(game);
+    List<Guess> stored = new ArrayList<>();
+    if (accepted.size() < limit) {
+      stored.addAll(guessRepository.findAllByGameOrderByIdDesc(game, Limit.of(limit)));
+      Collections.reverse(stored);
+    }
+    List<Guess> merged = merge(stored, accepted, game);
+    return merged.subList(Math.max(0, merged.size() - limit), merged.size());
+  }
+
+  /**
+   * Removes the pending guesses (and summaries) of the specified games that have been written to
+   * the database, i.e. those with sequence numbers no greater than {@code through}.
+   *
+   * @param through Sequence number of the last guess written.
+   * @param gameIds Primary keys of the games of the guesses written.
+   */
+  public void persisted(long through, @NonNull Collection<Long> gameIds) {
+    persistedThrough = through;
+    gameIds.forEach((gameId) -> prune(gameId, through));
+    summaries.persisted(through, gameIds);
+  }
+
+  /**
+   * Accepts validated and scored guesses for persistence, returning (in the same order) the
+   * sequence numbers assigned to them. Sequence numbers must be assigned in the order in which
+   * guesses are written to the database, so that {@link #persisted(long, Collection)} may be
+   * invoked with the sequence number of the last guess written. Implementations are also
+   * responsible for updating the summary state of {@code game} (see
+   * {@link #recordSummary(Game, int, Date, boolean)}).
+   *
+   * @param game     {@link Game} against which the guesses were submitted.
+   * @param guesses  Accepted guesses, in order of submission; primary keys are not assigned.
+   * @param solution Flag indicating whether the last of {@code guesses} matched the code exactly.
+   * @return Sequence numbers of {@code guesses}.
+   */
+  protected abstract long[] persist(
+      @NonNull Game game, @NonNull List<GuessSnapshot> guesses, boolean solution);
+
+  /**
+   * Updates the summary state of {@code game} (and, when the current transaction, if any, commits,
+   * of its cached snapshot) to reflect the submission of {@code count} guesses, and extends its
+   * expiry time.
+   *
+   * @param game      {@link Game} against which the guesses were submitted.
+   * @param count     Number of guesses submitted.
+   * @param timestamp Time of submission.
+   * @param solution  Flag indicating whether one of the guesses matched the code exactly.
+   */
+  protected void recordSummary(
+      @NonNull Game game, int count, @NonNull Date timestamp, boolean solution) {
+    int previousGuessCount = game.getGuessCount();
+    game.recordGuesses(count, timestamp, solution);
+    gameCache.recordGuesses(game, previousGuessCount);
+    expiryTracker.record(game, timestamp);
+  }
+
+  private List<Guess> submit(Game game, List<Guess> guesses) {
+    refresh(game);
+    GameRules.validateUnsolved(game);
+    List<Guess> matched = GameRules.matchAll(game, guesses);
+    if (matched.isEmpty()) {
+      return List.of();
+    }
+    Instant created = Instant.ofEpochMilli(System.currentTimeMillis());
+    List<GuessSnapshot> accepted = matched
+        .stream()
+        .map((guess) -> new GuessSnapshot(null, generator.generate(), created, guess.getText(),
+            guess.getExactMatches(), guess.getNearMatches()))
+        .toList();
+    long[] sequences = persist(game, accepted, matched.get(matched.size() - 1).isSolution());
+    summaries.record(game, sequences[sequences.length - 1]);
+    List<PendingGuess> added = new ArrayList<>(accepted.size());
+    for (int index = 0; index < accepted.size(); index++) {
+      added.add(new PendingGuess(sequences[index], accepted.get(index)));
+    }
+    addPending(game.getId(), added);
+    return accepted
+        .stream()
+        .map((guess) -> guess.restore(game))
+        .toList();
+  }
+
+  private void refresh(Game game) {
+    if (!summaries.applyIfPending(game)) {
+      GameSummary summary = gameRepository
+          .findSummaryById(game.getId())
+          .orElseThrow(NotFoundException::new);
+      game.refreshSummary(summary.getVersion(), summary.getGuessCount(),
+          summary.getLastGuessAt(), summary.isSolved());
+    }
+  }
+
+  private void addPending(long gameId, List<PendingGuess> guesses) {
+    pending.merge(gameId, List.copyOf(guesses), (existing, added) -> Stream
+        .concat(existing.stream(), added.stream())
+        .sorted(Comparator.comparingLong(PendingGuess::sequence))
+        .toList());
+    long through = persistedThrough;
+    if (guesses.get(0).sequence() <= through) {
+      prune(gameId, through);
+    }
+  }
+
+  private void prune(long gameId, long through) {
+    pending.computeIfPresent(gameId, (id, guesses) -> {
+      List<PendingGuess> remaining = guesses
+          .stream()
+          .filter((guess) -> guess.sequence() > through)
+          .toList();
+      return remaining.isEmpty() ? null : remaining;
+    });
+  }
+
+  private List<GuessSnapshot> pending(Game game) {
+    return pending
+        .getOrDefault(game.getId(), List.of())
+        .stream()
+        .map(PendingGuess::snapshot)
+        .toList();
+  }
+
+  private static List<Guess> merge(List<Guess> stored, List<GuessSnapshot> accepted, Game game) {
+    Set<UUID> acceptedKeys = accepted
+        .stream()
+        .map(GuessSnapshot::externalKey)
+        .collect(Collectors.toSet());
+    List<Guess> merged = new ArrayList<>(stored.size() + accepted.size());
+    stored
+        .stream()
+        .filter((guess) -> !acceptedKeys.contains(guess.getExternalKey()))
+        .forEach(merged::add);
+    accepted
+        .stream()
+        .map((guess) -> guess.restore(game))
+        .forEach(merged::add);
+    return merged;
+  }
+
+  private record PendingGuess(long sequence, GuessSnapshot snapshot) {
+
+  }
+
+}
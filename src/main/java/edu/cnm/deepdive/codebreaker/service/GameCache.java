@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maintains a bounded (by size and time-to-live) cache of {@link GameSnapshot} instances, keyed by
+ * external key, in front of the database queries used to retrieve games. Only immutable snapshots
+ * are cached; every hit returns a new, detached {@link Game} instance.
+ * <p>
+ * Changes to the summary state of a game (see {@link #recordGuesses(Game, int)}) are applied to
+ * the cache only after the enclosing transaction commits, and only if the cached snapshot is the
+ * one from which the change was made; otherwise, the entry is invalidated. To prevent a snapshot
+ * read before such a change (or a deletion) commits from being cached after it, every change
+ * increments a write sequence, and a snapshot loaded from the database is cached only if no change
+ * was applied while it was being loaded.
+ * </p>
+ * <p>
+ * Hit, miss, and eviction counts are available via {@link #getHitCount()}, {@link
+ * #getMissCount()}, and {@link #getEvictionCount()}, and are published to Micrometer as the
+ * {@value #CACHE_NAME} cache metrics.
+ * </p>
+ */
+@Service
+public class GameCache implements MeterBinder {
+
+  private static final String CACHE_NAME = "games";
+
+  private final Cache<UUID, GameSnapshot> cache;
+  private final AtomicLong writes;
+
+  /**
+   * Initializes this instance with the specified bounds.
+   *
+   * @param maximumSize Maximum number of cached snapshots.
+   * @param timeToLive  Maximum time a snapshot is retained after being cached or updated.
+   */
+  @Autowired
+  public GameCache(
+      @Value("${game-cache.maximum-size:10000}") long maximumSize,
+      @Value("${game-cache.time-to-live:10m}") Duration timeToLive) {
+    cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+    writes = new AtomicLong();
+  }
+
+  /**
+   * Returns a detached {@link Game} restored from the cached snapshot with the specified
+   * {@code externalKey}, if present; otherwise, invokes {@code loader} and caches a snapshot of the
+   * result (if any).
+   *
+   * @param externalKey Unique identifier of {@link Game} instance.
+   * @param loader      Database query for the {@link Game} instance.
+   * @return {@link Optional Optional&lt;Game&gt;} containing the specified {@link Game} (if it
+   * exists).
+   */
+  public Optional<Game> get(
+      @NonNull UUID externalKey, @NonNull Function<UUID, Optional<Game>> loader) {
+    GameSnapshot snapshot = cache.getIfPresent(externalKey);
+    if (snapshot != null) {
+      return Optional.of(snapshot.restore());
+    }
+    long sequence = writes.get();
+    Optional<Game> game = loader.apply(externalKey);
+    game.ifPresent((loaded) -> cache
+        .asMap()
+        .compute(externalKey, (key, existing) -> (existing != null || writes.get() != sequence)
+            ? existing
+            : GameSnapshot.of(loaded)));
+    return game;
+  }
+
+  /**
+   * Caches a snapshot of the newly persisted {@code game}.
+   *
+   * @param game Persisted {@link Game} instance.
+   */
+  public void put(@NonNull Game game) {
+    cache.put(game.getExternalKey(), GameSnapshot.of(game));
+  }
+
+  /**
+   * Updates the cached snapshot of {@code game} to reflect its current summary state, when (and
+   * if) the current transaction commits. The update is applied only if the cached snapshot records
+   * {@code previousGuessCount} guesses; otherwise, the snapshot is invalidated.
+   *
+   * @param game               {@link Game} instance, updated by the submission of guesses.
+   * @param previousGuessCount Number of guesses recorded in {@code game} before the submission.
+   */
+  public void recordGuesses(@NonNull Game game, int previousGuessCount) {
+    GameSnapshot updated = GameSnapshot.of(game);
+    afterCommit(() -> {
+      writes.incrementAndGet();
+      cache
+          .asMap()
+          .computeIfPresent(updated.externalKey(), (key, existing) ->
+              (existing.guessCount() == previousGuessCount) ? updated : null);
+    });
+  }
+
+  /**
+   * Removes the snapshot with the specified {@code externalKey} (if any) from the cache.
+   *
+   * @param externalKey Unique identifier of {@link Game} instance.
+   */
+  public void invalidate(@NonNull UUID externalKey) {
+    writes.incrementAndGet();
+    cache.invalidate(externalKey);
+  }
+
+  /**
+   * Removes all snapshots from the cache.
+   */
+  public void invalidateAll() {
+    writes.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /**
+   * Returns the number of requests for a snapshot that were satisfied from the cache.
+   *
+   * @return (See above.)
+   */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * Returns the number of requests for a snapshot that required a database query.
+   *
+   * @return (See above.)
+   */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  /**
+   * Returns the number of snapshots evicted from the cache for size or time-to-live.
+   *
+   * @return (See above.)
+   */
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.dao.GameActivity;
+import edu.cnm.deepdive.codebreaker.model.dao.GameKey;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes games (and their guesses) in bulk, without loading them into memory. Games are deleted in
+ * chunks of at most {@code deletion.chunk-size} (an application property), either specified by
+ * external key (as when expired by {@link GameExpiryTracker}, and confirmed to be expired in the
+ * database), or selected in ascending primary key order; each chunk is deleted in its own
+ * transaction, with bulk statements that remove the guesses of the chunk before the games. The
+ * games of the chunk are locked first, so that guesses written concurrently (e.g. by
+ * {@link WriteBehindGuessService}) are either deleted with them or not written at all. Since every
+ * completed chunk is committed, and the selection of each chunk depends only on the remaining rows,
+ * an interrupted deletion may be resumed simply by running it again. The number of rows deleted and
+ * the elapsed time of each chunk are logged.
+ */
+@Service
+public class GameDeletionService {
+
+  private static final Logger logger = LoggerFactory.getLogger(GameDeletionService.class);
+
+  private final GameRepository gameRepository;
+  private final GuessRepository guessRepository;
+  private final GameCache gameCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  /**
+   * Initializes this instance with the repositories, cache, and transaction manager used for
+   * deletion, and the maximum number of games deleted in each chunk.
+   *
+   * @param gameRepository     Persistence operations provider for {@link
+   *                           edu.cnm.deepdive.codebreaker.model.entity.Game} instances.
+   * @param guessRepository    Persistence operations provider for {@link
+   *                           edu.cnm.deepdive.codebreaker.model.entity.Guess} instances.
+   * @param gameCache          Cache of game snapshots, from which deleted games are removed.
+   * @param transactionManager Transaction manager used to demarcate chunks.
+   * @param chunkSize          Maximum number of games deleted in a single transaction.
+   */
+  @Autowired
+  public GameDeletionService(GameRepository gameRepository, GuessRepository guessRepository,
+      GameCache gameCache, PlatformTransactionManager transactionManager,
+      @Value("${deletion.chunk-size:1000}") int chunkSize) {
+    this.gameRepository = gameRepository;
+    this.guessRepository = guessRepository;
+    this.gameCache = gameCache;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Deletes those of the games with the specified external keys (at most
+   * {@code deletion.chunk-size} of them) that are confirmed by {@code expired}, in a single
+   * transaction. Before reading or deleting any games, the transaction invokes {@code fence}, which
+   * may abort the deletion by throwing an exception. Keys of games that no longer exist are
+   * ignored.
+   *
+   * @param externalKeys Unique identifiers of {@link
+   *                     edu.cnm.deepdive.codebreaker.model.entity.Game} instances.
+   * @param expired      Filter confirming, from the current (persistent) state of each game, that
+   *                     the game has expired.
+   * @param fence        Check (e.g. {@link LeaseService#fence(String)}) that deletion is still
+   *                     permitted.
+   * @return Number of games deleted.
+   */
+  public int deleteExpired(@NonNull Collection<UUID> externalKeys,
+      @NonNull Predicate<GameActivity> expired, @NonNull Runnable fence) {
+    long start = System.nanoTime();
+    ChunkResult result = transactionTemplate.execute((status) -> {
+      fence.run();
+      List<GameKey> keys = gameRepository
+          .findActivityByExternalKeys(externalKeys)
+          .stream()
+          .filter(expired)
+          .map(GameKey.class::cast)
+          .toList();
+      return deleteChunk(keys);
+    });
+    result.keys.forEach((key) -> gameCache.invalidate(key.getExternalKey()));
+    logger.debug("Deleted {} games and {} guesses (of {} games requested) in {} ms",
+        result.games, result.guesses, externalKeys.size(), (System.nanoTime() - start) / 1_000_000);
+    return result.games;
+  }
+
+  /**
+   * Deletes all games.
+   *
+   * @return Number of games deleted.
+   */
+  public long deleteAll() {
+    long totalGames = 0;
+    long totalGuesses = 0;
+    long after = 0;
+    for (int chunk = 1; ; chunk++) {
+      long start = System.nanoTime();
+      long lowerBound = after;
+      ChunkResult result = transactionTemplate.execute((status) ->
+          deleteChunk(gameRepository.findKeys(lowerBound, Limit.of(chunkSize))));
+      if (result.keys.isEmpty()) {
+        break;
+      }
+      result.keys.forEach((key) -> gameCache.invalidate(key.getExternalKey()));
+      after = result.keys.get(result.keys.size() - 1).getId();
+      totalGames += result.games;
+      totalGuesses += result.guesses;
+      logger.info("Deleted {} games and {} guesses (chunk {}, ids {}-{}) in {} ms",
+          result.games, result.guesses, chunk, result.keys.get(0).getId(), after,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+    logger.info("Deleted {} games and {} guesses in total", totalGames, totalGuesses);
+    return totalGames;
+  }
+
+  private ChunkResult deleteChunk(List<GameKey> keys) {
+    if (keys.isEmpty()) {
+      return new ChunkResult(keys, 0, 0);
+    }
+    List<Long> ids = keys
+        .stream()
+        .map(GameKey::getId)
+        .toList();
+    gameRepository.lockAllByIds(ids);
+    int guesses = guessRepository.deleteAllByGameIds(ids);
+    int games = gameRepository.deleteAllByIds(ids);
+    return new ChunkResult(keys, games, guesses);
+  }
+
+  private record ChunkResult(List<GameKey> keys, int games, int guesses) {
+
+  }
+
+}
@@ -0,0 +1,260 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.dao.GameActivity;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks the expiry time of every game&mdash;that is, the time of its most recent activity
+ * (creation, or the submission of a guess), plus its time-to-live&mdash;in memory, so that expired
+ * games can be found and deleted continuously, a few at a time, rather than in a daily sweep. The
+ * time-to-live of a game is {@link Game#getTtlMinutes()}, if set; otherwise, it is the number of
+ * days set by the {@code schedule.stale-game-days} application property.
+ * <p>
+ * The current expiry time of each game is kept in a concurrent map, which is updated (without
+ * locking) on each activity; the games are also scheduled on a {@link TimingWheel}, at their expiry
+ * times as of when they were scheduled. When a game is reached on the wheel, it is expired only if
+ * its current expiry time has passed; otherwise, it is rescheduled at its current expiry time.
+ * </p>
+ * <p>
+ * Since activity may be recorded by any of several service nodes sharing a database, the node
+ * deleting expired games loads the games created by other nodes with {@link #refresh()}, and
+ * confirms each expiry against the database with {@link #confirm(GameActivity, long)}. Only that
+ * node needs to track expiry times, so activity is ignored (and nothing is held in memory) until
+ * tracking is started, by {@link #start()} or {@link #rebuild()}; when the node stops deleting
+ * expired games (e.g. on losing its lease), it discards everything tracked with {@link #stop()}.
+ * </p>
+ */
+@Service
+public class GameExpiryTracker {
+
+  private static final int REBUILD_CHUNK_SIZE = 10_000;
+
+  private final GameRepository repository;
+  private final long defaultTtlMillis;
+  private final long tickMillis;
+  private final ConcurrentMap<UUID, Long> expiries;
+  private final Lock wheelLock;
+  private final AtomicLong highestId;
+  private TimingWheel<UUID> wheel;
+  private volatile boolean tracking;
+
+  /**
+   * Initializes this instance with the {@link GameRepository} used to rebuild it, the default
+   * time-to-live of games, and the tick duration of its timing wheel.
+   *
+   * @param repository    Persistence operations provider.
+   * @param staleGameDays Default time-to-live of games, in days.
+   * @param tickMillis    Tick duration (and expiry time resolution), in milliseconds.
+   */
+  @Autowired
+  public GameExpiryTracker(GameRepository repository,
+      @Value("${schedule.stale-game-days:14}") int staleGameDays,
+      @Value("${expiry.tick-millis:1000}") long tickMillis) {
+    this.repository = repository;
+    defaultTtlMillis = TimeUnit.DAYS.toMillis(staleGameDays);
+    this.tickMillis = tickMillis;
+    expiries = new ConcurrentHashMap<>();
+    wheel = new TimingWheel<>(tickMillis, System.currentTimeMillis());
+    wheelLock = new ReentrantLock();
+    highestId = new AtomicLong();
+  }
+
+  /**
+   * Starts tracking the expiry times of games, as activity is recorded.
+   */
+  public void start() {
+    tracking = true;
+  }
+
+  /**
+   * Stops tracking the expiry times of games, discarding those tracked; until tracking is started
+   * again, recorded activity is ignored.
+   */
+  public void stop() {
+    tracking = false;
+    wheelLock.lock();
+    try {
+      expiries.clear();
+      wheel = new TimingWheel<>(tickMillis, System.currentTimeMillis());
+      highestId.set(0);
+    } finally {
+      wheelLock.unlock();
+    }
+  }
+
+  /**
+   * Starts tracking the expiry times of games, beginning with all games recorded in the database.
+   *
+   * @return Number of games loaded.
+   */
+  public int rebuild() {
+    start();
+    return load(0);
+  }
+
+  /**
+   * Tracks the expiry times of all games recorded in the database (by any node) since the most
+   * recent invocation of {@link #rebuild()} or {@code refresh()}.
+   *
+   * @return Number of games loaded.
+   */
+  public int refresh() {
+    return load(highestId.get());
+  }
+
+  /**
+   * Returns {@code true} if the specified game, according to its persistent {@code activity}
+   * state, has expired; otherwise, tracks the game with its persistent expiry time, and returns
+   * {@code false}. This is used to confirm that a game has expired before deleting it, since
+   * activity in the game may have been recorded by another node.
+   *
+   * @param activity  Activity state of {@link Game} instance.
+   * @param nowMillis Current time, in milliseconds since the epoch.
+   * @return (See above.)
+   */
+  public boolean confirm(@NonNull GameActivity activity, long nowMillis) {
+    if (expiry(activity.getLastActivity(), activity.getTtlMinutes()) <= nowMillis) {
+      return true;
+    }
+    record(activity.getExternalKey(), activity.getLastActivity(), activity.getTtlMinutes());
+    return false;
+  }
+
+  /**
+   * Records activity in {@code game} at {@code timestamp}, extending its expiry time, if expiry
+   * times are being tracked.
+   *
+   * @param game      {@link Game} instance.
+   * @param timestamp Time of activity.
+   */
+  public void record(@NonNull Game game, @NonNull Date timestamp) {
+    if (tracking) {
+      record(game.getExternalKey(), timestamp, game.getTtlMinutes());
+    }
+  }
+
+  /**
+   * Stops tracking the game with the specified {@code externalKey}.
+   *
+   * @param externalKey Unique identifier of {@link Game} instance.
+   */
+  public void forget(@NonNull UUID externalKey) {
+    expiries.remove(externalKey);
+  }
+
+  /**
+   * Stops tracking all games.
+   */
+  public void clear() {
+    expiries.clear();
+  }
+
+  /**
+   * Returns the external keys of all games that have expired since the previous invocation, and
+   * stops tracking them.
+   *
+   * @param nowMillis Current time, in milliseconds since the epoch.
+   * @return External keys of expired games.
+   */
+  public List<UUID> expire(long nowMillis) {
+    List<UUID> expired = new ArrayList<>();
+    wheelLock.lock();
+    try {
+      wheel.advance(nowMillis, (key) -> {
+        Long expiry = expiries.get(key);
+        if (expiry == null) {
+          return;
+        }
+        if (expiry <= nowMillis && expiries.remove(key, expiry)) {
+          expired.add(key);
+        } else {
+          expiry = expiries.get(key);
+          if (expiry != null) {
+            wheel.schedule(key, expiry);
+          }
+        }
+      });
+    } finally {
+      wheelLock.unlock();
+    }
+    return expired;
+  }
+
+  /**
+   * Returns the number of games currently tracked.
+   *
+   * @return (See above.)
+   */
+  public int size() {
+    return expiries.size();
+  }
+
+  private int load(long after) {
+    int count = 0;
+    List<GameActivity> chunk;
+    do {
+      chunk = repository.findActivity(after, Limit.of(REBUILD_CHUNK_SIZE));
+      for (GameActivity activity : chunk) {
+        record(activity.getExternalKey(), activity.getLastActivity(), activity.getTtlMinutes());
+        after = activity.getId();
+      }
+      count += chunk.size();
+    } while (chunk.size() == REBUILD_CHUNK_SIZE);
+    highestId.accumulateAndGet(after, Math::max);
+    return count;
+  }
+
+  private long expiry(Date timestamp, Integer ttlMinutes) {
+    return timestamp.getTime()
+        + ((ttlMinutes != null) ? TimeUnit.MINUTES.toMillis(ttlMinutes) : defaultTtlMillis);
+  }
+
+  private void record(UUID externalKey, Date timestamp, Integer ttlMinutes) {
+    long expiry = expiry(timestamp, ttlMinutes);
+    boolean[] added = new boolean[1];
+    expiries.compute(externalKey, (key, current) -> {
+      added[0] = (current == null);
+      return added[0] ? expiry : Math.max(current, expiry);
+    });
+    if (added[0]) {
+      wheelLock.lock();
+      try {
+        wheel.schedule(externalKey, expiry);
+      } finally {
+        wheelLock.unlock();
+      }
+    }
+  }
+
+}
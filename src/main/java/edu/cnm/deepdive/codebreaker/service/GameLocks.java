@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.ServiceBusyException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serializes operations on individual {@link Game} instances within this service node, using a
+ * fixed table of locks striped by external key. Operations on the same game are executed one at a
+ * time, in the order in which the lock is granted; operations on different games proceed in
+ * parallel, unless their keys happen to map to the same stripe. Since the table is fixed in size
+ * (the configured {@code game-lock.stripes}, rounded up to a power of 2), no per-game state is
+ * created or retained.
+ * <p>
+ * A thread that can't acquire the lock of a game within {@code game-lock.wait-millis}
+ * milliseconds fails with {@link ServiceBusyException}. Lock activity is published to Micrometer:
+ * acquisitions (tagged with the outcome, {@code uncontended}, {@code contended}, or
+ * {@code timed-out}) as {@code game.lock.acquisitions}; the time spent waiting for contended locks
+ * as {@code game.lock.wait}; and the time for which locks are held as {@code game.lock.held}.
+ * </p>
+ */
+@Service
+public class GameLocks {
+
+  private static final String ACQUISITIONS_METER = "game.lock.acquisitions";
+  private static final String WAIT_METER = "game.lock.wait";
+  private static final String HELD_METER = "game.lock.held";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String UNCONTENDED_OUTCOME = "uncontended";
+  private static final String CONTENDED_OUTCOME = "contended";
+  private static final String TIMED_OUT_OUTCOME = "timed-out";
+
+  private final Lock[] stripes;
+  private final int mask;
+  private final long waitNanos;
+  private final Counter uncontended;
+  private final Counter contended;
+  private final Counter timedOut;
+  private final Timer waitTimer;
+  private final Timer heldTimer;
+
+  /**
+   * Initializes this instance with the specified number of stripes and maximum wait, and the
+   * registry to which lock metrics are published.
+   *
+   * @param registry   Micrometer meter registry.
+   * @param stripes    Minimum number of locks in the table.
+   * @param waitMillis Maximum time to wait for a lock, in milliseconds.
+   */
+  @Autowired
+  public GameLocks(MeterRegistry registry,
+      @Value("${game-lock.stripes:1024}") int stripes,
+      @Value("${game-lock.wait-millis:5000}") long waitMillis) {
+    int size = (stripes > 1) ? Integer.highestOneBit(stripes - 1) << 1 : 1;
+    this.stripes = new Lock[size];
+    for (int index = 0; index < size; index++) {
+      this.stripes[index] = new ReentrantLock();
+    }
+    mask = size - 1;
+    waitNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+    uncontended = counter(registry, UNCONTENDED_OUTCOME);
+    contended = counter(registry, CONTENDED_OUTCOME);
+    timedOut = counter(registry, TIMED_OUT_OUTCOME);
+    waitTimer = Timer
+        .builder(WAIT_METER)
+        .register(registry);
+    heldTimer = Timer
+        .builder(HELD_METER)
+        .register(registry);
+  }
+
+  /**
+   * Invokes {@code action} while holding the lock of the {@link Game} with the specified external
+   * key, and returns its result.
+   *
+   * @param externalKey Unique identifier of {@link Game}.
+   * @param action      Operation to be serialized with other operations on the same game.
+   * @param <T>         Type of result of {@code action}.
+   * @return Result of {@code action}.
+   * @throws ServiceBusyException If the lock can't be acquired within the configured time.
+   */
+  public <T> T withLock(@NonNull UUID externalKey, @NonNull Supplier<T> action)
+      throws ServiceBusyException {
+    Lock lock = stripes[index(externalKey)];
+    if (lock.tryLock()) {
+      uncontended.increment();
+    } else {
+      acquire(lock);
+    }
+    long acquired = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+      heldTimer.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void acquire(Lock lock) throws ServiceBusyException {
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = lock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (!acquired) {
+      timedOut.increment();
+      throw new ServiceBusyException();
+    }
+    contended.increment();
+  }
+
+  private int index(UUID externalKey) {
+    int hash = externalKey.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private static Counter counter(MeterRegistry registry, String outcome) {
+    return Counter
+        .builder(ACQUISITIONS_METER)
+        .tag(OUTCOME_TAG, outcome)
+        .register(registry);
+  }
+
+}
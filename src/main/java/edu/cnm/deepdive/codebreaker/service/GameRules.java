@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implements the rules of the game, independently of any persistence or web framework: validating
+ * the character pool and generating the secret text of a new {@link Game}; and validating a
+ * {@link Guess} (for length and included characters) and scoring it against the code. This class
+ * is used by both the servlet ({@link GameService}, {@link GuessService}) and reactive
+ * ({@link ReactiveGameService}, {@link ReactiveGuessService}) service implementations, so that the
+ * two behave identically.
+ */
+public final class GameRules {
+
+  private static final String POOL_PROPERTY = "pool";
+  private static final String INVALID_POOL_CHARACTER_MESSAGE =
+      "must not contain whitespace, control, or undefined characters";
+  private static final String TEXT_PROPERTY = "text";
+  private static final String INVALID_CHARACTER_FORMAT =
+      "must contain no characters other than \"%s\"";
+  private static final String INVALID_LENGTH_FORMAT =
+      "must have a length exactly equal to the code length (%d characters)";
+
+  private GameRules() {
+  }
+
+  /**
+   * Prepares {@code game} to be started, by removing duplicated characters from its pool and (if
+   * it doesn't already have one) generating its secret text.
+   *
+   * @param game      {@link Game} specifying the character pool and length of the code.
+   * @param generator Strategy used to generate the secret text.
+   * @throws InvalidPropertyException If the pool contains whitespace, control, or undefined (i.e.
+   *                                  not present in the Unicode Character Database) characters.
+   */
+  public static void prepare(Game game, SecretGenerator generator)
+      throws InvalidPropertyException {
+    int[] pool = game
+        .getPool()
+        .codePoints()
+        .distinct()
+        .toArray();
+    if (
+        IntStream
+            .of(pool)
+            .anyMatch(GameRules::isInvalidCodePoint)
+    ) {
+      throw new InvalidPropertyException(POOL_PROPERTY, INVALID_POOL_CHARACTER_MESSAGE);
+    }
+    game.setPool(new String(pool, 0, pool.length));
+    if (game.getText() == null) {
+      int[] secret = generator.generate(pool, game.getLength());
+      game.setText(new String(secret, 0, secret.length));
+    }
+  }
+
+  /**
+   * Verifies that {@code game} has not already been solved.
+   *
+   * @param game {@link Game} against which guesses are being submitted.
+   * @throws AlreadySolvedException If {@code game} has already been solved.
+   */
+  public static void validateUnsolved(Game game) throws AlreadySolvedException {
+    if (game.isSolved()) {
+      throw new AlreadySolvedException();
+    }
+  }
+
+  /**
+   * Validates {@code guess} against {@code game}, computes the numbers of exact and near matches
+   * between the guess and the code, and associates the guess with the game.
+   *
+   * @param game  {@link Game} with the secret code being guessed.
+   * @param guess Submitted attempt to guess the secret code.
+   * @throws InvalidPropertyException If the guess contains characters not in the pool of
+   *                                  {@code game}, or its length differs from that of the code.
+   */
+  public static void match(Game game, Guess guess) throws InvalidPropertyException {
+    CodePool codePool = game.getCodePool();
+    int length = codePool.lengthOf(guess.getText());
+    if (length < 0) {
+      throw new InvalidPropertyException(
+          TEXT_PROPERTY, String.format(INVALID_CHARACTER_FORMAT, game.getPool()));
+    }
+    if (length != game.getLength()) {
+      throw new InvalidPropertyException(
+          TEXT_PROPERTY, String.format(INVALID_LENGTH_FORMAT, game.getLength()));
+    }
+    int score = codePool.score(game.getEncodedText(), guess.getText());
+    guess.setExactMatches(CodePool.exactMatches(score));
+    guess.setNearMatches(CodePool.nearMatches(score));
+    guess.setGame(game);
+  }
+
+  /**
+   * Validates and matches each of {@code guesses}, in order, as described for
+   * {@link #match(Game, Guess)}, stopping at the first guess that matches the code exactly.
+   *
+   * @param game    {@link Game} with the secret code being guessed.
+   * @param guesses Submitted attempts to guess the secret code, in order of submission.
+   * @return Matched guesses, in order of submission, up to and including the first exact match (if
+   * any).
+   * @throws InvalidPropertyException If any of the processed guesses fails validation.
+   */
+  public static List<Guess> matchAll(Game game, List<Guess> guesses)
+      throws InvalidPropertyException {
+    List<Guess> matched = new ArrayList<>(guesses.size());
+    for (Guess guess : guesses) {
+      match(game, guess);
+      matched.add(guess);
+      if (guess.isSolution()) {
+        break;
+      }
+    }
+    return matched;
+  }
+
+  private static boolean isInvalidCodePoint(int codePoint) {
+    return !Character.isDefined(codePoint)
+        || Character.isWhitespace(codePoint)
+        || Character.isISOControl(codePoint);
+  }
+
+}
@@ -16,77 +16,110 @@
 package edu.cnm.deepdive.codebreaker.service;
 
 import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.diagnostics.GameCreatedEvent;
+import edu.cnm.deepdive.codebreaker.diagnostics.GameFetchedEvent;
 import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Optional;
-import java.util.Random;
 import java.util.UUID;
-import java.util.stream.IntStream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
 /**
  * Implements high-level operations on new and existing {@link Game} instances. These operations
- * include validating the character pools for new codes, by removing duplicated characters and
- * checking for whitespace, control, and undefined (i.e. not present in the Unicode Character
- * Database) characters; generating the random text for new codes; retrieving a single game using
- * its external key; defining and applying query filters to select all codes, solved codes only,
- * and unsolved codes only; deleting a single game; and deleting all codes.
+ * include validating the character pools and generating the random text for new codes (via
+ * {@link GameRules}); retrieving a single game using its external key (via {@link GameCache}, with
+ * the summary state of any guesses not yet written applied from {@link PendingGameSummaries});
+ * defining and applying query filters to select all codes, solved codes only, and unsolved codes
+ * only; deleting a single game; and deleting all codes.
+ * <p>
+ * The total time taken to start a game is published to Micrometer as {@code game.service.add}, and
+ * the time taken to validate the pool and generate the code as {@code game.service.prepare}.
+ * Starting and retrieving games are also recorded as the JFR events {@link GameCreatedEvent} and
+ * {@link GameFetchedEvent}.
+ * </p>
  */
 @SuppressWarnings("JavadocDeclaration")
 @Service
+@Profile("!memory")
 public class GameService implements AbstractGameService {
 
-  private static final String POOL_PROPERTY = "pool";
-  private static final String INVALID_CHARACTER_MESSAGE =
-      "must not contain whitespace, control, or undefined characters";
+  private static final String ADD_METER = "game.service.add";
+  private static final String PREPARE_METER = "game.service.prepare";
 
   private final GameRepository gameRepository;
-  private final Random rng;
+  private final GameCache gameCache;
+  private final GameDeletionService deletionService;
+  private final GameExpiryTracker expiryTracker;
+  private final PendingGameSummaries summaries;
+  private final SecretGenerator secretGenerator;
+  private final Timer addTimer;
+  private final Timer prepareTimer;
 
   /**
-   * Initialize this instance by injecting the required {@link GameRepository} and {@link Random}.
+   * Initialize this instance by injecting the required {@link GameRepository}, {@link GameCache},
+   * {@link GameDeletionService}, {@link GameExpiryTracker},
+   * {@link PendingGameSummaries}, {@link SecretGenerator}, and {@link MeterRegistry}.
    *
    * @param gameRepository
-   * @param rng
+   * @param gameCache
+   * @param deletionService
+   * @param expiryTracker
+   * @param summaries
+   * @param secretGenerator
+   * @param registry
    */
   @Autowired
-  public GameService(GameRepository gameRepository, Random rng) {
+  public GameService(GameRepository gameRepository, GameCache gameCache,
+      GameDeletionService deletionService, GameExpiryTracker expiryTracker,
+      PendingGameSummaries summaries, SecretGenerator secretGenerator, MeterRegistry registry) {
     this.gameRepository = gameRepository;
-    this.rng = rng;
+    this.gameCache = gameCache;
+    this.deletionService = deletionService;
+    this.expiryTracker = expiryTracker;
+    this.summaries = summaries;
+    this.secretGenerator = secretGenerator;
+    addTimer = Timer
+        .builder(ADD_METER)
+        .description("Time taken to start a game")
+        .register(registry);
+    prepareTimer = Timer
+        .builder(PREPARE_METER)
+        .description("Time taken to validate the pool and generate the code of a game")
+        .register(registry);
   }
 
   @Override
   public Game add(@NonNull Game game) throws InvalidPropertyException {
-    int[] pool = game
-        .getPool()
-        .codePoints()
-        .distinct()
-        .toArray();
-    if (
-        IntStream
-            .of(pool)
-            .anyMatch(GameService::isInvalidCodePoint)
-    ) {
-      throw new InvalidPropertyException(POOL_PROPERTY, INVALID_CHARACTER_MESSAGE);
-    }
-    game.setPool(new String(pool, 0, pool.length));
-    if (game.getText() == null) {
-      int[] secret = IntStream
-          .generate(() -> pool[rng.nextInt(pool.length)])
-          .limit(game.getLength())
-          .toArray();
-      String text = new String(secret, 0, secret.length);
-      game.setText(text);
-    }
-    return gameRepository.save(game);
+    GameCreatedEvent event = new GameCreatedEvent();
+    event.begin();
+    return addTimer.record(() -> {
+      prepareTimer.record(() -> GameRules.prepare(game, secretGenerator));
+      Game saved = gameRepository.save(game);
+      gameCache.put(saved);
+      expiryTracker.record(saved, saved.getCreated());
+      event.complete(saved);
+      return saved;
+    });
   }
 
   @Override
   public Optional<Game> get(@NonNull UUID externalKey) {
+    GameFetchedEvent event = new GameFetchedEvent();
+    event.begin();
     try {
-      return gameRepository.findByExternalKey(externalKey);
+      Optional<Game> game = gameCache
+          .get(externalKey, (key) -> {
+            event.miss();
+            return gameRepository.findByExternalKey(key);
+          })
+          .map(summaries::apply);
+      event.complete(game.orElse(null));
+      return game;
     } catch (IllegalArgumentException e) {
       return Optional.empty();
     }
@@ -94,18 +127,16 @@ public class GameService implements AbstractGameService {
 
   @Override
   public void remove(@NonNull Game game) {
-    gameRepository.delete(game);
+    gameRepository.deleteById(game.getId());
+    gameCache.invalidate(game.getExternalKey());
+    expiryTracker.forget(game.getExternalKey());
   }
 
   @Override
   public void clear() {
-    gameRepository.deleteAll();
-  }
-
-  private static boolean isInvalidCodePoint(int codePoint) {
-    return !Character.isDefined(codePoint)
-        || Character.isWhitespace(codePoint)
-        || Character.isISOControl(codePoint);
+    deletionService.deleteAll();
+    gameCache.invalidateAll();
+    expiryTracker.clear();
   }
 
 }
@@ -0,0 +1,569 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Append-only log of submitted guesses, written to a sequence of fixed-size, memory-mapped segment
+ * files. Each guess is written as a fixed-size record (see {@link Entry}), holding its log
+ * sequence number, the primary key of its game, its external key, its submission timestamp, its
+ * match counts, and its text (as pool-index bytes, encoded by {@link CodePool#encode(String)}),
+ * followed by a CRC-32C checksum of those fields.
+ * <p>
+ * Appending a record only copies it into the mapped segment; {@link #awaitDurable(long)} blocks
+ * until it has been forced to disk. Forcing is done by a single flusher thread (group commit), at
+ * most once every {@code guess-log.fsync-interval-millis} milliseconds, so that all of the records
+ * appended during that interval are made durable with a single write to the storage device.
+ * </p>
+ * <p>
+ * When the log is opened, every retained segment is scanned, and the log is truncated after the
+ * last record that is both in sequence and intact; the records retained are those that have not
+ * been released (see {@link #release(long)}) after being copied to the database.
+ * </p>
+ */
+@Service
+@Profile("wal & !memory")
+public class GuessLog {
+
+  private static final Logger logger = LoggerFactory.getLogger(GuessLog.class);
+
+  /** Size (in bytes) of each record in a segment. */
+  public static final int RECORD_SIZE = 72;
+
+  private static final int SEQUENCE_OFFSET = 0;
+  private static final int GAME_ID_OFFSET = 8;
+  private static final int KEY_HIGH_OFFSET = 16;
+  private static final int KEY_LOW_OFFSET = 24;
+  private static final int TIMESTAMP_OFFSET = 32;
+  private static final int EXACT_MATCHES_OFFSET = 40;
+  private static final int NEAR_MATCHES_OFFSET = 41;
+  private static final int LENGTH_OFFSET = 42;
+  private static final int TEXT_OFFSET = 44;
+  private static final int CHECKSUM_OFFSET = 64;
+  private static final int MAX_TEXT_LENGTH = CHECKSUM_OFFSET - TEXT_OFFSET;
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String SEGMENT_NAME_FORMAT = "%020d" + SEGMENT_SUFFIX;
+  private static final String CLOSED_MESSAGE = "Guess log is closed";
+
+  private final Path directory;
+  private final int segmentRecords;
+  private final long fsyncIntervalNanos;
+  private final ConcurrentNavigableMap<Long, Segment> segments;
+  private final Lock appendLock;
+  private final Lock syncLock;
+  private final Condition appended;
+  private final Condition synced;
+  private final long recoveredThrough;
+  private final Thread flusher;
+  private Segment active;
+  private long nextSequence;
+  private volatile long written;
+  private volatile long durable;
+  private volatile boolean open;
+  private volatile IOException failure;
+
+  /**
+   * Opens (or creates) the log in the specified directory, recovering any retained segments, and
+   * starts the flusher thread.
+   *
+   * @param directory           Directory containing the segment files.
+   * @param segmentRecords      Capacity (in records) of each new segment.
+   * @param fsyncIntervalMillis Minimum interval between successive forces of the log to disk.
+   * @throws IOException If the directory or a segment file can't be read or created.
+   */
+  @Autowired
+  public GuessLog(
+      @Value("${guess-log.directory}") String directory,
+      @Value("${guess-log.segment-records:65536}") int segmentRecords,
+      @Value("${guess-log.fsync-interval-millis:2}") long fsyncIntervalMillis) throws IOException {
+    this.directory = Path.of(directory);
+    this.segmentRecords = segmentRecords;
+    fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    segments = new ConcurrentSkipListMap<>();
+    appendLock = new ReentrantLock();
+    syncLock = new ReentrantLock();
+    appended = syncLock.newCondition();
+    synced = syncLock.newCondition();
+    recoveredThrough = recover();
+    nextSequence = recoveredThrough + 1;
+    written = recoveredThrough;
+    durable = recoveredThrough;
+    open = true;
+    flusher = new Thread(this::flush, "guess-log-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * Appends a record of a guess to the log, and returns its sequence number. The record is not
+   * necessarily durable until {@link #awaitDurable(long)} returns for that sequence number (or a
+   * later one).
+   *
+   * @param gameId       Primary key of the game in which the guess was submitted.
+   * @param externalKey  External identifier of the guess.
+   * @param timestamp    Submission time of the guess, in milliseconds since the epoch.
+   * @param exactMatches Number of exact matches.
+   * @param nearMatches  Number of near matches.
+   * @param text         Text of the guess, encoded as pool indices.
+   * @return Sequence number of the record.
+   * @throws IOException If a new segment is required, but can't be created, or if the log has
+   *                     failed or been closed.
+   */
+  public long append(long gameId, @NonNull UUID externalKey, long timestamp, int exactMatches,
+      int nearMatches, @NonNull byte[] text) throws IOException {
+    if (text.length > MAX_TEXT_LENGTH) {
+      throw new IllegalArgumentException();
+    }
+    appendLock.lock();
+    try {
+      checkAvailable();
+      if (nextSequence - active.first >= active.capacity) {
+        roll();
+      }
+      long sequence = nextSequence++;
+      active.write((int) (sequence - active.first),
+          new Entry(sequence, gameId, externalKey, timestamp, exactMatches, nearMatches, text));
+      written = sequence;
+      return sequence;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until the record with the specified sequence number (and every record before it) has
+   * been forced to disk.
+   *
+   * @param sequence Sequence number returned by {@link #append(long, UUID, long, int, int,
+   *                 byte[])}.
+   * @throws IOException If the log can't be forced to disk, has been closed, or the current thread
+   *                     is interrupted while waiting.
+   */
+  public void awaitDurable(long sequence) throws IOException {
+    if (durable >= sequence) {
+      return;
+    }
+    syncLock.lock();
+    try {
+      appended.signal();
+      while (durable < sequence) {
+        checkAvailable();
+        synced.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /**
+   * Returns up to {@code limit} durable records, in sequence order, starting with the one after
+   * sequence number {@code after}.
+   *
+   * @param after Sequence number of the last record previously read.
+   * @param limit Maximum number of records to return.
+   * @return Durable records following {@code after}.
+   */
+  public List<Entry> read(long after, int limit) {
+    long start = Math.max(after, getFirstSequence() - 1);
+    long end = Math.min(durable, start + limit);
+    List<Entry> records = new ArrayList<>((int) Math.max(0, end - start));
+    for (long sequence = start + 1; sequence <= end; sequence++) {
+      Map.Entry<Long, Segment> entry = segments.floorEntry(sequence);
+      records.add(entry.getValue().read((int) (sequence - entry.getKey())));
+    }
+    return records;
+  }
+
+  /**
+   * Deletes every full segment in which all records have sequence numbers no greater than
+   * {@code through}. The segment currently being appended to is never deleted.
+   *
+   * @param through Sequence number of the last record that is no longer needed.
+   * @return Number of segments deleted.
+   * @throws IOException If a segment file can't be deleted.
+   */
+  public int release(long through) throws IOException {
+    int released = 0;
+    for (Iterator<Segment> iterator = segments.values().iterator(); iterator.hasNext(); ) {
+      Segment segment = iterator.next();
+      if (segment.first + segment.capacity - 1 > through
+          || segments.higherKey(segment.first) == null) {
+        break;
+      }
+      iterator.remove();
+      segment.delete();
+      released++;
+    }
+    return released;
+  }
+
+  /**
+   * Returns the sequence number of the first retained record.
+   *
+   * @return (See above.)
+   */
+  public long getFirstSequence() {
+    return segments.firstKey();
+  }
+
+  /**
+   * Returns the sequence number of the last record recovered when the log was opened, or one less
+   * than {@link #getFirstSequence()} if no records were recovered.
+   *
+   * @return (See above.)
+   */
+  public long getRecoveredThrough() {
+    return recoveredThrough;
+  }
+
+  /**
+   * Returns the sequence number of the last record forced to disk.
+   *
+   * @return (See above.)
+   */
+  public long getDurableSequence() {
+    return durable;
+  }
+
+  /**
+   * Stops the flusher thread, forces any remaining records to disk, and closes the segment files.
+   * Threads waiting for records to become durable are released with an exception.
+   *
+   * @throws IOException If the segment files can't be forced or closed.
+   */
+  @PreDestroy
+  public void close() throws IOException {
+    appendLock.lock();
+    try {
+      open = false;
+    } finally {
+      appendLock.unlock();
+    }
+    syncLock.lock();
+    try {
+      appended.signalAll();
+      synced.signalAll();
+    } finally {
+      syncLock.unlock();
+    }
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      if (failure == null) {
+        force(durable + 1, written);
+      }
+    } finally {
+      for (Segment segment : segments.values()) {
+        segment.close();
+      }
+    }
+  }
+
+  private long recover() throws IOException {
+    Files.createDirectories(directory);
+    List<Path> paths;
+    try (Stream<Path> files = Files.list(directory)) {
+      paths = files
+          .filter((path) -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted()
+          .toList();
+    }
+    long expected = -1;
+    boolean truncated = false;
+    for (Path path : paths) {
+      String name = path.getFileName().toString();
+      long first = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+      if (truncated || (expected >= 0 && first != expected)) {
+        logger.warn("Guess log truncated at sequence {}; removing segment {}", expected, path);
+        Files.delete(path);
+        continue;
+      }
+      Segment segment = Segment.open(path, first);
+      segments.put(first, segment);
+      int count = segment.scan();
+      expected = first + count;
+      if (count < segment.capacity) {
+        segment.clear(count);
+        active = segment;
+        truncated = true;
+      }
+    }
+    if (active == null) {
+      long first = (expected >= 0) ? expected : 1;
+      active = Segment.create(directory.resolve(String.format(SEGMENT_NAME_FORMAT, first)), first,
+          segmentRecords);
+      segments.put(first, active);
+      expected = first;
+    }
+    return expected - 1;
+  }
+
+  private void roll() throws IOException {
+    try {
+      Segment segment = Segment.create(
+          directory.resolve(String.format(SEGMENT_NAME_FORMAT, nextSequence)), nextSequence,
+          segmentRecords);
+      segments.put(nextSequence, segment);
+      active = segment;
+    } catch (IOException e) {
+      failure = e;
+      throw e;
+    }
+  }
+
+  private void flush() {
+    long lastForce = System.nanoTime() - fsyncIntervalNanos;
+    while (true) {
+      syncLock.lock();
+      try {
+        while (open && written == durable) {
+          appended.await();
+        }
+        if (!open) {
+          return;
+        }
+      } catch (InterruptedException e) {
+        return;
+      } finally {
+        syncLock.unlock();
+      }
+      long remaining = lastForce + fsyncIntervalNanos - System.nanoTime();
+      if (remaining > 0) {
+        LockSupport.parkNanos(remaining);
+      }
+      long target = written;
+      try {
+        force(durable + 1, target);
+      } catch (IOException e) {
+        failure = e;
+      }
+      lastForce = System.nanoTime();
+      syncLock.lock();
+      try {
+        if (failure == null) {
+          durable = target;
+        }
+        synced.signalAll();
+      } finally {
+        syncLock.unlock();
+      }
+      if (failure != null) {
+        return;
+      }
+    }
+  }
+
+  private void force(long from, long through) throws IOException {
+    if (from > through) {
+      return;
+    }
+    try {
+      for (Segment segment : segments.tailMap(segments.floorKey(from), true).values()) {
+        if (segment.first > through) {
+          break;
+        }
+        long start = Math.max(from, segment.first) - segment.first;
+        long end = Math.min(through, segment.first + segment.capacity - 1) - segment.first;
+        segment.force((int) start, (int) end);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void checkAvailable() throws IOException {
+    if (failure != null) {
+      throw new IOException(failure);
+    }
+    if (!open) {
+      throw new IOException(CLOSED_MESSAGE);
+    }
+  }
+
+  /**
+   * Record of a single guess in the log.
+   *
+   * @param sequence     Sequence number of the record.
+   * @param gameId       Primary key of the game in which the guess was submitted.
+   * @param externalKey  External identifier of the guess.
+   * @param timestamp    Submission time of the guess, in milliseconds since the epoch.
+   * @param exactMatches Number of exact matches.
+   * @param nearMatches  Number of near matches.
+   * @param text         Text of the guess, encoded as pool indices.
+   */
+  public record Entry(
+      long sequence,
+      long gameId,
+      @NonNull UUID externalKey,
+      long timestamp,
+      int exactMatches,
+      int nearMatches,
+      @NonNull byte[] text
+  ) {
+
+    /**
+     * Decodes and returns the text of the guess, using the pool of its game.
+     *
+     * @param codePool Pool of the game in which the guess was submitted.
+     * @return (See above.)
+     */
+    public String decode(@NonNull CodePool codePool) {
+      int[] codePoints = new int[text.length];
+      for (int position = 0; position < text.length; position++) {
+        codePoints[position] = codePool.codePointAt(text[position] & 0xff);
+      }
+      return new String(codePoints, 0, codePoints.length);
+    }
+
+  }
+
+  private static final class Segment {
+
+    private final Path path;
+    private final long first;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private Segment(Path path, long first, FileChannel channel, int capacity) throws IOException {
+      this.path = path;
+      this.first = first;
+      this.capacity = capacity;
+      this.channel = channel;
+      buffer = channel.map(MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    private static Segment create(Path path, long first, int capacity) throws IOException {
+      FileChannel channel = FileChannel.open(path,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      Segment segment = new Segment(path, first, channel, capacity);
+      channel.force(true);
+      return segment;
+    }
+
+    private static Segment open(Path path, long first) throws IOException {
+      FileChannel channel =
+          FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      return new Segment(path, first, channel, (int) (channel.size() / RECORD_SIZE));
+    }
+
+    private int scan() {
+      int slot = 0;
+      while (slot < capacity
+          && buffer.getLong(slot * RECORD_SIZE + SEQUENCE_OFFSET) == first + slot
+          && buffer.getInt(slot * RECORD_SIZE + CHECKSUM_OFFSET) == checksum(slot)) {
+        slot++;
+      }
+      return slot;
+    }
+
+    private void clear(int fromSlot) {
+      for (int offset = fromSlot * RECORD_SIZE; offset < capacity * RECORD_SIZE;
+          offset += Long.BYTES) {
+        buffer.putLong(offset, 0);
+      }
+      buffer.force();
+    }
+
+    private void write(int slot, Entry record) {
+      int offset = slot * RECORD_SIZE;
+      buffer.putLong(offset + SEQUENCE_OFFSET, record.sequence());
+      buffer.putLong(offset + GAME_ID_OFFSET, record.gameId());
+      buffer.putLong(offset + KEY_HIGH_OFFSET, record.externalKey().getMostSignificantBits());
+      buffer.putLong(offset + KEY_LOW_OFFSET, record.externalKey().getLeastSignificantBits());
+      buffer.putLong(offset + TIMESTAMP_OFFSET, record.timestamp());
+      buffer.put(offset + EXACT_MATCHES_OFFSET, (byte) record.exactMatches());
+      buffer.put(offset + NEAR_MATCHES_OFFSET, (byte) record.nearMatches());
+      buffer.put(offset + LENGTH_OFFSET, (byte) record.text().length);
+      buffer.put(offset + TEXT_OFFSET, record.text());
+      buffer.putInt(offset + CHECKSUM_OFFSET, checksum(slot));
+    }
+
+    private Entry read(int slot) {
+      int offset = slot * RECORD_SIZE;
+      byte[] text = new byte[buffer.get(offset + LENGTH_OFFSET)];
+      buffer.get(offset + TEXT_OFFSET, text);
+      return new Entry(
+          buffer.getLong(offset + SEQUENCE_OFFSET),
+          buffer.getLong(offset + GAME_ID_OFFSET),
+          new UUID(
+              buffer.getLong(offset + KEY_HIGH_OFFSET), buffer.getLong(offset + KEY_LOW_OFFSET)),
+          buffer.getLong(offset + TIMESTAMP_OFFSET),
+          buffer.get(offset + EXACT_MATCHES_OFFSET),
+          buffer.get(offset + NEAR_MATCHES_OFFSET),
+          text);
+    }
+
+    private void force(int fromSlot, int throughSlot) {
+      buffer.force(fromSlot * RECORD_SIZE, (throughSlot - fromSlot + 1) * RECORD_SIZE);
+    }
+
+    private int checksum(int slot) {
+      CRC32C crc = new CRC32C();
+      crc.update(buffer.slice(slot * RECORD_SIZE, CHECKSUM_OFFSET));
+      return (int) crc.getValue();
+    }
+
+    private void close() throws IOException {
+      channel.close();
+    }
+
+    private void delete() throws IOException {
+      close();
+      Files.deleteIfExists(path);
+    }
+
+  }
+
+}
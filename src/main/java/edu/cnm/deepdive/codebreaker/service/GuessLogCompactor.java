@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.dao.GuessBatchRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import edu.cnm.deepdive.codebreaker.service.GuessLog.Entry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Copies the guesses recorded in the {@link GuessLog} to the {@code guess} table, in sequence
+ * order, with batched JDBC inserts (via {@link GuessBatchRepository}, bypassing JPA), and releases
+ * the log segments whose records have all been copied. Each batch of at most
+ * {@code guess-log.compaction-batch-size} records is copied in its own transaction; records of
+ * games deleted since the guesses were submitted are discarded. Compaction runs every
+ * {@code guess-log.compaction-millis} milliseconds.
+ * <p>
+ * When the service starts, every record recovered from the log is copied before any requests are
+ * served. Since some of those records may already have been copied before the service stopped,
+ * recovered records whose external keys are already present are skipped; since the summary
+ * columns of their games may not have been updated, those columns are recomputed from the
+ * {@code guess} table.
+ * </p>
+ */
+@Service
+@Profile("wal & !memory")
+public class GuessLogCompactor {
+
+  private static final Logger logger = LoggerFactory.getLogger(GuessLogCompactor.class);
+
+  private final GuessLog log;
+  private final LoggedGuessService guessService;
+  private final GameCache gameCache;
+  private final GuessBatchRepository batchRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private long compactedThrough;
+
+  /**
+   * Initializes this instance with the {@link GuessLog} to be compacted, the
+   * {@link LoggedGuessService} holding the pending guesses, the {@link GameCache} (invalidated for
+   * games with recomputed summaries), the repository and transaction manager used to copy records,
+   * and the maximum number of records copied in a single transaction.
+   *
+   * @param log                Log of submitted guesses.
+   * @param guessService       Holder of pending guesses, notified as they are copied.
+   * @param gameCache          Cache of game snapshots.
+   * @param batchRepository    Batched JDBC persistence operations provider.
+   * @param transactionManager Transaction manager used to demarcate batches.
+   * @param batchSize          Maximum number of records copied in a single transaction.
+   */
+  @Autowired
+  public GuessLogCompactor(GuessLog log, LoggedGuessService guessService, GameCache gameCache,
+      GuessBatchRepository batchRepository, PlatformTransactionManager transactionManager,
+      @Value("${guess-log.compaction-batch-size:1000}") int batchSize) {
+    this.log = log;
+    this.guessService = guessService;
+    this.gameCache = gameCache;
+    this.batchRepository = batchRepository;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    compactedThrough = log.getFirstSequence() - 1;
+  }
+
+  /**
+   * Copies every record recovered from the log to the database.
+   */
+  @PostConstruct
+  public void recover() {
+    long start = System.nanoTime();
+    long recovered = 0;
+    while (compactedThrough < log.getRecoveredThrough()) {
+      recovered += compactBatch(true);
+    }
+    if (recovered > 0) {
+      logger.info("Recovered {} guesses from log in {} ms",
+          recovered, (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+
+  /**
+   * Copies all durable records not yet copied to the database, and releases the log segments no
+   * longer needed. This is invoked every {@code guess-log.compaction-millis} milliseconds.
+   */
+  @Scheduled(fixedDelayString = "${guess-log.compaction-millis}",
+      initialDelayString = "${guess-log.compaction-millis}")
+  public void compact() {
+    long start = System.nanoTime();
+    long compacted = 0;
+    int count;
+    do {
+      count = compactBatch(false);
+      compacted += count;
+    } while (count == batchSize);
+    if (compacted > 0) {
+      logger.debug("Compacted {} guesses (through sequence {}) in {} ms",
+          compacted, compactedThrough, (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+
+  private int compactBatch(boolean recovering) {
+    List<Entry> records = log.read(compactedThrough, batchSize);
+    if (records.isEmpty()) {
+      return 0;
+    }
+    long through = records.get(records.size() - 1).sequence();
+    Set<Long> gameIds = records
+        .stream()
+        .map(Entry::gameId)
+        .collect(Collectors.toSet());
+    transactionTemplate.executeWithoutResult((status) -> {
+      Map<Long, CodePool> pools = batchRepository
+          .findPools(gameIds)
+          .entrySet()
+          .stream()
+          .collect(Collectors.toMap(Map.Entry::getKey, (entry) -> CodePool.of(entry.getValue())));
+      Set<UUID> existing = recovering
+          ? batchRepository.findExistingKeys(records.stream().map(Entry::externalKey).toList())
+          : Set.of();
+      Map<Long, List<GuessSnapshot>> guesses = records
+          .stream()
+          .filter((record) -> pools.containsKey(record.gameId())
+              && !existing.contains(record.externalKey()))
+          .collect(Collectors.groupingBy(Entry::gameId, LinkedHashMap::new,
+              Collectors.mapping((record) -> new GuessSnapshot(null, record.externalKey(),
+                  Instant.ofEpochMilli(record.timestamp()),
+                  record.decode(pools.get(record.gameId())), record.exactMatches(),
+                  record.nearMatches()), Collectors.toList())));
+      batchRepository.insertAll(guesses);
+      if (recovering) {
+        batchRepository.recomputeSummaries(pools.keySet());
+      }
+    });
+    compactedThrough = through;
+    guessService.persisted(through, gameIds);
+    if (recovering) {
+      gameCache.invalidateAll();
+    }
+    try {
+      log.release(through);
+    } catch (IOException e) {
+      logger.warn("Failed to release guess log segments: {}", e.getMessage());
+    }
+    return records.size();
+  }
+
+}
@@ -15,76 +15,149 @@
  */
 package edu.cnm.deepdive.codebreaker.service;
 
-import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
 import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.diagnostics.GuessScoredEvent;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GameSummary;
 import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
 import edu.cnm.deepdive.codebreaker.model.entity.Game;
 import edu.cnm.deepdive.codebreaker.model.entity.Guess;
-import java.util.HashMap;
-import java.util.Map;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implements high-level operations on {@link Guess} instances. These include validating a new guess
- * (for length and included characters) against the related {@link Game}; computing the number of
- * exact matches and "near matches" between the text of a guess and the text of the code; saving a
- * validated and matched guess to the collection; and retrieving an individual guess using its
- * unique key.
+ * (for length and included characters) against the related {@link Game}, and computing the number
+ * of exact matches and "near matches" between the text of a guess and the text of the code (both
+ * via {@link GameRules}); saving a validated and matched guess (or an ordered batch of such
+ * guesses) to the collection; retrieving an individual guess using its unique key; and retrieving
+ * pages of guesses, or the most recent guesses, in order of submission.
+ * <p>
+ * Submissions against the same game are serialized on this node by {@link GameLocks}: validation,
+ * scoring, and the transaction that records the guesses are all completed while holding the lock
+ * of the game, so two concurrent submissions can't both be validated against an unsolved game.
+ * Since the {@link Game} passed to {@link #add(Game, Guess)} or {@link #addAll(Game, List)} may
+ * have been read before the lock was acquired (and since other service nodes may share the
+ * database), the summary columns of the game are updated only if its version is unchanged. If it
+ * has changed, nothing is recorded; the current summary state is read from the database, and the
+ * submission is validated and recorded again (up to {@code game-lock.max-attempts} times, after
+ * which it fails with {@link OptimisticLockingFailureException}). Such conflicts are counted as
+ * {@code guess.service.conflicts}.
+ * </p>
+ * <p>
+ * The total time taken to submit a guess (or batch of guesses) is published to Micrometer as
+ * {@code guess.service.add}, and the time taken to validate and score the submitted guesses (which
+ * {@link GameRules} does in a single pass) as {@code guess.service.match}; both are tagged with
+ * the kind of submission, {@code single} or {@code batch}. Each successful submission is also
+ * recorded as a {@link GuessScoredEvent} JFR event.
+ * </p>
  */
 @Service
+@Profile("!memory & !wal & !write-behind")
 public class GuessService implements AbstractGuessService {
 
-  private static final String INVALID_CHARACTERS = "^.*[^%s].*$";
-  private static final String TEXT_PROPERTY = "text";
-  private static final String INVALID_CHARACTER_FORMAT =
-      "must contain no characters other than \"%s\"";
-  private static final String INVALID_LENGTH_FORMAT =
-      "must have a length exactly equal to the code length (%d characters)";
+  private static final String ADD_METER = "guess.service.add";
+  private static final String MATCH_METER = "guess.service.match";
+  private static final String SUBMISSION_TAG = "submission";
+  private static final String SINGLE_SUBMISSION = "single";
+  private static final String BATCH_SUBMISSION = "batch";
+  private static final String CONFLICTS_METER = "guess.service.conflicts";
+  private static final String CONFLICT_MESSAGE = "Game %s changed concurrently";
 
   private final GuessRepository guessRepository;
+  private final GameRepository gameRepository;
+  private final GameCache gameCache;
+  private final GameExpiryTracker expiryTracker;
+  private final GameLocks gameLocks;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxAttempts;
+  private final Timer addTimer;
+  private final Timer addAllTimer;
+  private final Timer matchTimer;
+  private final Timer matchAllTimer;
+  private final Counter conflicts;
 
   /**
-   * Initializes this service with a {@link GuessRepository}.
+   * Initializes this service with a {@link GuessRepository}, {@link GameRepository},
+   * {@link GameCache}, {@link GameExpiryTracker}, {@link GameLocks}, transaction manager, and
+   * {@link MeterRegistry}, and the maximum number of attempts to record a submission.
    *
-   * @param guessRepository Persistence operations provider.
+   * @param guessRepository    Persistence operations provider for {@link Guess} instances.
+   * @param gameRepository     Persistence operations provider for {@link Game} summary updates.
+   * @param gameCache          Cache of {@link Game} snapshots, updated with the summary changes.
+   * @param expiryTracker      Tracker of {@link Game} expiry times, extended by each submission.
+   * @param gameLocks          Table of locks serializing submissions against each game.
+   * @param transactionManager Transaction manager used to demarcate submissions.
+   * @param registry           Micrometer meter registry.
+   * @param maxAttempts        Maximum number of attempts to record a submission, when the game is
+   *                           changed concurrently.
    */
   @Autowired
-  public GuessService(GuessRepository guessRepository) {
+  public GuessService(GuessRepository guessRepository, GameRepository gameRepository,
+      GameCache gameCache, GameExpiryTracker expiryTracker, GameLocks gameLocks,
+      PlatformTransactionManager transactionManager, MeterRegistry registry,
+      @Value("${game-lock.max-attempts:3}") int maxAttempts) {
     this.guessRepository = guessRepository;
+    this.gameRepository = gameRepository;
+    this.gameCache = gameCache;
+    this.expiryTracker = expiryTracker;
+    this.gameLocks = gameLocks;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxAttempts = maxAttempts;
+    addTimer = timer(registry, ADD_METER, SINGLE_SUBMISSION);
+    addAllTimer = timer(registry, ADD_METER, BATCH_SUBMISSION);
+    matchTimer = timer(registry, MATCH_METER, SINGLE_SUBMISSION);
+    matchAllTimer = timer(registry, MATCH_METER, BATCH_SUBMISSION);
+    conflicts = registry.counter(CONFLICTS_METER);
   }
 
   @Override
   public Guess add(@NonNull Game game, @NonNull Guess guess) throws InvalidPropertyException {
-    validate(game, guess);
-    int numCorrect = 0;
-    int[] codeCodePoints = codePoints(game.getText());
-    int[] guessCodePoints = codePoints(guess.getText());
-    Map<Integer, Integer> codeOccurrences = new HashMap<>();
-    Map<Integer, Integer> guessOccurrences = new HashMap<>();
-    for (int i = 0; i < guessCodePoints.length; i++) {
-      int guessCodePoint = guessCodePoints[i];
-      int codeCodePoint = codeCodePoints[i];
-      if (guessCodePoint == codeCodePoint) {
-        numCorrect++;
-      } else {
-        guessOccurrences.put(guessCodePoint, 1 + guessOccurrences.getOrDefault(guessCodePoint, 0));
-        codeOccurrences.put(codeCodePoint, 1 + codeOccurrences.getOrDefault(codeCodePoint, 0));
-      }
-    }
-    int numClose = guessOccurrences
-        .entrySet()
-        .stream()
-        .mapToInt((entry) ->
-            Math.min(entry.getValue(), codeOccurrences.getOrDefault(entry.getKey(), 0)))
-        .sum();
-    guess.setExactMatches(numCorrect);
-    guess.setNearMatches(numClose);
-    guess.setGame(game);
-    return guessRepository.save(guess);
+    GuessScoredEvent event = new GuessScoredEvent();
+    event.begin();
+    return addTimer.record(() -> {
+      List<Guess> saved = submit(game, () -> matchTimer.record(() -> {
+        GameRules.validateUnsolved(game);
+        GameRules.match(game, guess);
+        return List.of(guess);
+      }));
+      event.complete(game, 1, guess.isSolution());
+      return saved.get(0);
+    });
+  }
+
+  @Override
+  public List<Guess> addAll(@NonNull Game game, @NonNull List<Guess> guesses)
+      throws InvalidPropertyException {
+    GuessScoredEvent event = new GuessScoredEvent();
+    event.begin();
+    return addAllTimer.record(() -> {
+      List<Guess> saved = submit(game, () -> matchAllTimer.record(() -> {
+        GameRules.validateUnsolved(game);
+        return GameRules.matchAll(game, guesses);
+      }));
+      event.complete(game, saved.size(), isSolution(saved));
+      return saved;
+    });
   }
 
   @Override
@@ -96,26 +169,73 @@ public class GuessService implements AbstractGuessService {
     }
   }
 
-  private void validate(Game game, Guess guess) throws InvalidPropertyException {
-    if (game.isSolved()) {
-      throw new AlreadySolvedException();
-    }
-    String guessText = guess.getText();
-    String poolText = game.getPool();
-    if (guessText.matches(String.format(INVALID_CHARACTERS, game.getPool()))) {
-      throw new InvalidPropertyException(
-          TEXT_PROPERTY, String.format(INVALID_CHARACTER_FORMAT, poolText));
-    }
-    if (codePoints(guess.getText()).length != game.getLength()) {
-      throw new InvalidPropertyException(
-          TEXT_PROPERTY, String.format(INVALID_LENGTH_FORMAT, game.getLength()));
+  @Override
+  public List<Guess> list(@NonNull Game game, UUID after, int limit)
+      throws NoSuchElementException {
+    return (after == null)
+        ? guessRepository.findAllByGameOrderByIdAsc(game, Limit.of(limit))
+        : guessRepository
+            .findByGameAndExternalKey(game, after)
+            .map((guess) -> guessRepository
+                .findAllByGameAndIdGreaterThanOrderByIdAsc(game, guess.getId(), Limit.of(limit)))
+            .orElseThrow(NotFoundException::new);
+  }
+
+  @Override
+  public List<Guess> recent(@NonNull Game game, int limit) {
+    List<Guess> guesses = new ArrayList<>(
+        guessRepository.findAllByGameOrderByIdDesc(game, Limit.of(limit)));
+    Collections.reverse(guesses);
+    return guesses;
+  }
+
+  private List<Guess> submit(Game game, Supplier<List<Guess>> matcher) {
+    return gameLocks.withLock(game.getExternalKey(), () -> {
+      for (int attempt = 1; ; attempt++) {
+        Optional<List<Guess>> saved =
+            transactionTemplate.execute((status) -> record(game, matcher.get()));
+        if (saved != null && saved.isPresent()) {
+          return saved.get();
+        }
+        conflicts.increment();
+        gameCache.invalidate(game.getExternalKey());
+        if (attempt >= maxAttempts) {
+          throw new OptimisticLockingFailureException(
+              String.format(CONFLICT_MESSAGE, game.getExternalKey()));
+        }
+        GameSummary summary = gameRepository
+            .findSummaryById(game.getId())
+            .orElseThrow(NotFoundException::new);
+        game.refreshSummary(summary.getVersion(), summary.getGuessCount(),
+            summary.getLastGuessAt(), summary.isSolved());
+      }
+    });
+  }
+
+  private Optional<List<Guess>> record(Game game, List<Guess> matched) {
+    Date timestamp = new Date();
+    boolean solution = isSolution(matched);
+    if (gameRepository.recordGuessesIfCurrent(
+        game.getId(), game.getVersion(), matched.size(), timestamp, solution) == 0) {
+      return Optional.empty();
     }
+    List<Guess> saved = guessRepository.saveAll(matched);
+    int previousGuessCount = game.getGuessCount();
+    game.recordGuesses(matched.size(), timestamp, solution);
+    gameCache.recordGuesses(game, previousGuessCount);
+    expiryTracker.record(game, timestamp);
+    return Optional.of(saved);
+  }
+
+  private static boolean isSolution(List<Guess> guesses) {
+    return !guesses.isEmpty() && guesses.get(guesses.size() - 1).isSolution();
   }
 
-  private int[] codePoints(String source) {
-    return source
-        .codePoints()
-        .toArray();
+  private static Timer timer(MeterRegistry registry, String name, String submission) {
+    return Timer
+        .builder(name)
+        .tag(SUBMISSION_TAG, submission)
+        .register(registry);
   }
 
 }
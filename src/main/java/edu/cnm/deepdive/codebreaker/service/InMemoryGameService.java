@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implements high-level operations on new and existing {@link Game} instances, as described for
+ * {@link GameService}, but keeping games in an {@link InMemoryGameStore} rather than in the
+ * database. This implementation is used only with the {@code memory} profile.
+ */
+@Service
+@Profile("memory")
+public class InMemoryGameService implements AbstractGameService {
+
+  private final InMemoryGameStore store;
+  private final GameExpiryTracker expiryTracker;
+  private final SecretGenerator secretGenerator;
+
+  /**
+   * Initializes this instance by injecting the required {@link InMemoryGameStore},
+   * {@link GameExpiryTracker}, and {@link SecretGenerator}.
+   *
+   * @param store           In-memory store of games.
+   * @param expiryTracker   Tracker of {@link Game} expiry times.
+   * @param secretGenerator Strategy used to generate codes.
+   */
+  @Autowired
+  public InMemoryGameService(InMemoryGameStore store, GameExpiryTracker expiryTracker,
+      SecretGenerator secretGenerator) {
+    this.store = store;
+    this.expiryTracker = expiryTracker;
+    this.secretGenerator = secretGenerator;
+  }
+
+  @Override
+  public Game add(@NonNull Game game) throws InvalidPropertyException {
+    GameRules.prepare(game, secretGenerator);
+    Game saved = store.add(game);
+    expiryTracker.record(saved, saved.getCreated());
+    return saved;
+  }
+
+  @Override
+  public Optional<Game> get(@NonNull UUID externalKey) {
+    return store.get(externalKey);
+  }
+
+  @Override
+  public void remove(@NonNull Game game) {
+    store.remove(game.getExternalKey());
+    expiryTracker.forget(game.getExternalKey());
+  }
+
+  @Override
+  public void clear() {
+    store.clear();
+    expiryTracker.clear();
+  }
+
+}
@@ -0,0 +1,507 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps games and their guesses in memory only, for deployments (e.g. classroom or load-test
+ * instances) that don't need every change to be durable. Games are kept in a concurrent map keyed
+ * by external key; the guesses of each game are kept in primitive arrays (external key halves and
+ * timestamps as {@code long} values, match counts as {@code byte} values, and guess text as
+ * pool-index bytes, as encoded by {@link CodePool#encode(String)}), guarded by a per-game lock.
+ * Every retrieval returns new, detached {@link Game} and {@link Guess} instances.
+ * <p>
+ * The contents of the store can be written to a compact binary snapshot file with
+ * {@link #writeSnapshot()}; the snapshot (if any) is loaded when the store is created. A snapshot
+ * is written to a temporary file, which then replaces the previous snapshot, so that an
+ * interrupted write never corrupts the latest snapshot.
+ * </p>
+ */
+@Service
+@Profile("memory")
+public class InMemoryGameStore {
+
+  private static final int SNAPSHOT_FORMAT = 0x43425331;
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final int INITIAL_GUESS_CAPACITY = 8;
+  private static final int NO_TTL = -1;
+
+  private final ExternalKeyGenerator generator;
+  private final Path snapshotPath;
+  private final ConcurrentMap<UUID, Entry> games;
+  private final AtomicLong gameIds;
+  private final AtomicLong guessIds;
+  private final AtomicLong modifications;
+  private final Lock snapshotLock;
+  private long snapshotModifications;
+
+  /**
+   * Initializes this instance with the {@link ExternalKeyGenerator} used to assign external keys,
+   * and the location of the snapshot file; if that file exists, its contents are loaded.
+   *
+   * @param generator    Source of new external keys.
+   * @param snapshotPath Location of the snapshot file.
+   * @throws IOException If the snapshot file exists, but can't be read.
+   */
+  @Autowired
+  public InMemoryGameStore(ExternalKeyGenerator generator,
+      @Value("${memory-store.snapshot-path}") String snapshotPath) throws IOException {
+    this.generator = generator;
+    this.snapshotPath = Path.of(snapshotPath);
+    games = new ConcurrentHashMap<>();
+    gameIds = new AtomicLong();
+    guessIds = new AtomicLong();
+    modifications = new AtomicLong();
+    snapshotLock = new ReentrantLock();
+    readSnapshot();
+  }
+
+  /**
+   * Adds {@code game} (which must have its pool, text, and length set) to the store, assigning its
+   * primary key, external key, and creation timestamp.
+   *
+   * @param game {@link Game} to be added.
+   * @return New {@link Game} instance with the stored state.
+   */
+  public Game add(@NonNull Game game) {
+    Entry entry = new Entry(new GameSnapshot(gameIds.incrementAndGet(), generator.generate(),
+        Instant.ofEpochMilli(System.currentTimeMillis()), game.getPool(), game.getText(),
+        game.getLength(), game.getTtlMinutes(), false, 0, null, 0));
+    games.put(entry.game.externalKey(), entry);
+    modifications.incrementAndGet();
+    return entry.toGame();
+  }
+
+  /**
+   * Retrieves the game with the specified external key, if it exists.
+   *
+   * @param externalKey External identifier of the game.
+   * @return {@link Optional} containing the {@link Game}, if it exists.
+   */
+  public Optional<Game> get(@NonNull UUID externalKey) {
+    return Optional
+        .ofNullable(games.get(externalKey))
+        .map(Entry::toGame);
+  }
+
+  /**
+   * Removes the game with the specified external key (along with its guesses), if it exists.
+   *
+   * @param externalKey External identifier of the game.
+   * @return {@code true} if the game was removed; {@code false} if it didn't exist.
+   */
+  public boolean remove(@NonNull UUID externalKey) {
+    boolean removed = (games.remove(externalKey) != null);
+    if (removed) {
+      modifications.incrementAndGet();
+    }
+    return removed;
+  }
+
+  /**
+   * Removes all games from the store.
+   */
+  public void clear() {
+    games.clear();
+    modifications.incrementAndGet();
+  }
+
+  /**
+   * Passes a new {@link Game} instance, with the current state of each stored game, to
+   * {@code consumer}.
+   *
+   * @param consumer Recipient of games.
+   */
+  public void forEach(@NonNull Consumer<Game> consumer) {
+    games
+        .values()
+        .forEach((entry) -> consumer.accept(entry.toGame()));
+  }
+
+  /**
+   * Returns the number of stored games.
+   *
+   * @return (See above.)
+   */
+  public int size() {
+    return games.size();
+  }
+
+  /**
+   * Validates and matches {@code guesses}, in order, against the current state of {@code game}, as
+   * described for {@link GameRules#matchAll(Game, List)}, and adds them to the game's guesses,
+   * atomically updating its summary state. The summary state of {@code game} itself is updated to
+   * match.
+   *
+   * @param game    {@link Game} against which the guesses are submitted.
+   * @param guesses Submitted guesses, in order of submission.
+   * @return New {@link Guess} instances with the stored state, in order of submission.
+   * @throws NoSuchElementException   If {@code game} is no longer in the store.
+   * @throws InvalidPropertyException If any of the processed guesses fails validation.
+   */
+  public List<Guess> addGuesses(@NonNull Game game, @NonNull List<Guess> guesses)
+      throws NoSuchElementException, InvalidPropertyException {
+    Entry entry = entry(game);
+    entry.lock.lock();
+    try {
+      Game current = entry.toGame();
+      GameRules.validateUnsolved(current);
+      List<Guess> matched = GameRules.matchAll(current, guesses);
+      long timestamp = System.currentTimeMillis();
+      List<Guess> added = new ArrayList<>(matched.size());
+      for (Guess guess : matched) {
+        added.add(entry.append(guessIds.incrementAndGet(), generator.generate(), timestamp, guess)
+            .restore(game));
+      }
+      game.recordGuesses(added.size(), new Date(timestamp), entry.solved);
+      modifications.incrementAndGet();
+      return added;
+    } finally {
+      entry.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves the guess with the specified external key, if it was submitted against
+   * {@code game}.
+   *
+   * @param game        {@link Game} in which the guess was submitted.
+   * @param externalKey External identifier of the guess.
+   * @return {@link Optional} containing the {@link Guess}, if it exists.
+   */
+  public Optional<Guess> getGuess(@NonNull Game game, @NonNull UUID externalKey) {
+    Entry entry = games.get(game.getExternalKey());
+    if (entry == null) {
+      return Optional.empty();
+    }
+    entry.lock.lock();
+    try {
+      int index = entry.indexOf(externalKey);
+      return (index >= 0) ? Optional.of(entry.guess(index).restore(game)) : Optional.empty();
+    } finally {
+      entry.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves up to {@code limit} guesses submitted against {@code game}, in order of submission,
+   * starting with the guess submitted after the one with the external key {@code after} (or with
+   * the first guess, if {@code after} is {@code null}).
+   *
+   * @param game  {@link Game} in which the guesses were submitted.
+   * @param after External identifier of the last guess of the previous page (if any).
+   * @param limit Maximum number of guesses to return.
+   * @return Page of guesses.
+   * @throws NoSuchElementException If {@code game} is no longer in the store, or {@code after}
+   *                                does not refer to a guess submitted against {@code game}.
+   */
+  public List<Guess> listGuesses(@NonNull Game game, UUID after, int limit)
+      throws NoSuchElementException {
+    Entry entry = entry(game);
+    entry.lock.lock();
+    try {
+      int start = 0;
+      if (after != null) {
+        start = entry.indexOf(after) + 1;
+        if (start == 0) {
+          throw new NotFoundException();
+        }
+      }
+      return entry.guesses(start, Math.min(entry.guessCount, start + limit), game);
+    } finally {
+      entry.lock.unlock();
+    }
+  }
+
+  /**
+   * Retrieves up to {@code limit} of the most recent guesses submitted against {@code game}, in
+   * order of submission.
+   *
+   * @param game  {@link Game} in which the guesses were submitted.
+   * @param limit Maximum number of guesses to return.
+   * @return Most recent guesses.
+   */
+  public List<Guess> recentGuesses(@NonNull Game game, int limit) {
+    Entry entry = games.get(game.getExternalKey());
+    if (entry == null) {
+      return List.of();
+    }
+    entry.lock.lock();
+    try {
+      return entry.guesses(Math.max(0, entry.guessCount - limit), entry.guessCount, game);
+    } finally {
+      entry.lock.unlock();
+    }
+  }
+
+  /**
+   * Writes the contents of the store to the snapshot file, if they have changed since the previous
+   * snapshot was written (or loaded). Each game is written in a consistent state, but games
+   * changed while the snapshot is being written may be written in their state before or after the
+   * change.
+   *
+   * @return {@code true} if a snapshot was written; {@code false} if there were no changes.
+   * @throws IOException If the snapshot file can't be written.
+   */
+  public boolean writeSnapshot() throws IOException {
+    snapshotLock.lock();
+    try {
+      long version = modifications.get();
+      if (version == snapshotModifications) {
+        return false;
+      }
+      Path parent = snapshotPath.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_SUFFIX);
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+        output.writeInt(SNAPSHOT_FORMAT);
+        output.writeLong(gameIds.get());
+        output.writeLong(guessIds.get());
+        for (Entry entry : games.values()) {
+          output.writeBoolean(true);
+          entry.write(output);
+        }
+        output.writeBoolean(false);
+      }
+      Files.move(temporary, snapshotPath,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      snapshotModifications = version;
+      return true;
+    } finally {
+      snapshotLock.unlock();
+    }
+  }
+
+  private void readSnapshot() throws IOException {
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+      if (input.readInt() != SNAPSHOT_FORMAT) {
+        throw new IOException("Unrecognized snapshot format: " + snapshotPath);
+      }
+      gameIds.set(input.readLong());
+      guessIds.set(input.readLong());
+      while (input.readBoolean()) {
+        Entry entry = Entry.read(input);
+        games.put(entry.game.externalKey(), entry);
+      }
+    } catch (NoSuchFileException e) {
+      // No snapshot has been written yet; start empty.
+    }
+  }
+
+  private Entry entry(Game game) throws NoSuchElementException {
+    Entry entry = games.get(game.getExternalKey());
+    if (entry == null) {
+      throw new NotFoundException();
+    }
+    return entry;
+  }
+
+  private static final class Entry {
+
+    private final GameSnapshot game;
+    private final CodePool codePool;
+    private final Lock lock;
+    private boolean solved;
+    private int guessCount;
+    private long lastGuessAt;
+    private long[] ids;
+    private long[] keysHigh;
+    private long[] keysLow;
+    private long[] created;
+    private byte[] exactMatches;
+    private byte[] nearMatches;
+    private byte[] texts;
+
+    private Entry(GameSnapshot game) {
+      this.game = game;
+      codePool = CodePool.of(game.pool());
+      lock = new ReentrantLock();
+      ids = new long[INITIAL_GUESS_CAPACITY];
+      keysHigh = new long[INITIAL_GUESS_CAPACITY];
+      keysLow = new long[INITIAL_GUESS_CAPACITY];
+      created = new long[INITIAL_GUESS_CAPACITY];
+      exactMatches = new byte[INITIAL_GUESS_CAPACITY];
+      nearMatches = new byte[INITIAL_GUESS_CAPACITY];
+      texts = new byte[INITIAL_GUESS_CAPACITY * game.length()];
+    }
+
+    private Game toGame() {
+      lock.lock();
+      try {
+        return new GameSnapshot(game.id(), game.externalKey(), game.created(), game.pool(),
+            game.text(), game.length(), game.ttlMinutes(), solved, guessCount,
+            (guessCount > 0) ? Instant.ofEpochMilli(lastGuessAt) : null, 0).restore();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private GuessSnapshot append(long id, UUID externalKey, long timestamp, Guess guess) {
+      grow(guessCount + 1);
+      int index = guessCount++;
+      ids[index] = id;
+      keysHigh[index] = externalKey.getMostSignificantBits();
+      keysLow[index] = externalKey.getLeastSignificantBits();
+      created[index] = timestamp;
+      exactMatches[index] = (byte) guess.getExactMatches();
+      nearMatches[index] = (byte) guess.getNearMatches();
+      System.arraycopy(codePool.encode(guess.getText()), 0, texts, index * game.length(),
+          game.length());
+      lastGuessAt = timestamp;
+      solved |= (guess.getExactMatches() == game.length());
+      return guess(index);
+    }
+
+    private void grow(int minCapacity) {
+      if (minCapacity > ids.length) {
+        int capacity = Math.max(minCapacity, 2 * ids.length);
+        ids = Arrays.copyOf(ids, capacity);
+        keysHigh = Arrays.copyOf(keysHigh, capacity);
+        keysLow = Arrays.copyOf(keysLow, capacity);
+        created = Arrays.copyOf(created, capacity);
+        exactMatches = Arrays.copyOf(exactMatches, capacity);
+        nearMatches = Arrays.copyOf(nearMatches, capacity);
+        texts = Arrays.copyOf(texts, capacity * game.length());
+      }
+    }
+
+    private int indexOf(UUID externalKey) {
+      long high = externalKey.getMostSignificantBits();
+      long low = externalKey.getLeastSignificantBits();
+      for (int index = guessCount - 1; index >= 0; index--) {
+        if (keysHigh[index] == high && keysLow[index] == low) {
+          return index;
+        }
+      }
+      return -1;
+    }
+
+    private GuessSnapshot guess(int index) {
+      int length = game.length();
+      int[] codePoints = new int[length];
+      for (int position = 0, offset = index * length; position < length; position++, offset++) {
+        codePoints[position] = codePool.codePointAt(texts[offset] & 0xff);
+      }
+      return new GuessSnapshot(ids[index], new UUID(keysHigh[index], keysLow[index]),
+          Instant.ofEpochMilli(created[index]), new String(codePoints, 0, length),
+          exactMatches[index], nearMatches[index]);
+    }
+
+    private List<Guess> guesses(int start, int end, Game game) {
+      List<Guess> guesses = new ArrayList<>(Math.max(0, end - start));
+      for (int index = start; index < end; index++) {
+        guesses.add(guess(index).restore(game));
+      }
+      return guesses;
+    }
+
+    private void write(DataOutputStream output) throws IOException {
+      lock.lock();
+      try {
+        output.writeLong(game.id());
+        output.writeLong(game.externalKey().getMostSignificantBits());
+        output.writeLong(game.externalKey().getLeastSignificantBits());
+        output.writeLong(game.created().toEpochMilli());
+        output.writeUTF(game.pool());
+        output.writeUTF(game.text());
+        output.writeByte(game.length());
+        output.writeInt((game.ttlMinutes() != null) ? game.ttlMinutes() : NO_TTL);
+        output.writeBoolean(solved);
+        output.writeLong(lastGuessAt);
+        output.writeInt(guessCount);
+        for (int index = 0; index < guessCount; index++) {
+          output.writeLong(ids[index]);
+          output.writeLong(keysHigh[index]);
+          output.writeLong(keysLow[index]);
+          output.writeLong(created[index]);
+          output.writeByte(exactMatches[index]);
+          output.writeByte(nearMatches[index]);
+        }
+        output.write(texts, 0, guessCount * game.length());
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private static Entry read(DataInputStream input) throws IOException {
+      long id = input.readLong();
+      UUID externalKey = new UUID(input.readLong(), input.readLong());
+      Instant created = Instant.ofEpochMilli(input.readLong());
+      String pool = input.readUTF();
+      String text = input.readUTF();
+      int length = input.readUnsignedByte();
+      int ttlMinutes = input.readInt();
+      Entry entry = new Entry(new GameSnapshot(id, externalKey, created, pool, text, length,
+          (ttlMinutes != NO_TTL) ? ttlMinutes : null, false, 0, null, 0));
+      entry.solved = input.readBoolean();
+      entry.lastGuessAt = input.readLong();
+      int guessCount = input.readInt();
+      entry.grow(guessCount);
+      for (int index = 0; index < guessCount; index++) {
+        entry.ids[index] = input.readLong();
+        entry.keysHigh[index] = input.readLong();
+        entry.keysLow[index] = input.readLong();
+        entry.created[index] = input.readLong();
+        entry.exactMatches[index] = input.readByte();
+        entry.nearMatches[index] = input.readByte();
+      }
+      input.readFully(entry.texts, 0, guessCount * length);
+      entry.guessCount = guessCount;
+      return entry;
+    }
+
+  }
+
+}
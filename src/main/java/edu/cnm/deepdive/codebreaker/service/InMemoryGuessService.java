@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implements high-level operations on {@link Guess} instances, as described for
+ * {@link GuessService}, but keeping guesses in an {@link InMemoryGameStore} rather than in the
+ * database. Validation and scoring of guesses is delegated (by the store, while holding the lock
+ * on the game) to {@link GameRules}. This implementation is used only with the {@code memory}
+ * profile.
+ */
+@Service
+@Profile("memory")
+public class InMemoryGuessService implements AbstractGuessService {
+
+  private final InMemoryGameStore store;
+  private final GameExpiryTracker expiryTracker;
+
+  /**
+   * Initializes this service with an {@link InMemoryGameStore} and {@link GameExpiryTracker}.
+   *
+   * @param store         In-memory store of games and guesses.
+   * @param expiryTracker Tracker of {@link Game} expiry times, extended by each submission.
+   */
+  @Autowired
+  public InMemoryGuessService(InMemoryGameStore store, GameExpiryTracker expiryTracker) {
+    this.store = store;
+    this.expiryTracker = expiryTracker;
+  }
+
+  @Override
+  public Guess add(@NonNull Game game, @NonNull Guess guess) throws InvalidPropertyException {
+    return addAll(game, List.of(guess)).get(0);
+  }
+
+  @Override
+  public List<Guess> addAll(@NonNull Game game, @NonNull List<Guess> guesses)
+      throws InvalidPropertyException {
+    List<Guess> added = store.addGuesses(game, guesses);
+    expiryTracker.record(game, game.getLastGuessAt());
+    return added;
+  }
+
+  @Override
+  public Optional<Guess> get(@NonNull Game game, @NonNull UUID externalKey) {
+    return store.getGuess(game, externalKey);
+  }
+
+  @Override
+  public List<Guess> list(@NonNull Game game, UUID after, int limit)
+      throws NoSuchElementException {
+    return store.listGuesses(game, after, limit);
+  }
+
+  @Override
+  public List<Guess> recent(@NonNull Game game, int limit) {
+    return store.recentGuesses(game, limit);
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides the scheduled maintenance tasks of the {@link InMemoryGameStore}, in place of those of
+ * {@link ScheduledMaintenanceService}: the continuous removal of expired (inactive) games, tracked
+ * by the {@link GameExpiryTracker}; and the periodic writing of snapshots of the store, which is
+ * also done at shutdown. Since the store is confined to a single node, no leases are required.
+ */
+@Service
+@Profile("memory")
+public class InMemoryMaintenanceService {
+
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryMaintenanceService.class);
+
+  private final InMemoryGameStore store;
+  private final GameExpiryTracker expiryTracker;
+
+  /**
+   * Initializes the service with an {@link InMemoryGameStore} and {@link GameExpiryTracker}, and
+   * starts tracking expiry times.
+   *
+   * @param store         In-memory store of games.
+   * @param expiryTracker Tracker of game expiry times.
+   */
+  @Autowired
+  public InMemoryMaintenanceService(InMemoryGameStore store, GameExpiryTracker expiryTracker) {
+    this.store = store;
+    this.expiryTracker = expiryTracker;
+    expiryTracker.start();
+  }
+
+  /**
+   * Tracks the expiry times of the games loaded from the most recent snapshot.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void trackGameExpiries() {
+    long start = System.nanoTime();
+    store.forEach((game) -> expiryTracker.record(game,
+        (game.getLastGuessAt() != null) ? game.getLastGuessAt() : game.getCreated()));
+    logger.info("Tracking expiry of {} games (loaded in {} ms)",
+        store.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Removes the games that have expired since the previous invocation. This is invoked every
+   * {@code expiry.tick-millis} milliseconds.
+   */
+  @Scheduled(fixedDelayString = "${expiry.tick-millis}",
+      initialDelayString = "${expiry.tick-millis}")
+  public void removeExpiredGames() {
+    for (UUID externalKey : expiryTracker.expire(System.currentTimeMillis())) {
+      store.remove(externalKey);
+    }
+  }
+
+  /**
+   * Writes a snapshot of the store, if it has changed since the previous snapshot. This is invoked
+   * every {@code memory-store.snapshot-millis} milliseconds.
+   */
+  @Scheduled(fixedDelayString = "${memory-store.snapshot-millis}",
+      initialDelayString = "${memory-store.snapshot-millis}")
+  public void writeSnapshot() {
+    try {
+      long start = System.nanoTime();
+      if (store.writeSnapshot()) {
+        logger.debug("Wrote snapshot of {} games in {} ms",
+            store.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      }
+    } catch (IOException e) {
+      logger.warn("Failed to write snapshot: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Writes a final snapshot of the store at shutdown.
+   */
+  @PreDestroy
+  public void writeFinalSnapshot() {
+    writeSnapshot();
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.dao.LeaseRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Lease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Acquires, renews (via a heartbeat), and releases named leases, recorded in the {@link Lease}
+ * table, so that a maintenance job runs on only one of the service nodes sharing a database at a
+ * time. A lease expires {@code lease.duration-millis} after it was acquired or last renewed; held
+ * leases are renewed by {@link #heartbeat()}, which should be invoked every
+ * {@code lease.heartbeat-millis} (no more than a third of the lease duration). A lease is
+ * considered held locally only until its expiry time, less the heartbeat interval, even if renewal
+ * has not (yet) failed; this margin should exceed the clock skew between nodes.
+ * <p>
+ * Each acquisition increments the fencing token of the lease. Writes made under a lease should be
+ * preceded, in the same transaction, by {@link #fence(String)}, which fails if the token has
+ * changed, and blocks takeover until the transaction completes.
+ * </p>
+ * <p>
+ * Lease activity is published to Micrometer: acquisition attempts (tagged with the outcome,
+ * {@code acquired} or {@code contended}) as {@code maintenance.lease.acquisitions}; hold times as
+ * {@code maintenance.lease.held}; and leases lost to expiry or takeover as
+ * {@code maintenance.lease.lost}.
+ * </p>
+ */
+@Service
+public class LeaseService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LeaseService.class);
+
+  private static final String ACQUISITIONS_METER = "maintenance.lease.acquisitions";
+  private static final String HELD_METER = "maintenance.lease.held";
+  private static final String LOST_METER = "maintenance.lease.lost";
+  private static final String LEASE_TAG = "lease";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String ACQUIRED_OUTCOME = "acquired";
+  private static final String CONTENDED_OUTCOME = "contended";
+  private static final String LEASE_LOST_FORMAT = "Lease %s is no longer held";
+
+  private final LeaseRepository repository;
+  private final MeterRegistry registry;
+  private final String holder;
+  private final long durationMillis;
+  private final long heartbeatMillis;
+  private final Map<String, HeldLease> held;
+
+  /**
+   * Initializes this instance with the repository used to record leases, the registry to which
+   * lease metrics are published, the identifier of this node, and the lease timing.
+   *
+   * @param repository      Persistence operations provider.
+   * @param registry        Micrometer meter registry.
+   * @param holder          Unique identifier of this node.
+   * @param durationMillis  Duration of a lease, in milliseconds.
+   * @param heartbeatMillis Interval between renewals of held leases, in milliseconds.
+   */
+  @Autowired
+  public LeaseService(LeaseRepository repository, MeterRegistry registry,
+      @Value("${lease.holder:${random.uuid}}") String holder,
+      @Value("${lease.duration-millis:30000}") long durationMillis,
+      @Value("${lease.heartbeat-millis:10000}") long heartbeatMillis) {
+    this.repository = repository;
+    this.registry = registry;
+    this.holder = holder;
+    this.durationMillis = durationMillis;
+    this.heartbeatMillis = heartbeatMillis;
+    held = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns {@code true} if this node holds the lease with the specified {@code name}, acquiring
+   * it first if it is not held by any node (or if it has expired).
+   *
+   * @param name Unique name of lease.
+   * @return {@code true} if the lease is held by this node; {@code false} otherwise.
+   */
+  public boolean acquire(@NonNull String name) {
+    HeldLease lease = held.get(name);
+    long now = System.currentTimeMillis();
+    if (lease != null && (now < lease.expires - heartbeatMillis || renew(name, lease))) {
+      return true;
+    }
+    Date expires = new Date(now + durationMillis);
+    boolean acquired = repository.takeOver(name, holder, expires, new Date(now)) == 1
+        || create(name, expires);
+    counter(name, acquired ? ACQUIRED_OUTCOME : CONTENDED_OUTCOME).increment();
+    if (acquired) {
+      long token = repository
+          .findById(name)
+          .filter((current) -> current.getHolder().equals(holder))
+          .map(Lease::getToken)
+          .orElseThrow();
+      held.put(name, new HeldLease(token, expires.getTime(), System.nanoTime()));
+      logger.info("Acquired lease {} (token {})", name, token);
+    }
+    return acquired;
+  }
+
+  /**
+   * Releases the lease with the specified {@code name}, if held by this node, so that another node
+   * may acquire it without waiting for it to expire.
+   *
+   * @param name Unique name of lease.
+   */
+  public void release(@NonNull String name) {
+    HeldLease lease = held.remove(name);
+    if (lease != null) {
+      repository.renew(name, holder, lease.token, new Date(0));
+      recordHoldTime(name, lease);
+    }
+  }
+
+  /**
+   * Verifies, in the current transaction, that the lease with the specified {@code name} is still
+   * held by this node, with the fencing token obtained when it was acquired; until the transaction
+   * completes, no other node can take over the lease.
+   *
+   * @param name Unique name of lease.
+   * @throws IllegalStateException If the lease is not held by this node.
+   */
+  public void fence(@NonNull String name) throws IllegalStateException {
+    HeldLease lease = held.get(name);
+    if (lease == null || repository.verify(name, holder, lease.token) != 1) {
+      if (lease != null && held.remove(name, lease)) {
+        lost(name, lease);
+      }
+      throw new IllegalStateException(String.format(LEASE_LOST_FORMAT, name));
+    }
+  }
+
+  /**
+   * Renews all leases held by this node. Any lease that cannot be renewed (because it has been
+   * taken over by another node) is no longer considered held. This should be invoked every
+   * {@code lease.heartbeat-millis}.
+   */
+  public void heartbeat() {
+    held.forEach(this::renew);
+  }
+
+  private boolean renew(String name, HeldLease lease) {
+    long expires = System.currentTimeMillis() + durationMillis;
+    if (repository.renew(name, holder, lease.token, new Date(expires)) == 1) {
+      held.replace(name, lease, new HeldLease(lease.token, expires, lease.acquired));
+      return true;
+    }
+    if (held.remove(name, lease)) {
+      lost(name, lease);
+    }
+    return false;
+  }
+
+  private boolean create(String name, Date expires) {
+    if (repository.existsById(name)) {
+      return false;
+    }
+    try {
+      return repository.create(name, holder, expires) == 1;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  private void lost(String name, HeldLease lease) {
+    recordHoldTime(name, lease);
+    registry
+        .counter(LOST_METER, LEASE_TAG, name)
+        .increment();
+    logger.warn("Lost lease {} (token {})", name, lease.token);
+  }
+
+  private void recordHoldTime(String name, HeldLease lease) {
+    Timer
+        .builder(HELD_METER)
+        .tag(LEASE_TAG, name)
+        .register(registry)
+        .record(System.nanoTime() - lease.acquired, TimeUnit.NANOSECONDS);
+  }
+
+  private Counter counter(String name, String outcome) {
+    return registry.counter(ACQUISITIONS_METER, LEASE_TAG, name, OUTCOME_TAG, outcome);
+  }
+
+  private record HeldLease(long token, long expires, long acquired) {
+
+  }
+
+}
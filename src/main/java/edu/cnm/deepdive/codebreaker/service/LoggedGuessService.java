@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implements high-level operations on {@link Guess} instances, as described for
+ * {@link GuessService}, but writing submitted guesses to the {@link GuessLog} rather than inserting
+ * them with JPA. A submission returns when its guesses are durable in the log; the guesses are
+ * copied to the database later, in bulk, by the {@link GuessLogCompactor}, and held in memory
+ * until then (see {@link DeferredGuessService}). The summary columns of the game are still updated
+ * (with a single statement, in a short transaction) as each submission is made, so that the solved
+ * state of a game is never stale. This implementation is used only with the {@code wal} profile.
+ */
+@Service
+@Profile("wal & !memory")
+public class LoggedGuessService extends DeferredGuessService {
+
+  private final GuessLog log;
+  private final GameRepository gameRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Initializes this service with the {@link GuessLog}, the repositories, cache, and expiry tracker
+   * used by {@link GuessService}, the {@link PendingGameSummaries} of games with guesses not yet
+   * compacted, the {@link GameLocks} serializing submissions, the {@link ExternalKeyGenerator} used
+   * to assign external keys to guesses, and the transaction manager used to update the summary
+   * columns of games.
+   *
+   * @param log                Log to which submitted guesses are written.
+   * @param guessRepository    Persistence operations provider for compacted {@link Guess}
+   *                           instances.
+   * @param gameRepository     Persistence operations provider for {@link Game} summary updates.
+   * @param gameCache          Cache of {@link Game} snapshots, updated with the summary changes.
+   * @param expiryTracker      Tracker of {@link Game} expiry times, extended by each submission.
+   * @param summaries          Summary state of games with guesses not yet compacted.
+   * @param gameLocks          Table of locks serializing submissions against each game.
+   * @param generator          Source of new external keys.
+   * @param transactionManager Transaction manager used to demarcate summary updates.
+   */
+  @Autowired
+  public LoggedGuessService(GuessLog log, GuessRepository guessRepository,
+      GameRepository gameRepository, GameCache gameCache, GameExpiryTracker expiryTracker,
+      PendingGameSummaries summaries, GameLocks gameLocks, ExternalKeyGenerator generator,
+      PlatformTransactionManager transactionManager) {
+    super(guessRepository, gameRepository, gameCache, expiryTracker, summaries, gameLocks,
+        generator);
+    this.log = log;
+    this.gameRepository = gameRepository;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  protected long[] persist(
+      @NonNull Game game, @NonNull List<GuessSnapshot> guesses, boolean solution) {
+    CodePool codePool = CodePool.of(game.getPool());
+    long[] sequences = new long[guesses.size()];
+    try {
+      for (int index = 0; index < sequences.length; index++) {
+        GuessSnapshot guess = guesses.get(index);
+        sequences[index] = log.append(game.getId(), guess.externalKey(),
+            guess.created().toEpochMilli(), guess.exactMatches(), guess.nearMatches(),
+            codePool.encode(guess.text()));
+      }
+      log.awaitDurable(sequences[sequences.length - 1]);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Date timestamp = Date.from(guesses.get(0).created());
+    transactionTemplate.executeWithoutResult((status) -> {
+      gameRepository.recordGuesses(game.getId(), guesses.size(), timestamp, solution);
+      recordSummary(game, guesses.size(), timestamp, solution);
+    });
+    return sequences;
+  }
+
+}
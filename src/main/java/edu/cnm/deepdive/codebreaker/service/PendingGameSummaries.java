@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the summary state (guess count, solved state, and time of the last guess) of games with
+ * guesses accepted by a {@link DeferredGuessService}, but not yet written to the database. Unlike
+ * the {@link GameCache}, from which entries may be evicted or invalidated at any time, an entry is
+ * retained until the guesses from which it was computed have been written; so applying these
+ * entries (via {@link #apply(Game)}) to every game read ensures that a game solved in memory is
+ * never presented, or validated against, as unsolved. When guesses are persisted synchronously,
+ * no entries are recorded, and {@link #apply(Game)} has no effect.
+ */
+@Service
+public class PendingGameSummaries {
+
+  private final ConcurrentMap<Long, PendingSummary> summaries;
+  private volatile long persistedThrough;
+
+  /**
+   * Initializes this instance with no pending summaries.
+   */
+  public PendingGameSummaries() {
+    summaries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Records the current summary state of {@code game}, as updated by the submission of guesses
+   * with sequence numbers up to (and including) {@code sequence}.
+   *
+   * @param game     {@link Game} against which guesses were submitted.
+   * @param sequence Sequence number of the last guess submitted.
+   */
+  public void record(@NonNull Game game, long sequence) {
+    PendingSummary summary = new PendingSummary(sequence, game.getVersion(),
+        game.getGuessCount(), game.getLastGuessAt(), game.isSolved());
+    summaries.merge(game.getId(), summary,
+        (existing, recorded) -> (existing.sequence() > recorded.sequence()) ? existing : recorded);
+    long through = persistedThrough;
+    if (sequence <= through) {
+      prune(game.getId(), through);
+    }
+  }
+
+  /**
+   * Removes the summaries of the specified games that reflect only guesses written to the database,
+   * i.e. those recorded with sequence numbers no greater than {@code through}.
+   *
+   * @param through Sequence number of the last guess written.
+   * @param gameIds Primary keys of the games of the guesses written.
+   */
+  public void persisted(long through, @NonNull Collection<Long> gameIds) {
+    persistedThrough = through;
+    gameIds.forEach((gameId) -> prune(gameId, through));
+  }
+
+  /**
+   * Updates the summary state of {@code game} with the pending summary recorded for it, if that
+   * summary includes more guesses than {@code game} does.
+   *
+   * @param game {@link Game} read from the {@link GameCache} or the database.
+   * @return {@code game}.
+   */
+  public Game apply(@NonNull Game game) {
+    applyIfPending(game);
+    return game;
+  }
+
+  /**
+   * Updates the summary state of {@code game} as described for {@link #apply(Game)}, and returns
+   * {@code true} if a summary is pending for {@code game} (whether or not it included more guesses
+   * than {@code game}). When this returns {@code false}, any guesses submitted against
+   * {@code game} have been written to the database, so its summary state there is current.
+   *
+   * @param game {@link Game} read from the {@link GameCache} or the database.
+   * @return (See above.)
+   */
+  public boolean applyIfPending(@NonNull Game game) {
+    PendingSummary summary = summaries.get(game.getId());
+    if (summary == null) {
+      return false;
+    }
+    if (summary.guessCount() > game.getGuessCount()) {
+      game.refreshSummary(summary.version(), summary.guessCount(), summary.lastGuessAt(),
+          summary.solved());
+    }
+    return true;
+  }
+
+  private void prune(long gameId, long through) {
+    summaries.computeIfPresent(gameId,
+        (id, summary) -> (summary.sequence() <= through) ? null : summary);
+  }
+
+  private record PendingSummary(
+      long sequence, long version, int guessCount, Date lastGuessAt, boolean solved) {
+
+  }
+
+}
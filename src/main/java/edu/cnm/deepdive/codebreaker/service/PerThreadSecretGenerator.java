@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+/**
+ * Generates secret codes using the {@link RandomBuffer} of the calling thread, so that concurrent
+ * game creation (on platform threads) never contends on a shared generator. Indices into the pool
+ * are drawn with {@link RandomBuffer#nextInt(int)}, so every code point is equally likely,
+ * whatever the size of the pool.
+ */
+public class PerThreadSecretGenerator implements SecretGenerator {
+
+  @Override
+  public int[] generate(int[] pool, int length) {
+    RandomBuffer random = RandomBuffer.current();
+    int[] code = new int[length];
+    for (int i = 0; i < length; i++) {
+      code[i] = pool[random.nextInt(pool.length)];
+    }
+    return code;
+  }
+
+}
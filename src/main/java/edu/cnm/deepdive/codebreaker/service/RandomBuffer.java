@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * Supplies cryptographically strong random values to the current thread from a buffer, refilled in
+ * bulk from a DRBG instance. For a platform thread, the buffer and generator are confined to the
+ * thread, so drawing random values never contends with other threads (unlike a shared
+ * {@link SecureRandom}, which is synchronized internally). Since virtual threads are typically
+ * created per task, giving each its own (expensively seeded) generator would defeat the purpose;
+ * instead, virtual threads share a fixed set of lock-guarded buffers, striped by thread ID. Each
+ * generator is reseeded from the system entropy source after every {@value #RESEED_REFILLS}
+ * refills of its buffer.
+ */
+public final class RandomBuffer {
+
+  private static final int BUFFER_SIZE = 512;
+  private static final int RESEED_REFILLS = 4096;
+  private static final String ALGORITHM = "DRBG";
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_VIEW =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final long UNSIGNED_INT_MASK = 0xffff_ffffL;
+  private static final String INVALID_BOUND_FORMAT = "Bound must be positive: %d";
+
+  private static final int STRIPES =
+      Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+
+  private static final ThreadLocal<RandomBuffer> buffers =
+      ThreadLocal.withInitial(() -> new RandomBuffer(null));
+  private static final RandomBuffer[] shared = IntStream
+      .range(0, STRIPES)
+      .mapToObj((stripe) -> new RandomBuffer(new ReentrantLock()))
+      .toArray(RandomBuffer[]::new);
+
+  private final SecureRandom source;
+  private final byte[] buffer;
+  private final Lock lock;
+  private int position;
+  private int refills;
+
+  private RandomBuffer(Lock lock) {
+    this.lock = lock;
+    try {
+      source = SecureRandom.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    buffer = new byte[BUFFER_SIZE];
+    position = BUFFER_SIZE;
+  }
+
+  /**
+   * Returns the instance confined to the current thread, if it is a platform thread; otherwise,
+   * returns the shared instance assigned to the current (virtual) thread.
+   *
+   * @return (See above.)
+   */
+  public static RandomBuffer current() {
+    Thread thread = Thread.currentThread();
+    return thread.isVirtual()
+        ? shared[(int) (thread.threadId() & (STRIPES - 1))]
+        : buffers.get();
+  }
+
+  /**
+   * Returns the next 64 random bits from this buffer, refilling it first if necessary.
+   *
+   * @return (See above.)
+   */
+  public long nextLong() {
+    if (lock == null) {
+      return nextBits();
+    }
+    lock.lock();
+    try {
+      return nextBits();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a random value uniformly distributed from 0 (inclusive) to {@code bound} (exclusive),
+   * without the bias introduced by reducing a random value modulo {@code bound}. Each value is
+   * computed from the high 32 bits of the product of {@code bound} and 32 random bits (Lemire's
+   * method); in the rare case that the low 32 bits of the product fall in the range that would
+   * favor some results over others, the value is drawn again.
+   *
+   * @param bound Upper bound (exclusive) of the value returned.
+   * @return (See above.)
+   * @throws IllegalArgumentException If {@code bound} is not positive.
+   */
+  public int nextInt(int bound) throws IllegalArgumentException {
+    if (bound <= 0) {
+      throw new IllegalArgumentException(String.format(INVALID_BOUND_FORMAT, bound));
+    }
+    if (lock == null) {
+      return nextBounded(bound);
+    }
+    lock.lock();
+    try {
+      return nextBounded(bound);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long nextBits() {
+    if (position > BUFFER_SIZE - Long.BYTES) {
+      refill();
+    }
+    long value = (long) LONG_VIEW.get(buffer, position);
+    position += Long.BYTES;
+    return value;
+  }
+
+  private int nextBounded(int bound) {
+    long product = nextUnsignedInt() * bound;
+    if ((product & UNSIGNED_INT_MASK) < bound) {
+      long threshold = (UNSIGNED_INT_MASK + 1 - bound) % bound;
+      while ((product & UNSIGNED_INT_MASK) < threshold) {
+        product = nextUnsignedInt() * bound;
+      }
+    }
+    return (int) (product >>> Integer.SIZE);
+  }
+
+  private long nextUnsignedInt() {
+    if (position > BUFFER_SIZE - Integer.BYTES) {
+      refill();
+    }
+    int value = (int) INT_VIEW.get(buffer, position);
+    position += Integer.BYTES;
+    return value & UNSIGNED_INT_MASK;
+  }
+
+  private void refill() {
+    if (++refills >= RESEED_REFILLS) {
+      source.reseed();
+      refills = 0;
+    }
+    source.nextBytes(buffer);
+    position = 0;
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.dao.ReactiveGameRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implements non-blocking high-level operations on new and existing {@link Game} instances, for
+ * use by the reactive API stack. Validation of new games and generation of their codes is
+ * delegated to {@link GameRules}, exactly as in {@link GameService}; changes are reported to the
+ * same {@link GameExpiryTracker}, so that games started through either stack expire alike.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveGameService {
+
+  private final ReactiveGameRepository gameRepository;
+  private final GameExpiryTracker expiryTracker;
+  private final TransactionalOperator transactionalOperator;
+  private final SecretGenerator secretGenerator;
+
+  /**
+   * Initializes this instance by injecting the required {@link ReactiveGameRepository},
+   * {@link GameExpiryTracker}, {@link TransactionalOperator}, and {@link SecretGenerator}.
+   *
+   * @param gameRepository        Non-blocking persistence operations provider for games.
+   * @param expiryTracker         Tracker of {@link Game} expiry times.
+   * @param transactionalOperator Transaction demarcation for multi-statement operations.
+   * @param secretGenerator       Strategy used to generate codes.
+   */
+  @Autowired
+  public ReactiveGameService(ReactiveGameRepository gameRepository,
+      GameExpiryTracker expiryTracker, TransactionalOperator transactionalOperator,
+      SecretGenerator secretGenerator) {
+    this.gameRepository = gameRepository;
+    this.expiryTracker = expiryTracker;
+    this.transactionalOperator = transactionalOperator;
+    this.secretGenerator = secretGenerator;
+  }
+
+  /**
+   * Validates {@code game} and generates its code (see
+   * {@link GameRules#prepare(Game, SecretGenerator)}), then saves it.
+   *
+   * @param game {@link Game} specifying the character pool and length of the code to be generated.
+   * @return {@link Mono} emitting the validated, completed, and persisted {@link Game}, or
+   * {@link InvalidPropertyException} if validation fails.
+   */
+  public Mono<Game> add(@NonNull Game game) {
+    return Mono
+        .fromCallable(() -> {
+          GameRules.prepare(game, secretGenerator);
+          return game;
+        })
+        .flatMap(gameRepository::insert)
+        .doOnNext((saved) -> expiryTracker.record(saved, saved.getCreated()));
+  }
+
+  /**
+   * Retrieves the {@link Game} specified by {@code externalKey}, if it exists.
+   *
+   * @param externalKey Unique identifier of {@link Game} instance.
+   * @return {@link Mono} emitting the {@link Game}, or completing empty if there is no such game.
+   */
+  public Mono<Game> get(@NonNull UUID externalKey) {
+    return gameRepository.findByExternalKey(externalKey);
+  }
+
+  /**
+   * Deletes {@code game}, along with its guesses, in a single transaction.
+   *
+   * @param game {@link Game} to be deleted.
+   * @return {@link Mono} completing when the game has been deleted.
+   */
+  public Mono<Void> remove(@NonNull Game game) {
+    return gameRepository
+        .delete(game.getId())
+        .as(transactionalOperator::transactional)
+        .doOnSuccess((count) -> expiryTracker.forget(game.getExternalKey()))
+        .then();
+  }
+
+}
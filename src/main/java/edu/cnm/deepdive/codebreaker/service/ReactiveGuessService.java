@@ -0,0 +1,228 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.NotFoundException;
+import edu.cnm.deepdive.codebreaker.model.dao.GameSummary;
+import edu.cnm.deepdive.codebreaker.model.dao.ReactiveGameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.ReactiveGuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implements non-blocking high-level operations on {@link Guess} instances, for use by the reactive
+ * API stack. Validation and scoring of guesses is delegated to {@link GameRules}, exactly as in
+ * {@link GuessService}; submitted guesses and the corresponding updates to the summary columns of
+ * the {@link Game} are saved in a single transaction.
+ * <p>
+ * Since handlers on this stack must not block, submissions are not serialized by
+ * {@link GameLocks}; instead, as in {@link GuessService}, the summary columns of the game are
+ * updated only if its version is unchanged, and it is still unsolved. If that update fails, nothing
+ * is recorded; the current summary state is read from the database, and the submission is
+ * validated and recorded again (up to {@code game-lock.max-attempts} times, after which it fails
+ * with {@link OptimisticLockingFailureException}). Such conflicts are counted as
+ * {@code guess.service.conflicts}.
+ * </p>
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveGuessService {
+
+  private static final String CONFLICTS_METER = "guess.service.conflicts";
+  private static final String CONFLICT_MESSAGE = "Game %s changed concurrently";
+
+  private final ReactiveGuessRepository guessRepository;
+  private final ReactiveGameRepository gameRepository;
+  private final GameExpiryTracker expiryTracker;
+  private final TransactionalOperator transactionalOperator;
+  private final int maxAttempts;
+  private final Counter conflicts;
+
+  /**
+   * Initializes this service with a {@link ReactiveGuessRepository},
+   * {@link ReactiveGameRepository}, {@link GameExpiryTracker}, {@link TransactionalOperator}, and
+   * {@link MeterRegistry}, and the maximum number of attempts to record a submission.
+   *
+   * @param guessRepository       Non-blocking persistence operations provider for guesses.
+   * @param gameRepository        Non-blocking persistence operations provider for game summary
+   *                              updates.
+   * @param expiryTracker         Tracker of {@link Game} expiry times, extended by each submission.
+   * @param transactionalOperator Transaction demarcation for submissions.
+   * @param registry              Micrometer meter registry.
+   * @param maxAttempts           Maximum number of attempts to record a submission, when the game
+   *                              is changed concurrently.
+   */
+  @Autowired
+  public ReactiveGuessService(ReactiveGuessRepository guessRepository,
+      ReactiveGameRepository gameRepository, GameExpiryTracker expiryTracker,
+      TransactionalOperator transactionalOperator, MeterRegistry registry,
+      @Value("${game-lock.max-attempts:3}") int maxAttempts) {
+    this.guessRepository = guessRepository;
+    this.gameRepository = gameRepository;
+    this.expiryTracker = expiryTracker;
+    this.transactionalOperator = transactionalOperator;
+    this.maxAttempts = maxAttempts;
+    conflicts = registry.counter(CONFLICTS_METER);
+  }
+
+  /**
+   * Validates and matches {@code guess} against {@code game}, as described for
+   * {@link AbstractGuessService#add(Game, Guess)}, and saves it.
+   *
+   * @param game  Game with secret code being guessed.
+   * @param guess Submitted attempt to guess the secret code.
+   * @return {@link Mono} emitting the validated, summarized, and saved {@link Guess}, or
+   * {@link AlreadySolvedException} or {@link InvalidPropertyException} if validation fails.
+   */
+  public Mono<Guess> add(@NonNull Game game, @NonNull Guess guess) {
+    return submit(game, () -> {
+      GameRules.validateUnsolved(game);
+      GameRules.match(game, guess);
+      return List.of(guess);
+    }, 1)
+        .map((saved) -> saved.get(0));
+  }
+
+  /**
+   * Validates and matches each of {@code guesses}, in order, against {@code game}, as described for
+   * {@link AbstractGuessService#addAll(Game, List)}, and saves them together.
+   *
+   * @param game    Game with secret code being guessed.
+   * @param guesses Submitted attempts to guess the secret code, in order of submission.
+   * @return {@link Mono} emitting the validated, summarized, and saved {@link Guess} instances, in
+   * order of submission.
+   */
+  public Mono<List<Guess>> addAll(@NonNull Game game, @NonNull List<Guess> guesses) {
+    return submit(game, () -> {
+      GameRules.validateUnsolved(game);
+      return GameRules.matchAll(game, guesses);
+    }, 1);
+  }
+
+  /**
+   * Retrieves the {@link Guess} specified by {@code externalKey}, if it was submitted against
+   * {@code game}.
+   *
+   * @param game        Game in which the guess was submitted.
+   * @param externalKey Unique identifier of {@link Guess} instance.
+   * @return {@link Mono} emitting the {@link Guess}, or completing empty if there is no such guess.
+   */
+  public Mono<Guess> get(@NonNull Game game, @NonNull UUID externalKey) {
+    return guessRepository.findByGameAndExternalKey(game, externalKey);
+  }
+
+  /**
+   * Retrieves a page of up to {@code limit} guesses submitted against {@code game}, in order of
+   * submission, as described for {@link AbstractGuessService#list(Game, UUID, int)}.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param after Unique identifier of the last {@link Guess} of the previous page (if any).
+   * @param limit Maximum number of guesses to return.
+   * @return {@link Flux} emitting the page of guesses, or {@link NoSuchElementException} if
+   * {@code after} does not refer to a guess submitted against {@code game}.
+   */
+  public Flux<Guess> list(@NonNull Game game, UUID after, int limit) {
+    return (after == null)
+        ? guessRepository.findFirstPage(game, limit)
+        : guessRepository
+            .findByGameAndExternalKey(game, after)
+            .switchIfEmpty(Mono.error(NotFoundException::new))
+            .flatMapMany((guess) -> guessRepository.findPage(game, guess.getId(), limit));
+  }
+
+  /**
+   * Retrieves up to {@code limit} of the most recent guesses submitted against {@code game}, in
+   * order of submission.
+   *
+   * @param game  Game in which the guesses were submitted.
+   * @param limit Maximum number of guesses to return.
+   * @return {@link Mono} emitting the most recent guesses.
+   */
+  public Mono<List<Guess>> recent(@NonNull Game game, int limit) {
+    return guessRepository
+        .findRecent(game, limit)
+        .collectList()
+        .map((recent) -> {
+          List<Guess> guesses = new ArrayList<>(recent);
+          Collections.reverse(guesses);
+          return guesses;
+        });
+  }
+
+  private Mono<List<Guess>> submit(Game game, Callable<List<Guess>> matcher, int attempt) {
+    return Mono
+        .fromCallable(matcher)
+        .flatMap((matched) -> record(game, matched))
+        .as(transactionalOperator::transactional)
+        .switchIfEmpty(Mono.defer(() -> {
+          conflicts.increment();
+          if (attempt >= maxAttempts) {
+            return Mono.error(new OptimisticLockingFailureException(
+                String.format(CONFLICT_MESSAGE, game.getExternalKey())));
+          }
+          return gameRepository
+              .findSummaryById(game.getId())
+              .switchIfEmpty(Mono.error(NotFoundException::new))
+              .flatMap((summary) -> {
+                refresh(game, summary);
+                return submit(game, matcher, attempt + 1);
+              });
+        }));
+  }
+
+  private Mono<List<Guess>> record(Game game, List<Guess> matched) {
+    Date timestamp = new Date();
+    boolean solution = !matched.isEmpty() && matched.get(matched.size() - 1).isSolution();
+    return gameRepository
+        .recordGuessesIfCurrent(
+            game.getId(), game.getVersion(), matched.size(), timestamp, solution)
+        .filter((updated) -> updated == 1)
+        .flatMap((updated) -> guessRepository
+            .insertAll(matched)
+            .collectList())
+        .doOnNext((saved) -> {
+          game.recordGuesses(saved.size(), timestamp, solution);
+          expiryTracker.record(game, timestamp);
+        });
+  }
+
+  private static void refresh(Game game, GameSummary summary) {
+    game.refreshSummary(summary.getVersion(), summary.getGuessCount(), summary.getLastGuessAt(),
+        summary.isSolved());
+  }
+
+}
@@ -15,47 +15,185 @@
  */
 package edu.cnm.deepdive.codebreaker.service;
 
+import edu.cnm.deepdive.codebreaker.diagnostics.ExpiryBatchEvent;
 import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
-import java.util.Calendar;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
- * Provides scheduled database maintenance tasks. Currently, only one such task is
- * implemented&mdash;namely, the deletion of inactive games.
+ * Provides scheduled database maintenance tasks: the continuous deletion of expired (inactive)
+ * games, and (once, at startup) the population of the summary columns of games recorded before
+ * those columns existed. When several service nodes share a database, each task runs on only one
+ * node at a time, under a lease obtained from the {@link LeaseService}.
+ * <p>
+ * Row counts are published to Micrometer: games deleted on expiry as
+ * {@code maintenance.expiry.deleted}, the number of games deleted in each batch as
+ * {@code maintenance.expiry.batch}, and games with backfilled summaries as
+ * {@code maintenance.backfill.updated}. Each batch deletion is also recorded as an
+ * {@link ExpiryBatchEvent} JFR event.
+ * </p>
  */
 @Service
-@Profile("service")
+@Profile("service & !memory")
 public class ScheduledMaintenanceService {
 
+  private static final Logger logger = LoggerFactory.getLogger(ScheduledMaintenanceService.class);
+
+  private static final String BACKFILL_LEASE = "summary-backfill";
+  private static final String EXPIRY_LEASE = "game-expiry";
+  private static final String DELETED_METER = "maintenance.expiry.deleted";
+  private static final String BATCH_METER = "maintenance.expiry.batch";
+  private static final String BACKFILLED_METER = "maintenance.backfill.updated";
+
   private final GameRepository repository;
+  private final GameDeletionService deletionService;
+  private final GameExpiryTracker expiryTracker;
+  private final LeaseService leaseService;
+  private final Counter deleted;
+  private final DistributionSummary deletedPerBatch;
+  private final Counter backfilled;
+  private final Deque<UUID> expired;
+  private boolean tracking;
 
-  @Value("${schedule.stale-game-days}")
-  private int staleGameDays;
+  @Value("${expiry.batch-size}")
+  private int batchSize;
+
+  @Value("${expiry.tick-budget-millis}")
+  private long tickBudgetMillis;
 
   /**
-   * Initializes the service with a {@link GameRepository}.
+   * Initializes the service with a {@link GameRepository}, {@link GameDeletionService},
+   * {@link GameExpiryTracker}, {@link LeaseService}, and {@link MeterRegistry}.
    *
-   * @param repository Persistence operations provider.
+   * @param repository      Persistence operations provider.
+   * @param deletionService Bulk deletion provider.
+   * @param expiryTracker   Tracker of game expiry times.
+   * @param leaseService    Provider of cluster-wide leases on maintenance tasks.
+   * @param registry        Micrometer meter registry.
    */
   @Autowired
-  public ScheduledMaintenanceService(GameRepository repository) {
+  public ScheduledMaintenanceService(GameRepository repository,
+      GameDeletionService deletionService, GameExpiryTracker expiryTracker,
+      LeaseService leaseService, MeterRegistry registry) {
     this.repository = repository;
+    this.deletionService = deletionService;
+    this.expiryTracker = expiryTracker;
+    this.leaseService = leaseService;
+    deleted = registry.counter(DELETED_METER);
+    deletedPerBatch = DistributionSummary
+        .builder(BATCH_METER)
+        .baseUnit("games")
+        .register(registry);
+    backfilled = registry.counter(BACKFILLED_METER);
+    expired = new ArrayDeque<>();
+  }
+
+  /**
+   * Populates the summary columns (solved flag, guess count, and last guess timestamp) of any games
+   * with recorded guesses but no recorded guess count. If another node holds the lease on this
+   * task, it is skipped.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillGameSummaries() {
+    if (leaseService.acquire(BACKFILL_LEASE)) {
+      try {
+        backfilled.increment(repository.backfillSummaries());
+      } finally {
+        leaseService.release(BACKFILL_LEASE);
+      }
+    }
   }
 
   /**
-   * Deletes inactive games&mdash;that is, those games without any guesses submitted in the most
-   * recent <i>N</i> days, where <i>N</i> is set from the {@code schedule.stale-game-days}
-   * application property.
+   * Deletes expired games&mdash;that is, those games without any activity in their time-to-live
+   * (by default, the number of days set by the {@code schedule.stale-game-days} application
+   * property). This is invoked every {@code expiry.tick-millis} milliseconds on every node, but
+   * does nothing unless this node holds (or can acquire) the lease on this task. On acquiring the
+   * lease, the node loads the expiry times of all games into its {@link GameExpiryTracker}; while
+   * holding it, each invocation loads any games created since the previous invocation, then deletes
+   * the games expired since the previous invocation, in batches of at most
+   * {@code expiry.batch-size} games, until no expired games remain or the
+   * {@code expiry.tick-budget-millis} time budget is exhausted. Any remaining expired games are
+   * deleted by subsequent invocations. Each batch is fenced by the lease, and every expiry is
+   * confirmed against the database, since activity may have been recorded by another node. Nodes
+   * not holding the lease don't track expiry times; on losing the lease, a node discards those it
+   * has tracked.
    */
-  @Scheduled(cron = "${schedule.cron}", zone = "${schedule.zone}")
-  public void cleanStaleGames() {
-    Calendar calendar = Calendar.getInstance();
-    calendar.add(Calendar.DAY_OF_MONTH, -staleGameDays);
-    repository.deleteAll(repository.findAllStale(calendar.getTime()));
+  @Scheduled(fixedDelayString = "${expiry.tick-millis}",
+      initialDelayString = "${expiry.tick-millis}")
+  public void deleteExpiredGames() {
+    if (!leaseService.acquire(EXPIRY_LEASE)) {
+      if (tracking) {
+        stopTracking();
+      }
+      return;
+    }
+    if (tracking) {
+      expiryTracker.refresh();
+    } else {
+      trackGameExpiries();
+      tracking = true;
+    }
+    long now = System.currentTimeMillis();
+    expired.addAll(expiryTracker.expire(now));
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickBudgetMillis);
+    try {
+      while (!expired.isEmpty() && System.nanoTime() < deadline) {
+        List<UUID> batch = new ArrayList<>(Math.min(batchSize, expired.size()));
+        while (batch.size() < batchSize && !expired.isEmpty()) {
+          batch.add(expired.poll());
+        }
+        ExpiryBatchEvent event = new ExpiryBatchEvent();
+        event.begin();
+        int count = deletionService.deleteExpired(batch,
+            (activity) -> expiryTracker.confirm(activity, now),
+            () -> leaseService.fence(EXPIRY_LEASE));
+        event.complete(batch.size(), count);
+        deleted.increment(count);
+        deletedPerBatch.record(count);
+      }
+    } catch (IllegalStateException e) {
+      logger.warn("Stopped deleting expired games: {}", e.getMessage());
+      stopTracking();
+    }
+  }
+
+  /**
+   * Renews the leases held by this node on maintenance tasks. This is invoked every
+   * {@code lease.heartbeat-millis} milliseconds.
+   */
+  @Scheduled(fixedDelayString = "${lease.heartbeat-millis}")
+  public void renewLeases() {
+    leaseService.heartbeat();
+  }
+
+  private void stopTracking() {
+    tracking = false;
+    expired.clear();
+    expiryTracker.stop();
+  }
+
+  private void trackGameExpiries() {
+    long start = System.nanoTime();
+    int count = expiryTracker.rebuild();
+    logger.info("Tracking expiry of {} games (loaded in {} ms)",
+        count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
   }
 
 }
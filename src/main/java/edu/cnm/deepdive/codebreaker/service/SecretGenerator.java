@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+/**
+ * Declares the method used to generate the secret codes of new
+ * {@link edu.cnm.deepdive.codebreaker.model.entity.Game} instances. The implementation used is
+ * selected by the {@code secret.generator} application property.
+ */
+@FunctionalInterface
+public interface SecretGenerator {
+
+  /**
+   * Generates and returns a code of {@code length} code points, each selected independently and
+   * uniformly from {@code pool}.
+   *
+   * @param pool   Distinct code points available for use in the code.
+   * @param length Number of code points in the code.
+   * @return (See above.)
+   */
+  int[] generate(int[] pool, int length);
+
+}
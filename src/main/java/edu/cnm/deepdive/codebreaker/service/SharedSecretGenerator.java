@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import java.util.Random;
+
+/**
+ * Generates secret codes using a single {@link Random} instance, shared by all threads. When that
+ * instance is a {@link java.security.SecureRandom}, which is synchronized internally, concurrent
+ * game creation contends on its lock.
+ */
+public class SharedSecretGenerator implements SecretGenerator {
+
+  private final Random rng;
+
+  /**
+   * Initializes this instance with the specified source of randomness.
+   *
+   * @param rng Source of randomness for generated codes.
+   */
+  public SharedSecretGenerator(Random rng) {
+    this.rng = rng;
+  }
+
+  @Override
+  public int[] generate(int[] pool, int length) {
+    int[] code = new int[length];
+    for (int i = 0; i < length; i++) {
+      code[i] = pool[rng.nextInt(pool.length)];
+    }
+    return code;
+  }
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import java.util.UUID;
+
+/**
+ * Generates <a href="https://www.rfc-editor.org/rfc/rfc9562#name-uuid-version-7">RFC 9562
+ * UUIDv7</a> external keys: a 48-bit Unix timestamp (in milliseconds), followed by the version and
+ * variant fields and 74 random bits. Since keys generated later sort after keys generated earlier
+ * (to millisecond resolution), new rows are appended to the end of the unique indexes on
+ * {@code external_key}, rather than scattered across them. Random bits are drawn from the
+ * {@link RandomBuffer} of the calling thread, so generation is lock-free.
+ */
+public class TimeOrderedKeyGenerator implements ExternalKeyGenerator {
+
+  private static final int TIMESTAMP_SHIFT = 16;
+  private static final long VERSION = 0x7000L;
+  private static final long RANDOM_A_MASK = 0x0fffL;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_B_MASK = 0x3fff_ffff_ffff_ffffL;
+
+  @Override
+  public UUID generate() {
+    RandomBuffer random = RandomBuffer.current();
+    long mostSignificantBits = (System.currentTimeMillis() << TIMESTAMP_SHIFT)
+        | VERSION
+        | (random.nextLong() & RANDOM_A_MASK);
+    long leastSignificantBits = VARIANT | (random.nextLong() & RANDOM_B_MASK);
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel, holding keys scheduled to expire at specified times. The wheel has
+ * {@value #LEVELS} levels of {@value #SLOTS} slots each; a slot at level <i>L</i> spans
+ * {@value #SLOTS}<sup><i>L</i></sup> ticks, so that the wheel covers {@value
+ * #SLOTS}<sup>{@value #LEVELS}</sup> ticks in all (about 194 days, with 1-second ticks). Keys
+ * scheduled beyond that horizon are held in the most distant slot, and rescheduled when it is
+ * reached. Scheduling a key takes constant time; advancing the wheel takes time proportional to the
+ * number of ticks elapsed, plus the number of keys expired or moved to a lower level.
+ * <p>
+ * Expiry times are rounded up to the next tick, and a key is never expired earlier than the tick
+ * after it was scheduled. A key may be scheduled more than once; each occurrence expires
+ * separately. This class is not thread-safe.
+ * </p>
+ *
+ * @param <K> Type of key.
+ */
+public final class TimingWheel<K> {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 4;
+  private static final long HORIZON = 1L << (SLOT_BITS * LEVELS);
+
+  private final long tickMillis;
+  private final List<List<Entry<K>>> slots;
+  private long currentTick;
+  private int size;
+
+  /**
+   * Initializes this instance with the specified tick duration and start time.
+   *
+   * @param tickMillis  Duration of a single tick, in milliseconds.
+   * @param startMillis Start time of the wheel, in milliseconds since the epoch.
+   */
+  public TimingWheel(long tickMillis, long startMillis) {
+    this.tickMillis = tickMillis;
+    slots = new ArrayList<>(LEVELS * SLOTS);
+    for (int i = 0; i < LEVELS * SLOTS; i++) {
+      slots.add(new ArrayList<>());
+    }
+    currentTick = startMillis / tickMillis;
+  }
+
+  /**
+   * Schedules {@code key} to expire at {@code expiryMillis}.
+   *
+   * @param key          Key to schedule.
+   * @param expiryMillis Expiry time, in milliseconds since the epoch.
+   */
+  public void schedule(K key, long expiryMillis) {
+    long tick = Math.max(Math.ceilDiv(expiryMillis, tickMillis), currentTick + 1);
+    insert(new Entry<>(key, tick));
+    size++;
+  }
+
+  /**
+   * Advances this wheel to {@code nowMillis}, passing each key that expires on or before that time
+   * to {@code consumer}. {@code consumer} may schedule keys on this wheel.
+   *
+   * @param nowMillis Current time, in milliseconds since the epoch.
+   * @param consumer  Recipient of expired keys.
+   */
+  public void advance(long nowMillis, Consumer<? super K> consumer) {
+    long targetTick = nowMillis / tickMillis;
+    while (currentTick < targetTick) {
+      currentTick++;
+      for (int level = LEVELS - 1; level > 0; level--) {
+        if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+          for (Entry<K> entry : take(level, slotIndex(currentTick, level))) {
+            if (entry.tick <= currentTick) {
+              size--;
+              consumer.accept(entry.key);
+            } else {
+              insert(entry);
+            }
+          }
+        }
+      }
+      for (Entry<K> entry : take(0, slotIndex(currentTick, 0))) {
+        size--;
+        consumer.accept(entry.key);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of keys scheduled on this wheel.
+   *
+   * @return (See above.)
+   */
+  public int size() {
+    return size;
+  }
+
+  private void insert(Entry<K> entry) {
+    long delta = Math.min(entry.tick - currentTick, HORIZON - 1);
+    int level = 0;
+    while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+      level++;
+    }
+    slots
+        .get(level * SLOTS + slotIndex(currentTick + delta, level))
+        .add(entry);
+  }
+
+  private List<Entry<K>> take(int level, int slot) {
+    List<Entry<K>> entries = slots.get(level * SLOTS + slot);
+    if (entries.isEmpty()) {
+      return entries;
+    }
+    slots.set(level * SLOTS + slot, new ArrayList<>());
+    return entries;
+  }
+
+  private static int slotIndex(long tick, int level) {
+    return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+  }
+
+  private record Entry<K>(K key, long tick) {
+
+  }
+
+}
@@ -0,0 +1,315 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.ServiceBusyException;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessBatchRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessBatchRepository.SummaryUpdate;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implements high-level operations on {@link Guess} instances, as described for
+ * {@link GuessService}, but persisting submitted guesses asynchronously (write-behind). A
+ * submission is validated and scored against the current state of the game, its summary state is
+ * updated in memory (and in the {@link GameCache}), and it is placed on a bounded queue; the
+ * submission then returns without waiting for the database. A single writer thread drains the
+ * queue, writing the guesses of all queued submissions (up to {@code write-behind.batch-size}
+ * submissions), and the corresponding changes to the summary columns of their games, with batched
+ * JDBC statements in a single transaction, at most once every
+ * {@code write-behind.flush-interval-millis} milliseconds. The writer thread is started once this
+ * service is fully initialized, and submissions are rejected until then. Until written, guesses are held in
+ * memory (see {@link DeferredGuessService}).
+ * <p>
+ * When the queue is full, a submission waits for up to {@code write-behind.offer-timeout-millis}
+ * milliseconds for space, then fails with {@link ServiceBusyException}. A batch that can't be
+ * written is retried (every {@code write-behind.retry-millis} milliseconds) until it succeeds, so
+ * that a database outage causes backpressure rather than loss of guesses. At shutdown, new
+ * submissions are rejected, and the queue is drained before the writer thread stops. Since queued
+ * guesses are held only in memory, guesses accepted but not yet written are lost if the service is
+ * terminated abruptly.
+ * </p>
+ * <p>
+ * The queue depth, batch sizes (in guesses), commit latencies, and rejected submissions are
+ * published to Micrometer as {@code guess.writer.queue.depth}, {@code guess.writer.batch.size},
+ * {@code guess.writer.commit}, and {@code guess.writer.rejected}, respectively. This
+ * implementation is used only with the {@code write-behind} profile.
+ * </p>
+ */
+@Service
+@Profile("write-behind & !memory & !wal")
+public class WriteBehindGuessService extends DeferredGuessService {
+
+  private static final Logger logger = LoggerFactory.getLogger(WriteBehindGuessService.class);
+
+  private static final String QUEUE_DEPTH_METER = "guess.writer.queue.depth";
+  private static final String BATCH_SIZE_METER = "guess.writer.batch.size";
+  private static final String COMMIT_METER = "guess.writer.commit";
+  private static final String REJECTED_METER = "guess.writer.rejected";
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private final GuessBatchRepository batchRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<Submission> queue;
+  private final Lock enqueueLock;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final long offerTimeoutNanos;
+  private final long retryNanos;
+  private final long shutdownTimeoutMillis;
+  private final DistributionSummary batchSizes;
+  private final Timer commitTimer;
+  private final Counter rejections;
+  private Thread writer;
+  private long nextSequence;
+  private volatile boolean open;
+
+  /**
+   * Initializes this service with the repositories, cache, expiry tracker, pending summaries, and
+   * game locks used to read and record guesses, the {@link ExternalKeyGenerator} used to assign
+   * external keys to guesses, the transaction manager used to demarcate batches, the registry to
+   * which metrics are published, and the queue and batch settings.
+   *
+   * @param guessRepository       Persistence operations provider for written {@link Guess}
+   *                              instances.
+   * @param gameRepository        Persistence operations provider for {@link Game} summary state.
+   * @param batchRepository       Batched JDBC persistence operations provider.
+   * @param gameCache             Cache of {@link Game} snapshots, updated with the summary
+   *                              changes.
+   * @param expiryTracker         Tracker of {@link Game} expiry times, extended by each
+   *                              submission.
+   * @param summaries             Summary state of games with guesses not yet written.
+   * @param gameLocks             Table of locks serializing submissions against each game.
+   * @param generator             Source of new external keys.
+   * @param transactionManager    Transaction manager used to demarcate batches.
+   * @param registry              Registry to which metrics are published.
+   * @param queueCapacity         Maximum number of submissions awaiting persistence.
+   * @param batchSize             Maximum number of submissions written in a single transaction.
+   * @param flushIntervalMillis   Minimum interval between successive transactions.
+   * @param offerTimeoutMillis    Maximum time a submission waits for space in the queue.
+   * @param retryMillis           Interval between attempts to write a failed batch.
+   * @param shutdownTimeoutMillis Maximum time to wait for the queue to be drained at shutdown.
+   */
+  @Autowired
+  public WriteBehindGuessService(GuessRepository guessRepository, GameRepository gameRepository,
+      GuessBatchRepository batchRepository, GameCache gameCache, GameExpiryTracker expiryTracker,
+      PendingGameSummaries summaries, GameLocks gameLocks, ExternalKeyGenerator generator,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry registry,
+      @Value("${write-behind.queue-capacity:10000}") int queueCapacity,
+      @Value("${write-behind.batch-size:500}") int batchSize,
+      @Value("${write-behind.flush-interval-millis:5}") long flushIntervalMillis,
+      @Value("${write-behind.offer-timeout-millis:100}") long offerTimeoutMillis,
+      @Value("${write-behind.retry-millis:1000}") long retryMillis,
+      @Value("${write-behind.shutdown-timeout-millis:30000}") long shutdownTimeoutMillis) {
+    super(guessRepository, gameRepository, gameCache, expiryTracker, summaries, gameLocks,
+        generator);
+    this.batchRepository = batchRepository;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    enqueueLock = new ReentrantLock();
+    this.batchSize = batchSize;
+    flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+    retryNanos = TimeUnit.MILLISECONDS.toNanos(retryMillis);
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    Gauge
+        .builder(QUEUE_DEPTH_METER, queue, BlockingQueue::size)
+        .register(registry);
+    batchSizes = DistributionSummary
+        .builder(BATCH_SIZE_METER)
+        .register(registry);
+    commitTimer = Timer
+        .builder(COMMIT_METER)
+        .register(registry);
+    rejections = registry.counter(REJECTED_METER);
+  }
+
+  /**
+   * Starts the writer thread, and begins accepting submissions.
+   */
+  @PostConstruct
+  public void start() {
+    writer = new Thread(this::write, "guess-writer");
+    writer.setDaemon(true);
+    open = true;
+    writer.start();
+  }
+
+  @Override
+  protected long[] persist(
+      @NonNull Game game, @NonNull List<GuessSnapshot> guesses, boolean solution) {
+    Date timestamp = Date.from(guesses.get(0).created());
+    long deadline = System.nanoTime() + offerTimeoutNanos;
+    long sequence;
+    try {
+      if (!enqueueLock.tryLock(offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw rejected();
+      }
+      try {
+        if (!open) {
+          throw rejected();
+        }
+        Submission submission = new Submission(nextSequence + 1, game.getId(), guesses,
+            new SummaryUpdate(game.getId(), guesses.size(), timestamp, solution));
+        if (!queue.offer(
+            submission, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          throw rejected();
+        }
+        sequence = ++nextSequence;
+      } finally {
+        enqueueLock.unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw rejected();
+    }
+    recordSummary(game, guesses.size(), timestamp, solution);
+    long[] sequences = new long[guesses.size()];
+    Arrays.fill(sequences, sequence);
+    return sequences;
+  }
+
+  /**
+   * Rejects further submissions, and waits (for up to {@code write-behind.shutdown-timeout-millis}
+   * milliseconds) for the writer thread to drain the queue and stop.
+   */
+  @PreDestroy
+  public void stop() {
+    enqueueLock.lock();
+    try {
+      open = false;
+    } finally {
+      enqueueLock.unlock();
+    }
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.join(shutdownTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!queue.isEmpty()) {
+      logger.error("Shut down with {} submissions not written", queue.size());
+    }
+  }
+
+  private void write() {
+    List<Submission> submissions = new ArrayList<>(batchSize);
+    long lastFlush = System.nanoTime() - flushIntervalNanos;
+    while (true) {
+      try {
+        Submission first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          if (open) {
+            continue;
+          }
+          return;
+        }
+        long remaining = lastFlush + flushIntervalNanos - System.nanoTime();
+        if (open && remaining > 0) {
+          LockSupport.parkNanos(remaining);
+        }
+        submissions.add(first);
+        queue.drainTo(submissions, batchSize - 1);
+        flush(submissions);
+        lastFlush = System.nanoTime();
+        submissions.clear();
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void flush(List<Submission> submissions) {
+    Map<Long, List<GuessSnapshot>> guesses = new LinkedHashMap<>();
+    Map<Long, SummaryUpdate> updates = new LinkedHashMap<>();
+    for (Submission submission : submissions) {
+      guesses
+          .computeIfAbsent(submission.gameId(), (gameId) -> new ArrayList<>())
+          .addAll(submission.guesses());
+      updates.merge(submission.gameId(), submission.update(), SummaryUpdate::plus);
+    }
+    while (true) {
+      try {
+        long start = System.nanoTime();
+        int written = transactionTemplate.execute((status) -> {
+          Set<Long> existing = batchRepository.findPools(guesses.keySet()).keySet();
+          guesses.keySet().retainAll(existing);
+          updates.keySet().retainAll(existing);
+          batchRepository.recordGuesses(updates.values());
+          return batchRepository.insertAll(guesses);
+        });
+        commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizes.record(written);
+        break;
+      } catch (RuntimeException e) {
+        logger.warn("Failed to write {} submissions; retrying: {}",
+            submissions.size(), e.getMessage());
+        LockSupport.parkNanos(retryNanos);
+      }
+    }
+    persisted(submissions.get(submissions.size() - 1).sequence(), submissions
+        .stream()
+        .map(Submission::gameId)
+        .collect(Collectors.toSet()));
+  }
+
+  private ServiceBusyException rejected() {
+    rejections.increment();
+    return new ServiceBusyException();
+  }
+
+  private record Submission(
+      long sequence, long gameId, List<GuessSnapshot> guesses, SummaryUpdate update) {
+
+  }
+
+}
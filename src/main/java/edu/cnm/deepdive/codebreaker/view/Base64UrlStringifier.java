@@ -15,22 +15,75 @@
  */
 package edu.cnm.deepdive.codebreaker.view;
 
-import java.nio.ByteBuffer;
-import java.util.Base64;
-import java.util.Base64.Decoder;
-import java.util.Base64.Encoder;
+import edu.cnm.deepdive.codebreaker.diagnostics.KeyDecodeFailedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
  * Service implementing the {@link UUIDStringifier} interface for a base64url representation of the
- * unsigned 128-bit value encapsulated in an instance of {@link UUID}.
+ * unsigned 128-bit value encapsulated in an instance of {@link UUID}. Every representation is
+ * {@value #ENCODED_LENGTH} characters long, without padding; on decoding, the padded form (with two
+ * trailing {@code =} characters) is also accepted.
+ * <p>
+ * Encoding and decoding operate directly on the bits of the {@link UUID}, without intermediate
+ * buffers. A value that can't be decoded is rejected without throwing an exception from
+ * {@link #parse(String)}, and with an exception that doesn't capture a stack trace from
+ * {@link #fromString(String)}, so that requests with malformed keys (e.g. from scanners) are
+ * cheap to reject. Such values are counted in the Micrometer counter
+ * {@code stringifier.decode.failures}, and recorded as {@link KeyDecodeFailedEvent} JFR events.
+ * </p>
  */
 @Service
 public class Base64UrlStringifier implements UUIDStringifier {
 
-  private final Encoder encoder = Base64.getUrlEncoder().withoutPadding();
-  private final Decoder decoder = Base64.getUrlDecoder();
+  private static final Logger logger = LoggerFactory.getLogger(Base64UrlStringifier.class);
+
+  private static final String DECODE_FAILURES_METER = "stringifier.decode.failures";
+  private static final int ENCODED_LENGTH = 22;
+  private static final int PADDED_LENGTH = 24;
+  private static final char PADDING = '=';
+  private static final int SEXTET_BITS = 6;
+  private static final int SEXTET_MASK = (1 << SEXTET_BITS) - 1;
+  private static final int FINAL_SEXTET = ENCODED_LENGTH - 1;
+  private static final int FINAL_SHIFT = 4;
+  private static final int TOP_SHIFT = Long.SIZE + Long.SIZE - SEXTET_BITS;
+  private static final byte[] ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+          .getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] DECODING = new byte[128];
+  private static final String MISSING_VALUE = "Missing value";
+  private static final String INVALID_LENGTH = "Invalid length";
+  private static final String INVALID_CHARACTER = "Invalid character";
+
+  static {
+    Arrays.fill(DECODING, (byte) -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      DECODING[ALPHABET[i]] = (byte) i;
+    }
+  }
+
+  private final Counter decodeFailures;
+
+  /**
+   * Initializes this instance with the registry to which decode failures are published.
+   *
+   * @param registry Micrometer meter registry.
+   */
+  @Autowired
+  public Base64UrlStringifier(MeterRegistry registry) {
+    decodeFailures = Counter
+        .builder(DECODE_FAILURES_METER)
+        .description("External keys that could not be decoded")
+        .register(registry);
+  }
 
   /**
    * Constructs and returns a base64url representation of the 128 bits in the {@link UUID} {@code
@@ -44,7 +97,26 @@ public class Base64UrlStringifier implements UUIDStringifier {
    */
   @Override
   public String toString(UUID value) {
-    return (value != null) ? encoder.encodeToString(asBytes(value)) : null;
+    if (value == null) {
+      return null;
+    }
+    long msb = value.getMostSignificantBits();
+    long lsb = value.getLeastSignificantBits();
+    byte[] encoded = new byte[ENCODED_LENGTH];
+    for (int i = 0; i < FINAL_SEXTET; i++) {
+      int shift = TOP_SHIFT - SEXTET_BITS * i;
+      long bits;
+      if (shift >= Long.SIZE) {
+        bits = msb >>> (shift - Long.SIZE);
+      } else if (shift <= Long.SIZE - SEXTET_BITS) {
+        bits = lsb >>> shift;
+      } else {
+        bits = (msb << (Long.SIZE - shift)) | (lsb >>> shift);
+      }
+      encoded[i] = ALPHABET[(int) bits & SEXTET_MASK];
+    }
+    encoded[FINAL_SEXTET] = ALPHABET[(int) (lsb << FINAL_SHIFT) & SEXTET_MASK];
+    return new String(encoded, StandardCharsets.ISO_8859_1);
   }
 
   /**
@@ -52,33 +124,82 @@ public class Base64UrlStringifier implements UUIDStringifier {
    * byte[]} of length 16, to an instance of {@link UUID}.
    *
    * @param value {@link String} value to be converted to a {@link UUID}.
-   * @return Constructed {@link UUID} corresponding to {@code value}, or {@code null} if {@code
-   * value} is {@code null}.
-   * @throws IllegalArgumentException If {@code value} is not properly .
+   * @return Constructed {@link UUID} corresponding to {@code value}.
+   * @throws IllegalArgumentException If {@code value} is {@code null}, or is not a valid base64url
+   *                                  representation of 16 bytes. The exception thrown is a
+   *                                  {@link DecodeException} without a stack trace.
    */
   @Override
   public UUID fromString(String value) throws IllegalArgumentException {
-    try {
-      byte[] decoded = decoder.decode(value);
-      return asUUID(decoded);
-    } catch (Throwable e) {
-      e.printStackTrace();
-      throw new DecodeException(e);
+    String failure = validate(value);
+    if (failure != null) {
+      recordFailure(value, failure);
+      throw DecodeException.withoutStackTrace(failure);
     }
+    return decode(value);
   }
 
-  private byte[] asBytes(UUID uuid) {
-    ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
-    bb.putLong(uuid.getMostSignificantBits());
-    bb.putLong(uuid.getLeastSignificantBits());
-    return bb.array();
+  /**
+   * Converts a {@link String} {@code value}, assumed to be a base64url representation of a {@code
+   * byte[]} of length 16, to an instance of {@link UUID}, without throwing an exception if the
+   * conversion fails.
+   *
+   * @param value {@link String} value to be converted to a {@link UUID}.
+   * @return {@link Optional} containing the {@link UUID} corresponding to {@code value}, or an empty
+   * {@link Optional} if {@code value} is {@code null}, or is not a valid base64url representation of
+   * 16 bytes.
+   */
+  @Override
+  public Optional<UUID> parse(String value) {
+    String failure = validate(value);
+    if (failure != null) {
+      recordFailure(value, failure);
+      return Optional.empty();
+    }
+    return Optional.of(decode(value));
+  }
+
+  private static String validate(String value) {
+    if (value == null) {
+      return MISSING_VALUE;
+    }
+    int length = value.length();
+    if (length != ENCODED_LENGTH && (length != PADDED_LENGTH
+        || value.charAt(ENCODED_LENGTH) != PADDING || value.charAt(ENCODED_LENGTH + 1) != PADDING)) {
+      return INVALID_LENGTH;
+    }
+    for (int i = 0; i < ENCODED_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (c >= DECODING.length || DECODING[c] < 0) {
+        return INVALID_CHARACTER;
+      }
+    }
+    return null;
+  }
+
+  private static UUID decode(String value) {
+    long msb = 0;
+    long lsb = 0;
+    for (int i = 0; i < FINAL_SEXTET; i++) {
+      long bits = DECODING[value.charAt(i)];
+      int shift = TOP_SHIFT - SEXTET_BITS * i;
+      if (shift >= Long.SIZE) {
+        msb |= bits << (shift - Long.SIZE);
+      } else if (shift <= Long.SIZE - SEXTET_BITS) {
+        lsb |= bits << shift;
+      } else {
+        msb |= bits >>> (Long.SIZE - shift);
+        lsb |= bits << shift;
+      }
+    }
+    lsb |= DECODING[value.charAt(FINAL_SEXTET)] >>> FINAL_SHIFT;
+    return new UUID(msb, lsb);
   }
 
-  private UUID asUUID(byte[] bytes) {
-    ByteBuffer bb = ByteBuffer.wrap(bytes);
-    long firstLong = bb.getLong();
-    long secondLong = bb.getLong();
-    return new UUID(firstLong, secondLong);
+  private void recordFailure(String value, String failure) {
+    new KeyDecodeFailedEvent().complete(value, failure);
+    decodeFailures.increment();
+    logger.debug("Unable to decode {}: {}", value, failure);
   }
 
 }
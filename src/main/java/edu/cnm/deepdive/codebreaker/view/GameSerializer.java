@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.view;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Writes the JSON representation of a {@link Game}, with the same properties (in the same order)
+ * as those specified by the annotations of {@link Game}, but without reflection. The recent
+ * guesses included in the representation (if any) are written by {@link GuessSerializer}, and so
+ * are copied from its cache of serialized guesses where possible. Unlike guesses, games are not
+ * immutable, so their representations are not cached.
+ */
+@JsonComponent
+public class GameSerializer extends StdSerializer<Game> {
+
+  private static final SerializedString ID_FIELD = new SerializedString("id");
+  private static final SerializedString CREATED_FIELD = new SerializedString("created");
+  private static final SerializedString POOL_FIELD = new SerializedString("pool");
+  private static final SerializedString LENGTH_FIELD = new SerializedString("length");
+  private static final SerializedString TTL_MINUTES_FIELD = new SerializedString("ttlMinutes");
+  private static final SerializedString GUESS_COUNT_FIELD = new SerializedString("guessCount");
+  private static final SerializedString SOLVED_FIELD = new SerializedString("solved");
+  private static final SerializedString TEXT_FIELD = new SerializedString("text");
+  private static final SerializedString GUESSES_FIELD = new SerializedString("guesses");
+
+  private final UUIDStringifier stringifier;
+  private final GuessSerializer guessSerializer;
+
+  /**
+   * Initializes this instance with the {@link UUIDStringifier} used to write external keys, and the
+   * {@link GuessSerializer} used to write recent guesses.
+   *
+   * @param stringifier     {@link UUIDStringifier} instance used to write external keys.
+   * @param guessSerializer Serializer of {@link Guess} instances.
+   */
+  @Autowired
+  public GameSerializer(UUIDStringifier stringifier, GuessSerializer guessSerializer) {
+    super(Game.class);
+    this.stringifier = stringifier;
+    this.guessSerializer = guessSerializer;
+  }
+
+  @Override
+  public void serialize(Game game, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    UUID externalKey = game.getExternalKey();
+    Date created = game.getCreated();
+    String pool = game.getPool();
+    Integer ttlMinutes = game.getTtlMinutes();
+    String solution = game.getSolution();
+    List<Guess> recentGuesses = game.getRecentGuesses();
+    gen.writeStartObject(game);
+    if (externalKey != null) {
+      gen.writeFieldName(ID_FIELD);
+      gen.writeString(stringifier.toString(externalKey));
+    }
+    if (created != null) {
+      gen.writeFieldName(CREATED_FIELD);
+      provider.defaultSerializeDateValue(created, gen);
+    }
+    if (pool != null) {
+      gen.writeFieldName(POOL_FIELD);
+      gen.writeString(pool);
+    }
+    gen.writeFieldName(LENGTH_FIELD);
+    gen.writeNumber(game.getLength());
+    if (ttlMinutes != null) {
+      gen.writeFieldName(TTL_MINUTES_FIELD);
+      gen.writeNumber(ttlMinutes);
+    }
+    gen.writeFieldName(GUESS_COUNT_FIELD);
+    gen.writeNumber(game.getGuessCount());
+    gen.writeFieldName(SOLVED_FIELD);
+    gen.writeBoolean(game.isSolved());
+    if (solution != null) {
+      gen.writeFieldName(TEXT_FIELD);
+      gen.writeString(solution);
+    }
+    if (recentGuesses != null) {
+      gen.writeFieldName(GUESSES_FIELD);
+      gen.writeStartArray(recentGuesses, recentGuesses.size());
+      for (Guess guess : recentGuesses) {
+        guessSerializer.serialize(guess, gen, provider);
+      }
+      gen.writeEndArray();
+    }
+    gen.writeEndObject();
+  }
+
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.view;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.lang.NonNull;
+
+/**
+ * Writes the JSON representation of a {@link Guess}, with the same properties (in the same order)
+ * as those specified by the annotations of {@link Guess}, but without reflection. Since a guess is
+ * immutable once persisted, its representation is written only once: the resulting JSON object is
+ * retained as a UTF-8 fragment in a bounded cache (keyed by external key), and subsequently copied
+ * directly to the output of every response that includes the guess. Guesses without an external
+ * key or submission timestamp are written directly, and not cached.
+ * <p>
+ * Hit, miss, and eviction counts of the fragment cache are published to Micrometer as the
+ * {@value #CACHE_NAME} cache metrics.
+ * </p>
+ */
+@JsonComponent
+public class GuessSerializer extends StdSerializer<Guess> implements MeterBinder {
+
+  private static final String CACHE_NAME = "guess-json";
+  private static final SerializedString ID_FIELD = new SerializedString("id");
+  private static final SerializedString CREATED_FIELD = new SerializedString("created");
+  private static final SerializedString TEXT_FIELD = new SerializedString("text");
+  private static final SerializedString EXACT_MATCHES_FIELD = new SerializedString("exactMatches");
+  private static final SerializedString NEAR_MATCHES_FIELD = new SerializedString("nearMatches");
+  private static final SerializedString SOLUTION_FIELD = new SerializedString("solution");
+  private static final int FRAGMENT_CAPACITY = 192;
+
+  private final UUIDStringifier stringifier;
+  private final JsonFactory fragmentFactory;
+  private final Cache<UUID, SerializedString> fragments;
+
+  /**
+   * Initializes this instance with the {@link UUIDStringifier} used to write external keys, and the
+   * bounds of the fragment cache.
+   *
+   * @param stringifier {@link UUIDStringifier} instance used to write external keys.
+   * @param maximumSize Maximum number of cached fragments.
+   * @param timeToLive  Maximum time a fragment is retained after last being written.
+   */
+  @Autowired
+  public GuessSerializer(UUIDStringifier stringifier,
+      @Value("${guess-json-cache.maximum-size:100000}") long maximumSize,
+      @Value("${guess-json-cache.time-to-live:10m}") Duration timeToLive) {
+    super(Guess.class);
+    this.stringifier = stringifier;
+    fragmentFactory = new JsonFactory();
+    fragments = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(timeToLive)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public void serialize(Guess guess, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    UUID externalKey = guess.getExternalKey();
+    if (externalKey == null || guess.getCreated() == null) {
+      write(guess, gen, provider);
+    } else {
+      SerializedString fragment = fragments.getIfPresent(externalKey);
+      if (fragment == null) {
+        fragment = fragment(guess, provider);
+        fragments.put(externalKey, fragment);
+      }
+      gen.writeRawValue(fragment);
+    }
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, fragments, CACHE_NAME);
+  }
+
+  private SerializedString fragment(Guess guess, SerializerProvider provider) throws IOException {
+    StringWriter writer = new StringWriter(FRAGMENT_CAPACITY);
+    try (JsonGenerator gen = fragmentFactory.createGenerator(writer)) {
+      write(guess, gen, provider);
+    }
+    SerializedString fragment = new SerializedString(writer.toString());
+    fragment.asUnquotedUTF8();
+    return fragment;
+  }
+
+  private void write(Guess guess, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    UUID externalKey = guess.getExternalKey();
+    Date created = guess.getCreated();
+    String text = guess.getText();
+    gen.writeStartObject(guess);
+    if (externalKey != null) {
+      gen.writeFieldName(ID_FIELD);
+      gen.writeString(stringifier.toString(externalKey));
+    }
+    if (created != null) {
+      gen.writeFieldName(CREATED_FIELD);
+      provider.defaultSerializeDateValue(created, gen);
+    }
+    if (text != null) {
+      gen.writeFieldName(TEXT_FIELD);
+      gen.writeString(text);
+    }
+    gen.writeFieldName(EXACT_MATCHES_FIELD);
+    gen.writeNumber(guess.getExactMatches());
+    gen.writeFieldName(NEAR_MATCHES_FIELD);
+    gen.writeNumber(guess.getNearMatches());
+    gen.writeFieldName(SOLUTION_FIELD);
+    gen.writeBoolean(guess.isSolution());
+    gen.writeEndObject();
+  }
+
+}
@@ -16,6 +16,7 @@
 package edu.cnm.deepdive.codebreaker.view;
 
 import com.fasterxml.jackson.databind.util.StdConverter;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier.DecodeException;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.converter.Converter;
@@ -28,6 +29,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class UUIDDeserializer extends StdConverter<String, UUID> implements Converter<String, UUID> {
 
+  private static final String INVALID_KEY_MESSAGE = "Invalid key";
+
   private final UUIDStringifier stringifier;
 
   /**
@@ -42,7 +45,9 @@ public class UUIDDeserializer extends StdConverter<String, UUID> implements Conv
 
   @Override
   public UUID convert(String s) {
-    return stringifier.fromString(s);
+    return stringifier
+        .parse(s)
+        .orElseThrow(() -> DecodeException.withoutStackTrace(INVALID_KEY_MESSAGE));
   }
 
 }
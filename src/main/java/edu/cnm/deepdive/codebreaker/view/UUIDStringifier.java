@@ -15,6 +15,7 @@
  */
 package edu.cnm.deepdive.codebreaker.view;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -51,6 +52,25 @@ public interface UUIDStringifier {
    */
   UUID fromString(String value) throws IllegalArgumentException;
 
+  /**
+   * Constructs and returns a {@link UUID} instance from the provided {@link String} {@code value},
+   * wrapped in an {@link Optional}; if {@code value} cannot be translated into a {@link UUID}, an
+   * empty {@link Optional} is returned. The default implementation invokes
+   * {@link #fromString(String)}, and returns an empty {@link Optional} if that method throws
+   * {@link IllegalArgumentException} or returns {@code null}; implementations should override this
+   * method to reject invalid values without throwing (and catching) an exception.
+   *
+   * @param value {@link String} value to be converted to a {@link UUID}.
+   * @return {@link Optional} containing the {@link UUID} corresponding to {@code value} (if any).
+   */
+  default Optional<UUID> parse(String value) {
+    try {
+      return Optional.ofNullable(fromString(value));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Represents an exception resulting from an attempt to decode a UUID from some textual input. By
    * making this a subclass of {@link IllegalArgumentException}, we have more control over the
@@ -95,6 +115,25 @@ public interface UUIDStringifier {
       super(cause);
     }
 
+    /**
+     * Creates and returns an instance with the specified {@code message}, which does not capture
+     * a stack trace when created. This is intended for rejecting invalid input from clients, where
+     * the stack trace would be of no use, but expensive to capture.
+     *
+     * @param message Explanatory text for the exception.
+     * @return (See above.)
+     */
+    public static DecodeException withoutStackTrace(String message) {
+      return new DecodeException(message) {
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+          return this;
+        }
+
+      };
+    }
+
   }
 
 }
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+class ConcurrencyLimitedDataSourceTest {
+
+  private static final int LIMIT = 2;
+  private static final long TIMEOUT = 50;
+
+  private ConcurrencyLimitedDataSource dataSource;
+  private boolean limited;
+
+  @BeforeEach
+  void setUp() {
+    DataSource target = new AbstractDataSource() {
+
+      @Override
+      public Connection getConnection() {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> null
+        );
+      }
+
+      @Override
+      public Connection getConnection(String username, String password) {
+        return getConnection();
+      }
+
+    };
+    dataSource = new ConcurrencyLimitedDataSource(target, LIMIT, TIMEOUT, () -> limited);
+    limited = true;
+  }
+
+  @Test
+  void getConnection_limited() throws SQLException {
+    Connection first = dataSource.getConnection();
+    dataSource.getConnection();
+    assertEquals(0, dataSource.getAvailablePermits());
+    assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    first.close();
+    assertEquals(1, dataSource.getAvailablePermits());
+    dataSource.getConnection();
+  }
+
+  @Test
+  void getConnection_unlimitedCaller() throws SQLException {
+    dataSource.getConnection();
+    dataSource.getConnection();
+    limited = false;
+    Connection unlimited = dataSource.getConnection();
+    assertEquals(0, dataSource.getAvailablePermits());
+    unlimited.close();
+    assertEquals(0, dataSource.getAvailablePermits());
+  }
+
+  @Test
+  void close_releasesOnce() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    connection.close();
+    connection.close();
+    assertEquals(LIMIT, dataSource.getAvailablePermits());
+  }
+
+}
@@ -191,6 +191,7 @@ class GameControllerTest {
         .andExpect(jsonPath("$.id", is(key)))
         .andExpect(jsonPath("$.pool", is("ABCDEF")))
         .andExpect(jsonPath("$.length", is(4)))
+        .andExpect(jsonPath("$.guesses.length()", is(1)))
         .andDo(
             document(
                 "games/get-valid",
@@ -269,7 +270,12 @@ class GameControllerTest {
             .type(JsonFieldType.STRING),
         fieldWithPath("length")
             .description("Length (in characters) of generated code. Valid range is 1 to 20.")
+            .type(JsonFieldType.NUMBER),
+        fieldWithPath("ttlMinutes")
+            .description(
+                "Time (in minutes) after the most recent activity (creation or guess submission) that the game expires and is deleted. If omitted, the default of 14 days applies. Valid range is 1 to 525600.")
             .type(JsonFieldType.NUMBER)
+            .optional()
     );
   }
 
@@ -287,6 +293,13 @@ class GameControllerTest {
         fieldWithPath("length")
             .description("Length (in characters) of generated code.")
             .type(JsonFieldType.NUMBER),
+        fieldWithPath("ttlMinutes")
+            .description("Time-to-live override (in minutes) of the game, if specified.")
+            .type(JsonFieldType.NUMBER)
+            .optional(),
+        fieldWithPath("guessCount")
+            .description("Number of guesses submitted in this game.")
+            .type(JsonFieldType.NUMBER),
         fieldWithPath("solved")
             .description("Flag indicating whether code has been guessed successfully.")
             .type(JsonFieldType.BOOLEAN),
@@ -297,7 +310,7 @@ class GameControllerTest {
             .optional(),
         fieldWithPath("guesses")
             .description(
-                "Array of guesses submitted in this game.")
+                "Array of the most recent guesses (up to 10) submitted in this game, in order of submission.")
             .type("Guess[]")
             .optional()
     );
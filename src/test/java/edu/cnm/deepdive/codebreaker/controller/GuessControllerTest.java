@@ -28,6 +28,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedR
 import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -68,6 +69,7 @@ class GuessControllerTest {
   private static final String ALL_GUESSES_PATH =
       GameControllerTest.ALL_GAMES_PATH + "/{gameId}/guesses";
   private static final String SINGLE_GUESS_PATH = ALL_GUESSES_PATH + "/{guessId}";
+  private static final String BATCH_GUESSES_PATH = ALL_GUESSES_PATH + "/batch";
 
   private final ObjectMapper objectMapper;
   private final GameService gameService;
@@ -178,6 +180,107 @@ class GuessControllerTest {
         );
   }
 
+  @Test
+  public void postBatch_valid() throws Exception {
+    Game game = new Game();
+    game.setPool("ABCDEF");
+    game.setLength(4);
+    game.setText("ABAC");
+    gameService.add(game);
+    List<Map<String, String>> guessSkeletons = List.of(
+        Map.of("text", "AAAA"),
+        Map.of("text", "ABCA"),
+        Map.of("text", "ABAC"),
+        Map.of("text", "FFFF")
+    );
+    mockMvc
+        .perform(
+            post(BATCH_GUESSES_PATH, contextPathPart, stringifier.toString(game.getExternalKey()))
+                .contextPath(contextPath)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(guessSkeletons))
+        )
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.length()", is(3)))
+        .andExpect(jsonPath("$[0].exactMatches", is(2)))
+        .andExpect(jsonPath("$[1].nearMatches", is(2)))
+        .andExpect(jsonPath("$[2].solution", is(true)))
+        .andDo(
+            document(
+                "guesses/post-batch-valid",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                pathParameters(GameControllerTest.getPathVariables()),
+                relaxedRequestFields(getBatchRequestFields()),
+                relaxedResponseFields(getBatchFields())
+            )
+        );
+    mockMvc
+        .perform(
+            get(GameControllerTest.SINGLE_GAME_PATH,
+                contextPathPart, stringifier.toString(game.getExternalKey()))
+                .contextPath(contextPath)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.guessCount", is(3)))
+        .andExpect(jsonPath("$.solved", is(true)))
+        .andExpect(jsonPath("$.text", is("ABAC")));
+  }
+
+  @Test
+  public void postBatch_invalid() throws Exception {
+    Game game = new Game();
+    game.setPool("ABCDEF");
+    game.setLength(4);
+    gameService.add(game);
+    List<Map<String, String>> guessSkeletons = List.of(
+        Map.of("text", "AAAA"),
+        Map.of("text", "AAA")
+    );
+    mockMvc
+        .perform(
+            post(BATCH_GUESSES_PATH, contextPathPart, stringifier.toString(game.getExternalKey()))
+                .contextPath(contextPath)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(guessSkeletons))
+        )
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status", is(400)))
+        .andDo(
+            document(
+                "guesses/post-batch-invalid",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                pathParameters(GameControllerTest.getPathVariables()),
+                relaxedResponseFields(CommonFieldDescriptors.getExceptionFields())
+            )
+        );
+    mockMvc
+        .perform(
+            get(ALL_GUESSES_PATH, contextPathPart, stringifier.toString(game.getExternalKey()))
+                .contextPath(contextPath)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(0)));
+  }
+
+  @Test
+  public void postBatch_empty() throws Exception {
+    Game game = new Game();
+    game.setPool("ABCDEF");
+    game.setLength(4);
+    gameService.add(game);
+    mockMvc
+        .perform(
+            post(BATCH_GUESSES_PATH, contextPathPart, stringifier.toString(game.getExternalKey()))
+                .contextPath(contextPath)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("[{\"text\": \"\"}]")
+        )
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status", is(400)));
+  }
+
   @Test
   public void listGuesses_valid() throws Exception {
     Game game = new Game();
@@ -205,6 +308,46 @@ class GuessControllerTest {
         );
   }
 
+  @Test
+  public void listGuesses_paged() throws Exception {
+    Game game = new Game();
+    game.setPool("ABCDEF");
+    game.setLength(6);
+    gameService.add(game);
+    List<Guess> guesses = new LinkedList<>();
+    for (String text : new String[]{"AAAAAA", "BBBBBB", "CCCCCC", "DDDDDD", "EEEEEE"}) {
+      Guess guess = new Guess();
+      guess.setText(text);
+      guesses.add(guessService.add(game, guess));
+    }
+    mockMvc
+        .perform(
+            get(ALL_GUESSES_PATH + "?after={after}&limit={limit}",
+                contextPathPart, stringifier.toString(game.getExternalKey()),
+                stringifier.toString(guesses.get(1).getExternalKey()), 2)
+                .contextPath(contextPath)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()", is(2)))
+        .andExpect(jsonPath("$[0].text", is("CCCCCC")))
+        .andExpect(jsonPath("$[1].text", is("DDDDDD")))
+        .andDo(
+            document(
+                "guesses/list-paged",
+                preprocessResponse(prettyPrint()),
+                pathParameters(GameControllerTest.getPathVariables()),
+                queryParameters(getPageParameters())
+            )
+        );
+    mockMvc
+        .perform(
+            get(ALL_GUESSES_PATH + "?limit={limit}",
+                contextPathPart, stringifier.toString(game.getExternalKey()), 0)
+                .contextPath(contextPath)
+        )
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   public void getGuess_valid() throws Exception {
     Game game = new Game();
@@ -257,6 +400,18 @@ class GuessControllerTest {
     return fields;
   }
 
+  private List<ParameterDescriptor> getPageParameters() {
+    return List.of(
+        parameterWithName("after")
+            .description(
+                "Unique identifier of the last guess in the previous page. If omitted, the first page is returned.")
+            .optional(),
+        parameterWithName("limit")
+            .description("Maximum number of guesses to return (1 to 1000; default is 100).")
+            .optional()
+    );
+  }
+
   private List<FieldDescriptor> getPostRequestFields() {
     return List.of(
         fieldWithPath("text")
@@ -265,6 +420,23 @@ class GuessControllerTest {
     );
   }
 
+  private List<FieldDescriptor> getBatchRequestFields() {
+    return List.of(
+        fieldWithPath("[].text")
+            .description("Guess of code text.")
+            .type(JsonFieldType.STRING)
+    );
+  }
+
+  private List<FieldDescriptor> getBatchFields() {
+    return getFlatFields()
+        .stream()
+        .map((descriptor) -> fieldWithPath("[]." + descriptor.getPath())
+            .description(descriptor.getDescription())
+            .type(descriptor.getType()))
+        .toList();
+  }
+
   private List<FieldDescriptor> getFlatFields() {
     return List.of(
         fieldWithPath("id")
@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = CodebreakerApplication.class)
+class LinkFactoryTest {
+
+  private final WebApplicationContext context;
+  private final LinkFactory linkFactory;
+
+  @Autowired
+  LinkFactoryTest(WebApplicationContext context, LinkFactory linkFactory) {
+    this.context = context;
+    this.linkFactory = linkFactory;
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "http, localhost, 80, ''",
+      "http, localhost, 8081, /codebreaker-solitaire",
+      "https, ddc-java.services, 443, /codebreaker-solitaire",
+      "https, ddc-java.services, 8443, ''",
+      "http, 127.0.0.1, 443, /codebreaker-solitaire",
+      "https, [::1], 80, /codebreaker-solitaire",
+  })
+  void game_matchesLinkBuilder(String scheme, String host, int port, String contextPath) {
+    HttpServletRequest request = bind(request(scheme, host, port, contextPath));
+    UUID gameId = UUID.randomUUID();
+    assertEquals(
+        linkTo(methodOn(GameController.class).get(gameId)).toUri().toString(),
+        linkFactory.game(request, gameId).toString());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "http, localhost, 80, ''",
+      "http, localhost, 8081, /codebreaker-solitaire",
+      "https, ddc-java.services, 443, /codebreaker-solitaire",
+      "https, ddc-java.services, 8443, ''",
+  })
+  void guess_matchesLinkBuilder(String scheme, String host, int port, String contextPath) {
+    HttpServletRequest request = bind(request(scheme, host, port, contextPath));
+    UUID gameId = UUID.randomUUID();
+    UUID guessId = UUID.randomUUID();
+    assertEquals(
+        linkTo(methodOn(GuessController.class).get(gameId, guessId)).toUri().toString(),
+        linkFactory.guess(request, gameId, guessId).toString());
+  }
+
+  @Test
+  void game_forwardedHeaders_matchesLinkBuilder() throws Exception {
+    MockHttpServletRequest request =
+        request("http", "localhost", 8081, "/codebreaker-solitaire");
+    request.addHeader("X-Forwarded-Proto", "https");
+    request.addHeader("X-Forwarded-Host", "ddc-java.services");
+    request.addHeader("X-Forwarded-Port", "443");
+    request.addHeader("X-Forwarded-Prefix", "/codebreaker");
+    AtomicReference<HttpServletRequest> forwarded = new AtomicReference<>();
+    new ForwardedHeaderFilter().doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> forwarded.set((HttpServletRequest) req));
+    HttpServletRequest wrapped = bind(forwarded.get());
+    UUID gameId = UUID.randomUUID();
+    String location = linkFactory.game(wrapped, gameId).toString();
+    assertTrue(location.startsWith("https://ddc-java.services/codebreaker/"));
+    assertEquals(
+        linkTo(methodOn(GameController.class).get(gameId)).toUri().toString(), location);
+  }
+
+  private MockHttpServletRequest request(
+      String scheme, String host, int port, String contextPath) {
+    MockHttpServletRequest request = new MockHttpServletRequest(context.getServletContext());
+    request.setScheme(scheme);
+    request.setServerName(host);
+    request.setServerPort(port);
+    request.setContextPath(contextPath);
+    request.setRequestURI(contextPath + PathComponents.GAMES_PATH);
+    return request;
+  }
+
+  private HttpServletRequest bind(HttpServletRequest request) {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    return request;
+  }
+
+}
@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.service.ReactiveGameService;
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(classes = CodebreakerApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "reactive.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1"
+    })
+@ActiveProfiles({"service", "reactive"})
+class ReactiveGameControllerTest {
+
+  private static final String POOL = "ABCD";
+  private static final int LENGTH = 2;
+  private static final int THREADS = 8;
+  private static final int CONCURRENT_REPETITIONS = 20;
+
+  private final WebTestClient webTestClient;
+  private final ReactiveGameService gameService;
+  private final UUIDStringifier stringifier;
+
+  private Game game;
+  private String gamePath;
+
+  @Autowired
+  ReactiveGameControllerTest(WebTestClient webTestClient, ReactiveGameService gameService,
+      UUIDStringifier stringifier) {
+    this.webTestClient = webTestClient;
+    this.gameService = gameService;
+    this.stringifier = stringifier;
+  }
+
+  @BeforeEach
+  void setUp() {
+    Game game = new Game();
+    game.setPool(POOL);
+    game.setLength(LENGTH);
+    this.game = gameService.add(game).block();
+    gamePath = PathComponents.GAMES_COMPONENT + "/" + stringifier.toString(
+        this.game.getExternalKey());
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameService.remove(game).block();
+  }
+
+  @Test
+  void postGame_valid() {
+    webTestClient
+        .post()
+        .uri(PathComponents.GAMES_COMPONENT)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(Map.of("pool", "ABCDEF", "length", 4))
+        .exchange()
+        .expectStatus().isCreated()
+        .expectHeader().exists("Location")
+        .expectBody()
+        .jsonPath("$.pool").isEqualTo("ABCDEF")
+        .jsonPath("$.length").isEqualTo(4)
+        .jsonPath("$.solved").isEqualTo(false);
+  }
+
+  @Test
+  void getGame_invalid() {
+    webTestClient
+        .get()
+        .uri(PathComponents.GAMES_COMPONENT + "/" + "A".repeat(22))
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  void postGuess_solution() {
+    postGuess(game.getText())
+        .expectStatus().isCreated()
+        .expectHeader().exists("Location")
+        .expectBody()
+        .jsonPath("$.exactMatches").isEqualTo(LENGTH)
+        .jsonPath("$.solution").isEqualTo(true);
+    webTestClient
+        .get()
+        .uri(gamePath)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.solved").isEqualTo(true)
+        .jsonPath("$.guessCount").isEqualTo(1)
+        .jsonPath("$.text").isEqualTo(game.getText());
+    postGuess(game.getText())
+        .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @RepeatedTest(CONCURRENT_REPETITIONS)
+  void postGuess_concurrentSolutions_oneRecorded() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<HttpStatusCode>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return postGuess(game.getText())
+              .returnResult(Void.class)
+              .getStatus();
+        }));
+      }
+      start.countDown();
+      int recorded = 0;
+      for (Future<HttpStatusCode> future : futures) {
+        HttpStatusCode status = future.get(10, TimeUnit.SECONDS);
+        if (status.equals(HttpStatus.CREATED)) {
+          recorded++;
+        } else {
+          assertEquals(HttpStatus.CONFLICT, status);
+        }
+      }
+      assertEquals(1, recorded);
+      Game result = gameService.get(game.getExternalKey()).blockOptional().orElseThrow();
+      assertTrue(result.isSolved());
+      assertEquals(1, result.getGuessCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private WebTestClient.ResponseSpec postGuess(String text) {
+    return webTestClient
+        .post()
+        .uri(gamePath + PathComponents.GUESSES_COMPONENT)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(Map.of("text", text))
+        .exchange();
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.diagnostics.EventSummary.Summary;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventSummaryTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void summarize_countsEventsAndFlags() throws IOException {
+    Path file = directory.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(GameFetchedEvent.NAME);
+      recording.enable(GuessScoredEvent.NAME);
+      recording.disable(GameCreatedEvent.NAME);
+      recording.start();
+      Game game = new Game();
+      game.setPool("ABCDEF");
+      game.setLength(4);
+      fetch(game, false);
+      fetch(game, true);
+      fetch(null, true);
+      GuessScoredEvent scored = new GuessScoredEvent();
+      scored.begin();
+      scored.complete(game, 1, true);
+      new GameCreatedEvent().complete(game);
+      recording.stop();
+      recording.dump(file);
+    }
+    Map<String, Summary> summaries = EventSummary.summarize(file, List.of("codebreaker."));
+    assertEquals(List.of(GameFetchedEvent.NAME, GuessScoredEvent.NAME),
+        List.copyOf(summaries.keySet()));
+    Summary fetched = summaries.get(GameFetchedEvent.NAME);
+    assertEquals(3, fetched.count());
+    assertEquals(2, fetched.flags().get("cacheHit"));
+    assertEquals(2, fetched.flags().get("found"));
+    assertFalse(fetched.max().isNegative());
+    assertTrue(fetched.median().compareTo(fetched.max()) <= 0);
+    Summary scoredSummary = summaries.get(GuessScoredEvent.NAME);
+    assertEquals(1, scoredSummary.count());
+    assertEquals(1, scoredSummary.flags().get("solution"));
+    assertNull(scoredSummary.slowestGame());
+  }
+
+  private void fetch(Game game, boolean hit) {
+    GameFetchedEvent event = new GameFetchedEvent();
+    event.begin();
+    if (!hit) {
+      event.miss();
+    }
+    event.complete(game);
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.model.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CodePoolTest {
+
+  private static final String SUPPLEMENTARY_POOL = "AB😀😁😂C";
+
+  @ParameterizedTest
+  @CsvSource({
+      "ABCDEF, ABACAB, AABBCC, 1, 4",
+      "ABCD, BDC, AAA, 0, 0",
+      "ABCD, BDC, BBB, 1, 0",
+      "ABCD, BDC, BCC, 2, 0",
+      "ABCD, BDC, BCD, 1, 2",
+      "ABCD, BDC, BDC, 3, 0",
+  })
+  void score_documentedExamples(
+      String pool, String code, String guess, int expectedExact, int expectedNear) {
+    CodePool codePool = new CodePool(pool);
+    int score = codePool.score(codePool.encode(code), guess);
+    assertEquals(expectedExact, CodePool.exactMatches(score));
+    assertEquals(expectedNear, CodePool.nearMatches(score));
+  }
+
+  @Test
+  void score_matchesReferenceImplementation() {
+    Random rng = new Random(0);
+    for (String poolText : new String[]{"AB", "ABCDEF", SUPPLEMENTARY_POOL}) {
+      CodePool pool = new CodePool(poolText);
+      for (int length = 1; length <= 20; length++) {
+        for (int trial = 0; trial < 100; trial++) {
+          String code = randomText(pool, length, rng);
+          String guess = randomText(pool, length, rng);
+          int score = pool.score(pool.encode(code), guess);
+          int[] expected = referenceScore(code, guess);
+          assertEquals(expected[0], CodePool.exactMatches(score));
+          assertEquals(expected[1], CodePool.nearMatches(score));
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = {
+      "ABCDEF| ABBA| 4",
+      "ABCDEF| ABBG| -1",
+      "]^\\-| ^]\\-| 4",
+      "]^\\-| ^]a| -1",
+      "AB😀| 😀A😀B| 4",
+      "AB😀| 😁A| -1",
+  }, delimiter = '|')
+  void lengthOf(String pool, String text, int expected) {
+    assertEquals(expected, CodePool.of(pool).lengthOf(text));
+  }
+
+  @Test
+  void of_cached() {
+    assertSame(CodePool.of("ABCDEF"), CodePool.of("ABCDEF"));
+  }
+
+  @Test
+  void indexOf_nonMember() {
+    assertEquals(-1, new CodePool("ABC").indexOf('D'));
+  }
+
+  private static String randomText(CodePool pool, int length, Random rng) {
+    int[] codePoints = IntStream
+        .generate(() -> pool.codePointAt(rng.nextInt(pool.size())))
+        .limit(length)
+        .toArray();
+    return new String(codePoints, 0, codePoints.length);
+  }
+
+  private static int[] referenceScore(String code, String guess) {
+    int[] codeCodePoints = code.codePoints().toArray();
+    int[] guessCodePoints = guess.codePoints().toArray();
+    Map<Integer, Integer> codeOccurrences = new HashMap<>();
+    Map<Integer, Integer> guessOccurrences = new HashMap<>();
+    int exact = 0;
+    for (int i = 0; i < guessCodePoints.length; i++) {
+      if (guessCodePoints[i] == codeCodePoints[i]) {
+        exact++;
+      } else {
+        guessOccurrences.merge(guessCodePoints[i], 1, Integer::sum);
+        codeOccurrences.merge(codeCodePoints[i], 1, Integer::sum);
+      }
+    }
+    int near = guessOccurrences
+        .entrySet()
+        .stream()
+        .mapToInt((entry) ->
+            Math.min(entry.getValue(), codeOccurrences.getOrDefault(entry.getKey(), 0)))
+        .sum();
+    return new int[]{exact, near};
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameCacheTest {
+
+  private GameCache cache;
+  private Game game;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    cache = new GameCache(100, Duration.ofMinutes(1));
+    game = new GameSnapshot(1L, UUID.randomUUID(), Instant.now(), "ABCD", "ABCA", 4, null, false, 0,
+        null, 0)
+        .restore();
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void get_missThenHit() {
+    Game first = get().orElseThrow();
+    Game second = get().orElseThrow();
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertNotSame(first, second);
+    assertEquals(game.getText(), second.getText());
+  }
+
+  @Test
+  void get_hitsShareEncoding() {
+    Game first = get().orElseThrow();
+    Game second = get().orElseThrow();
+    Game third = get().orElseThrow();
+    assertSame(second.getCodePool(), third.getCodePool());
+    assertSame(second.getEncodedText(), third.getEncodedText());
+    assertSame(first.getEncodedText(), second.getEncodedText());
+  }
+
+  @Test
+  void recordGuesses_updatesCurrentSnapshot() {
+    get();
+    game.recordGuesses(2, new Date(), true);
+    cache.recordGuesses(game, 0);
+    Game cached = get().orElseThrow();
+    assertEquals(1, loads.get());
+    assertEquals(2, cached.getGuessCount());
+    assertTrue(cached.isSolved());
+  }
+
+  @Test
+  void recordGuesses_invalidatesOutdatedSnapshot() {
+    get();
+    game.recordGuesses(1, new Date(), false);
+    cache.recordGuesses(game, 3);
+    get();
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void get_concurrentWriteSkipsCaching() {
+    cache.get(game.getExternalKey(), (key) -> {
+      loads.incrementAndGet();
+      cache.invalidate(key);
+      return Optional.of(game);
+    });
+    get();
+    assertEquals(2, loads.get());
+  }
+
+  private Optional<Game> get() {
+    return cache.get(game.getExternalKey(), (key) -> {
+      loads.incrementAndGet();
+      return Optional.of(game);
+    });
+  }
+
+}
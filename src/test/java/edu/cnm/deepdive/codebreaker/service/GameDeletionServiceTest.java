@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = CodebreakerApplication.class, properties = "deletion.chunk-size=2")
+class GameDeletionServiceTest {
+
+  private static final int GAME_COUNT = 5;
+
+  private final GameDeletionService deletionService;
+  private final GameService gameService;
+  private final GuessService guessService;
+  private final GuessRepository guessRepository;
+
+  private List<Game> games;
+
+  @Autowired
+  GameDeletionServiceTest(GameDeletionService deletionService, GameService gameService,
+      GuessService guessService, GuessRepository guessRepository) {
+    this.deletionService = deletionService;
+    this.gameService = gameService;
+    this.guessService = guessService;
+    this.guessRepository = guessRepository;
+  }
+
+  @BeforeEach
+  void setUp() {
+    games = new ArrayList<>();
+    for (int i = 0; i < GAME_COUNT; i++) {
+      Game game = new Game();
+      game.setPool("ABCD");
+      game.setLength(2);
+      game = gameService.add(game);
+      Guess guess = new Guess();
+      guess.setText("AB");
+      guessService.add(game, guess);
+      games.add(game);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameService.clear();
+  }
+
+  @Test
+  void deleteExpired_specifiedGames() {
+    List<UUID> keys = games
+        .subList(0, 3)
+        .stream()
+        .map(Game::getExternalKey)
+        .toList();
+    List<UUID> requested = new ArrayList<>(keys);
+    requested.add(UUID.randomUUID());
+    assertEquals(keys.size(), deletionService.deleteExpired(requested, (activity) -> true, () -> {
+    }));
+    assertEquals(GAME_COUNT - keys.size(), guessRepository.count());
+    keys.forEach((key) -> assertTrue(gameService.get(key).isEmpty()));
+    games
+        .subList(3, GAME_COUNT)
+        .forEach((game) -> assertTrue(gameService.get(game.getExternalKey()).isPresent()));
+  }
+
+  @Test
+  void deleteExpired_unconfirmed() {
+    List<UUID> keys = games
+        .stream()
+        .map(Game::getExternalKey)
+        .toList();
+    assertEquals(0, deletionService.deleteExpired(keys, (activity) -> false, () -> {
+    }));
+    assertEquals(GAME_COUNT, guessRepository.count());
+  }
+
+  @Test
+  void deleteExpired_fenced() {
+    List<UUID> keys = games
+        .stream()
+        .map(Game::getExternalKey)
+        .toList();
+    assertThrows(IllegalStateException.class,
+        () -> deletionService.deleteExpired(keys, (activity) -> true, () -> {
+          throw new IllegalStateException();
+        }));
+    assertEquals(GAME_COUNT, guessRepository.count());
+  }
+
+  @Test
+  void deleteAll() {
+    assertEquals(GAME_COUNT, deletionService.deleteAll());
+    assertEquals(0, guessRepository.count());
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameExpiryTrackerTest {
+
+  private static final int STALE_GAME_DAYS = 14;
+  private static final long DEFAULT_TTL = TimeUnit.DAYS.toMillis(STALE_GAME_DAYS);
+
+  private GameExpiryTracker tracker;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new GameExpiryTracker(null, STALE_GAME_DAYS, 1000);
+    tracker.start();
+    now = System.currentTimeMillis();
+  }
+
+  @Test
+  void expire_defaultTtl() {
+    Game game = game(null);
+    tracker.record(game, new Date(now));
+    assertTrue(tracker.expire(now + DEFAULT_TTL - 1000).isEmpty());
+    assertEquals(List.of(game.getExternalKey()), tracker.expire(now + DEFAULT_TTL + 1000));
+    assertEquals(0, tracker.size());
+  }
+
+  @Test
+  void expire_ttlOverride() {
+    Game game = game(30);
+    tracker.record(game, new Date(now));
+    assertEquals(List.of(game.getExternalKey()),
+        tracker.expire(now + TimeUnit.MINUTES.toMillis(31)));
+  }
+
+  @Test
+  void expire_extendedByActivity() {
+    Game game = game(30);
+    tracker.record(game, new Date(now));
+    tracker.record(game, new Date(now + TimeUnit.MINUTES.toMillis(20)));
+    assertTrue(tracker.expire(now + TimeUnit.MINUTES.toMillis(31)).isEmpty());
+    assertEquals(List.of(game.getExternalKey()),
+        tracker.expire(now + TimeUnit.MINUTES.toMillis(51)));
+  }
+
+  @Test
+  void expire_forgotten() {
+    Game game = game(30);
+    tracker.record(game, new Date(now));
+    tracker.forget(game.getExternalKey());
+    assertTrue(tracker.expire(now + TimeUnit.MINUTES.toMillis(31)).isEmpty());
+  }
+
+  @Test
+  void record_ignoredUntilStarted() {
+    Game game = game(30);
+    tracker.stop();
+    tracker.record(game, new Date(now));
+    assertEquals(0, tracker.size());
+    assertTrue(tracker.expire(now + TimeUnit.MINUTES.toMillis(31)).isEmpty());
+    tracker.start();
+    tracker.record(game, new Date(now));
+    assertEquals(1, tracker.size());
+  }
+
+  @Test
+  void stop_discardsTracked() {
+    Game game = game(30);
+    tracker.record(game, new Date(now));
+    tracker.stop();
+    assertEquals(0, tracker.size());
+    tracker.start();
+    assertTrue(tracker.expire(now + TimeUnit.MINUTES.toMillis(31)).isEmpty());
+  }
+
+  private Game game(Integer ttlMinutes) {
+    return new GameSnapshot(1L, UUID.randomUUID(), Instant.ofEpochMilli(now), "ABCD", "ABCA", 4,
+        ttlMinutes, false, 0, null, 0)
+        .restore();
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameLocksTest {
+
+  private static final int STRIPES = 16;
+  private static final long WAIT_MILLIS = 100;
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 1000;
+  private static final UUID FIRST_KEY = new UUID(0, 1);
+  private static final UUID SECOND_KEY = new UUID(0, 2);
+
+  private SimpleMeterRegistry registry;
+  private GameLocks locks;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    locks = new GameLocks(registry, STRIPES, WAIT_MILLIS);
+    executor = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void withLock_sameGame_serialized() throws Exception {
+    AtomicInteger holders = new AtomicInteger();
+    AtomicInteger maxHolders = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    Future<?>[] futures = new Future<?>[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      futures[i] = executor.submit(() -> {
+        start.await();
+        for (int j = 0; j < ITERATIONS; j++) {
+          locks.withLock(FIRST_KEY, () -> {
+            maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+            Thread.onSpinWait();
+            return holders.decrementAndGet();
+          });
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    assertEquals(1, maxHolders.get());
+    assertEquals(THREADS * ITERATIONS, acquisitions("uncontended") + acquisitions("contended"));
+  }
+
+  @Test
+  void withLock_differentGames_parallel() throws Exception {
+    CountDownLatch held = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<?> holder = executor.submit(() -> locks.withLock(FIRST_KEY, () -> {
+      held.countDown();
+      try {
+        return release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }));
+    assertTrue(held.await(10, TimeUnit.SECONDS));
+    assertTrue(locks.withLock(SECOND_KEY, () -> true));
+    release.countDown();
+    holder.get(10, TimeUnit.SECONDS);
+    assertEquals(0, acquisitions("timed-out"));
+  }
+
+  @Test
+  void withLock_timeout() throws Exception {
+    CountDownLatch held = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<?> holder = executor.submit(() -> locks.withLock(FIRST_KEY, () -> {
+      held.countDown();
+      try {
+        return release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }));
+    assertTrue(held.await(10, TimeUnit.SECONDS));
+    assertThrows(ServiceBusyException.class, () -> locks.withLock(FIRST_KEY, () -> true));
+    release.countDown();
+    holder.get(10, TimeUnit.SECONDS);
+    assertEquals(1, acquisitions("timed-out"));
+    assertEquals(1, registry.get("game.lock.wait").timer().count());
+  }
+
+  private long acquisitions(String outcome) {
+    return (long) registry
+        .get("game.lock.acquisitions")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.InvalidPropertyException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GameRulesTest {
+
+  @Test
+  void prepare_generatesCodeFromDistinctPool() {
+    Game game = game("AABBCC", 8, null);
+    GameRules.prepare(game, new SharedSecretGenerator(new Random(0)));
+    assertEquals("ABC", game.getPool());
+    assertEquals(8, game.getText().length());
+    assertTrue(game.getText().chars().allMatch((c) -> "ABC".indexOf(c) >= 0));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"AB C", "AB\tC", "AB\u0000C"})
+  void prepare_invalidPool(String pool) {
+    assertThrows(InvalidPropertyException.class,
+        () -> GameRules.prepare(game(pool, 4, null), new SharedSecretGenerator(new Random(0))));
+  }
+
+  @Test
+  void match_scoresGuess() {
+    Game game = game("ABCDEF", 6, "ABACAB");
+    Guess guess = guess("AABBCC");
+    GameRules.match(game, guess);
+    assertEquals(1, guess.getExactMatches());
+    assertEquals(4, guess.getNearMatches());
+    assertSame(game, guess.getGame());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"ABCG", "ABC", "ABCDE"})
+  void match_invalidGuess(String text) {
+    assertThrows(InvalidPropertyException.class,
+        () -> GameRules.match(game("ABCDEF", 4, "ABCD"), guess(text)));
+  }
+
+  @Test
+  void matchAll_stopsAtSolution() {
+    Game game = game("ABCDEF", 4, "ABCD");
+    List<Guess> guesses = Stream.of("AAAA", "ABCD", "BBBB")
+        .map(GameRulesTest::guess)
+        .toList();
+    List<Guess> matched = GameRules.matchAll(game, guesses);
+    assertEquals(2, matched.size());
+    assertTrue(matched.get(1).isSolution());
+  }
+
+  private static Game game(String pool, int length, String text) {
+    Game game = new Game();
+    game.setPool(pool);
+    game.setLength(length);
+    if (text != null) {
+      game.setText(text);
+    }
+    return game;
+  }
+
+  private static Guess guess(String text) {
+    Guess guess = new Guess();
+    guess.setText(text);
+    return guess;
+  }
+
+}
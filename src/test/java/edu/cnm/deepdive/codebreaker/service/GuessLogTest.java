@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.cnm.deepdive.codebreaker.model.entity.CodePool;
+import edu.cnm.deepdive.codebreaker.service.GuessLog.Entry;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GuessLogTest {
+
+  private static final int SEGMENT_RECORDS = 4;
+  private static final CodePool CODE_POOL = CodePool.of("ABCDEF");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void append_durableAndReadable() throws IOException {
+    GuessLog log = open();
+    try {
+      UUID key = UUID.randomUUID();
+      long sequence = log.append(42, key, 1000, 1, 2, CODE_POOL.encode("FACE"));
+      log.awaitDurable(sequence);
+      assertEquals(sequence, log.getDurableSequence());
+      List<Entry> entries = log.read(0, 10);
+      assertEquals(1, entries.size());
+      Entry entry = entries.get(0);
+      assertEquals(42, entry.gameId());
+      assertEquals(key, entry.externalKey());
+      assertEquals(1000, entry.timestamp());
+      assertEquals(1, entry.exactMatches());
+      assertEquals(2, entry.nearMatches());
+      assertEquals("FACE", entry.decode(CODE_POOL));
+    } finally {
+      log.close();
+    }
+  }
+
+  @Test
+  void open_recoversAcrossSegments() throws IOException {
+    GuessLog log = open();
+    List<UUID> keys = appendAll(log, 6);
+    log.close();
+    assertEquals(2, segmentCount());
+    GuessLog reopened = open();
+    try {
+      assertEquals(6, reopened.getRecoveredThrough());
+      assertEquals(keys, reopened.read(0, 10).stream().map(Entry::externalKey).toList());
+      assertEquals(7, reopened.append(1, UUID.randomUUID(), 0, 0, 0, CODE_POOL.encode("AAAA")));
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  void open_truncatesCorruptRecord() throws IOException {
+    GuessLog log = open();
+    appendAll(log, 3);
+    log.close();
+    try (RandomAccessFile file = new RandomAccessFile(firstSegment().toFile(), "rw")) {
+      file.seek(2L * GuessLog.RECORD_SIZE + 50);
+      file.write(0xff);
+    }
+    GuessLog reopened = open();
+    try {
+      assertEquals(2, reopened.getRecoveredThrough());
+      assertEquals(2, reopened.read(0, 10).size());
+      assertEquals(3, reopened.append(1, UUID.randomUUID(), 0, 0, 0, CODE_POOL.encode("BBBB")));
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  void release_deletesOnlyFullCompactedSegments() throws IOException {
+    GuessLog log = open();
+    try {
+      appendAll(log, 9);
+      assertEquals(3, segmentCount());
+      assertEquals(0, log.release(3));
+      assertEquals(1, log.release(6));
+      assertEquals(1, log.release(9));
+      assertEquals(1, segmentCount());
+      assertEquals(9, log.getFirstSequence());
+      assertArrayEquals(CODE_POOL.encode("ABCD"), log.read(0, 10).get(0).text());
+    } finally {
+      log.close();
+    }
+  }
+
+  @Test
+  void append_afterClose() throws IOException {
+    GuessLog log = open();
+    log.close();
+    assertThrows(IOException.class,
+        () -> log.append(1, UUID.randomUUID(), 0, 0, 0, CODE_POOL.encode("ABCD")));
+  }
+
+  private GuessLog open() throws IOException {
+    return new GuessLog(directory.toString(), SEGMENT_RECORDS, 1);
+  }
+
+  private List<UUID> appendAll(GuessLog log, int count) throws IOException {
+    List<UUID> keys = Stream.generate(UUID::randomUUID).limit(count).toList();
+    long sequence = 0;
+    for (UUID key : keys) {
+      sequence = log.append(1, key, System.currentTimeMillis(), 0, 0, CODE_POOL.encode("ABCD"));
+    }
+    log.awaitDurable(sequence);
+    return keys;
+  }
+
+  private long segmentCount() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  private Path firstSegment() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.sorted().findFirst().orElseThrow();
+    }
+  }
+
+}
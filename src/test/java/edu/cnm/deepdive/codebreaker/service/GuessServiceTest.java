@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = CodebreakerApplication.class)
+class GuessServiceTest {
+
+  private static final String POOL = "ABCD";
+  private static final int LENGTH = 2;
+  private static final int THREADS = 8;
+  private static final int CONCURRENT_REPETITIONS = 20;
+
+  private final GameService gameService;
+  private final GuessService guessService;
+
+  private Game game;
+  private String solution;
+  private String miss;
+
+  @Autowired
+  GuessServiceTest(GameService gameService, GuessService guessService) {
+    this.gameService = gameService;
+    this.guessService = guessService;
+  }
+
+  @BeforeEach
+  void setUp() {
+    Game game = new Game();
+    game.setPool(POOL);
+    game.setLength(LENGTH);
+    this.game = gameService.add(game);
+    solution = this.game.getText();
+    miss = solution.equals("AA") ? "BB" : "AA";
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameService.clear();
+  }
+
+  @RepeatedTest(CONCURRENT_REPETITIONS)
+  void add_concurrentSolutions_oneRecorded() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Guess>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        Game copy = current();
+        futures.add(executor.submit(() -> {
+          start.await();
+          return guessService.add(copy, guess(solution));
+        }));
+      }
+      start.countDown();
+      int recorded = 0;
+      int rejected = 0;
+      for (Future<Guess> future : futures) {
+        try {
+          future.get(10, TimeUnit.SECONDS);
+          recorded++;
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof AlreadySolvedException);
+          rejected++;
+        }
+      }
+      assertEquals(1, recorded);
+      assertEquals(THREADS - 1, rejected);
+      Game result = current();
+      assertTrue(result.isSolved());
+      assertEquals(1, result.getGuessCount());
+      assertEquals(1, guessService.recent(result, THREADS).size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void add_staleSolvedGame_rejected() {
+    Game first = current();
+    Game second = current();
+    guessService.add(first, guess(solution));
+    assertThrows(AlreadySolvedException.class, () -> guessService.add(second, guess(miss)));
+    assertEquals(1, current().getGuessCount());
+  }
+
+  @Test
+  void add_staleUnsolvedGame_recorded() {
+    Game first = current();
+    Game second = current();
+    guessService.add(first, guess(miss));
+    guessService.addAll(second, List.of(guess(miss), guess(solution)));
+    Game result = current();
+    assertEquals(3, result.getGuessCount());
+    assertEquals(3, second.getGuessCount());
+    assertTrue(result.isSolved());
+  }
+
+  private Game current() {
+    return gameService
+        .get(game.getExternalKey())
+        .orElseThrow();
+  }
+
+  private static Guess guess(String text) {
+    Guess guess = new Guess();
+    guess.setText(text);
+    return guess;
+  }
+
+}
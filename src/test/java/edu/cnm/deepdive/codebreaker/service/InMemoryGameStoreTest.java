@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryGameStoreTest {
+
+  @TempDir
+  Path directory;
+
+  private Path snapshotPath;
+  private InMemoryGameStore store;
+  private Game game;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    snapshotPath = directory.resolve("games.bin");
+    store = new InMemoryGameStore(new TimeOrderedKeyGenerator(), snapshotPath.toString());
+    game = store.add(game("ABCD"));
+  }
+
+  @Test
+  void addGuesses_scoresAndRecords() {
+    List<Guess> added = store.addGuesses(game, guesses("AAAA", "DCBA"));
+    assertEquals(2, added.size());
+    assertEquals(1, added.get(0).getExactMatches());
+    assertEquals(4, added.get(1).getNearMatches());
+    assertEquals(2, game.getGuessCount());
+    Game stored = store.get(game.getExternalKey()).orElseThrow();
+    assertEquals(2, stored.getGuessCount());
+    assertFalse(stored.isSolved());
+    assertEquals(added.get(1).getText(),
+        store.getGuess(game, added.get(1).getExternalKey()).orElseThrow().getText());
+  }
+
+  @Test
+  void addGuesses_alreadySolved() {
+    store.addGuesses(game, guesses("ABCD"));
+    assertTrue(store.get(game.getExternalKey()).orElseThrow().isSolved());
+    assertThrows(AlreadySolvedException.class, () -> store.addGuesses(game, guesses("AAAA")));
+  }
+
+  @Test
+  void listGuesses_pagesAfterKey() {
+    List<Guess> added = store.addGuesses(game, guesses("AAAA", "BBBB", "CCCC"));
+    List<Guess> page = store.listGuesses(game, added.get(0).getExternalKey(), 1);
+    assertEquals(1, page.size());
+    assertEquals("BBBB", page.get(0).getText());
+    assertEquals(List.of("BBBB", "CCCC"),
+        store.recentGuesses(game, 2).stream().map(Guess::getText).toList());
+    assertThrows(NoSuchElementException.class,
+        () -> store.listGuesses(game, UUID.randomUUID(), 1));
+  }
+
+  @Test
+  void writeSnapshot_roundTrip() throws IOException {
+    List<Guess> added = store.addGuesses(game, guesses("FEDC", "ABCD"));
+    assertTrue(store.writeSnapshot());
+    assertFalse(store.writeSnapshot());
+    InMemoryGameStore restored =
+        new InMemoryGameStore(new TimeOrderedKeyGenerator(), snapshotPath.toString());
+    Game loaded = restored.get(game.getExternalKey()).orElseThrow();
+    assertEquals(game.getId(), loaded.getId());
+    assertEquals(game.getText(), loaded.getText());
+    assertTrue(loaded.isSolved());
+    assertEquals(2, loaded.getGuessCount());
+    List<Guess> guesses = restored.listGuesses(loaded, null, 10);
+    assertEquals(added.stream().map(Guess::getExternalKey).toList(),
+        guesses.stream().map(Guess::getExternalKey).toList());
+    assertEquals(List.of("FEDC", "ABCD"), guesses.stream().map(Guess::getText).toList());
+    assertTrue(restored.add(game("FFFF")).getId() > game.getId());
+  }
+
+  @Test
+  void remove_removesGameAndGuesses() {
+    store.addGuesses(game, guesses("AAAA"));
+    assertTrue(store.remove(game.getExternalKey()));
+    assertFalse(store.remove(game.getExternalKey()));
+    assertTrue(store.get(game.getExternalKey()).isEmpty());
+    assertTrue(store.recentGuesses(game, 10).isEmpty());
+    assertThrows(NoSuchElementException.class, () -> store.addGuesses(game, guesses("AAAA")));
+  }
+
+  private static Game game(String text) {
+    Game game = new Game();
+    game.setPool("ABCDEF");
+    game.setLength(4);
+    game.setText(text);
+    return game;
+  }
+
+  private static List<Guess> guesses(String... texts) {
+    return Stream.of(texts)
+        .map((text) -> {
+          Guess guess = new Guess();
+          guess.setText(text);
+          return guess;
+        })
+        .toList();
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.model.dao.LeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = CodebreakerApplication.class)
+class LeaseServiceTest {
+
+  private static final String LEASE = "test";
+  private static final long DURATION = 200;
+  private static final long HEARTBEAT = 50;
+
+  private final LeaseRepository repository;
+  private final TransactionTemplate transactionTemplate;
+
+  private SimpleMeterRegistry registry;
+  private LeaseService first;
+  private LeaseService second;
+
+  @Autowired
+  LeaseServiceTest(LeaseRepository repository, PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    first = new LeaseService(repository, registry, "first", DURATION, HEARTBEAT);
+    second = new LeaseService(repository, registry, "second", DURATION, HEARTBEAT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void acquire_exclusive() {
+    assertTrue(first.acquire(LEASE));
+    assertFalse(second.acquire(LEASE));
+    assertTrue(first.acquire(LEASE));
+    assertDoesNotThrow(() -> fence(first));
+    assertThrows(IllegalStateException.class, () -> fence(second));
+    assertEquals(1, acquisitions("acquired"));
+    assertEquals(1, acquisitions("contended"));
+  }
+
+  @Test
+  void release_allowsAcquisition() {
+    assertTrue(first.acquire(LEASE));
+    first.release(LEASE);
+    assertTrue(second.acquire(LEASE));
+    assertEquals(2, repository.findById(LEASE).orElseThrow().getToken());
+    assertEquals(1, registry.get("maintenance.lease.held").timer().count());
+  }
+
+  @Test
+  void acquire_afterExpiry() throws InterruptedException {
+    assertTrue(first.acquire(LEASE));
+    Thread.sleep(DURATION + HEARTBEAT);
+    assertTrue(second.acquire(LEASE));
+    assertThrows(IllegalStateException.class, () -> fence(first));
+    assertDoesNotThrow(() -> fence(second));
+    assertEquals(1, registry.get("maintenance.lease.lost").counter().count());
+  }
+
+  @Test
+  void heartbeat_extendsLease() throws InterruptedException {
+    assertTrue(first.acquire(LEASE));
+    for (int i = 0; i < 4; i++) {
+      Thread.sleep(HEARTBEAT);
+      first.heartbeat();
+    }
+    assertFalse(second.acquire(LEASE));
+    assertDoesNotThrow(() -> fence(first));
+  }
+
+  private double acquisitions(String outcome) {
+    return registry
+        .get("maintenance.lease.acquisitions")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private void fence(LeaseService service) {
+    transactionTemplate.executeWithoutResult((status) -> service.fence(LEASE));
+  }
+
+}
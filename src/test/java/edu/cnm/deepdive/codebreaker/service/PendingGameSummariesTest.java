@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = CodebreakerApplication.class, properties = {
+    "write-behind.flush-interval-millis=30000",
+    "write-behind.shutdown-timeout-millis=100"
+})
+@ActiveProfiles("write-behind")
+@TestInstance(Lifecycle.PER_CLASS)
+@DirtiesContext
+class PendingGameSummariesTest {
+
+  private static final long TIMEOUT_MILLIS = 5_000;
+  private static final long POLL_MILLIS = 10;
+
+  private final GameService gameService;
+  private final WriteBehindGuessService guessService;
+  private final GameRepository gameRepository;
+  private final GameCache gameCache;
+
+  private Game game;
+
+  @Autowired
+  PendingGameSummariesTest(GameService gameService, WriteBehindGuessService guessService,
+      GameRepository gameRepository, GameCache gameCache) {
+    this.gameService = gameService;
+    this.guessService = guessService;
+    this.gameRepository = gameRepository;
+    this.gameCache = gameCache;
+  }
+
+  @BeforeAll
+  void startFlushInterval() throws InterruptedException {
+    // Once a submission has been written, the next isn't written until the flush interval ends.
+    Game warmUp = gameService.add(game());
+    guessService.add(warmUp, guess("AA"));
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (gameRepository.findByExternalKey(warmUp.getExternalKey()).orElseThrow()
+        .getGuessCount() == 0) {
+      assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(POLL_MILLIS);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    game = gameService.add(game());
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameService.clear();
+  }
+
+  @Test
+  void get_appliesPendingSummaryAfterInvalidation() {
+    guessService.add(game, guess(game.getText()));
+    Game stored = gameRepository.findByExternalKey(game.getExternalKey()).orElseThrow();
+    assertFalse(stored.isSolved());
+    assertEquals(0, stored.getGuessCount());
+    gameCache.invalidate(game.getExternalKey());
+    Game current = gameService.get(game.getExternalKey()).orElseThrow();
+    assertTrue(current.isSolved());
+    assertEquals(1, current.getGuessCount());
+    assertNotNull(current.getSolution());
+    assertThrows(AlreadySolvedException.class, () -> guessService.add(current, guess("AB")));
+  }
+
+  private static Game game() {
+    Game game = new Game();
+    game.setPool("ABCD");
+    game.setLength(2);
+    return game;
+  }
+
+  private static Guess guess(String text) {
+    Guess guess = new Guess();
+    guess.setText(text);
+    return guess;
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RandomBufferTest {
+
+  private static final int TRIALS = 60_000;
+  private static final int BUCKETS = 6;
+  // Critical value of the chi-squared distribution with 5 degrees of freedom, at p = 0.0001.
+  private static final double CRITICAL_CHI_SQUARED = 25.74;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 6, 255, 1 << 20, Integer.MAX_VALUE})
+  void nextInt_withinBound(int bound) {
+    RandomBuffer random = RandomBuffer.current();
+    for (int trial = 0; trial < TRIALS; trial++) {
+      int value = random.nextInt(bound);
+      assertTrue(value >= 0 && value < bound);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+  void nextInt_invalidBound(int bound) {
+    assertThrows(IllegalArgumentException.class, () -> RandomBuffer.current().nextInt(bound));
+  }
+
+  @Test
+  void nextInt_uniform() {
+    assertUniform(RandomBuffer.current());
+  }
+
+  @Test
+  void nextInt_uniformOnVirtualThread() throws InterruptedException {
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread thread = Thread.ofVirtual().start(() -> {
+      try {
+        assertUniform(RandomBuffer.current());
+      } catch (Throwable e) {
+        failure.set(e);
+      }
+    });
+    thread.join();
+    assertNull(failure.get(), () -> String.valueOf(failure.get()));
+  }
+
+  private static void assertUniform(RandomBuffer random) {
+    int[] counts = new int[BUCKETS];
+    for (int trial = 0; trial < TRIALS; trial++) {
+      counts[random.nextInt(BUCKETS)]++;
+    }
+    double expected = (double) TRIALS / BUCKETS;
+    double sum = 0;
+    for (int count : counts) {
+      sum += (count - expected) * (count - expected) / expected;
+    }
+    double chiSquared = sum;
+    assertTrue(chiSquared < CRITICAL_CHI_SQUARED, () -> "chi-squared = " + chiSquared);
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedKeyGeneratorTest {
+
+  private static final int TRIALS = 10_000;
+
+  private final TimeOrderedKeyGenerator generator = new TimeOrderedKeyGenerator();
+
+  @Test
+  void generate_versionAndVariant() {
+    UUID key = generator.generate();
+    assertEquals(7, key.version());
+    assertEquals(2, key.variant());
+  }
+
+  @Test
+  void generate_embedsTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID key = generator.generate();
+    long after = System.currentTimeMillis();
+    long timestamp = key.getMostSignificantBits() >>> 16;
+    assertTrue(timestamp >= before && timestamp <= after);
+  }
+
+  @Test
+  void generate_timeOrderedAndDistinct() {
+    Set<UUID> keys = new HashSet<>();
+    long previousTimestamp = 0;
+    for (int trial = 0; trial < TRIALS; trial++) {
+      UUID key = generator.generate();
+      long timestamp = key.getMostSignificantBits() >>> 16;
+      assertTrue(timestamp >= previousTimestamp);
+      assertTrue(keys.add(key));
+      previousTimestamp = timestamp;
+    }
+  }
+
+}
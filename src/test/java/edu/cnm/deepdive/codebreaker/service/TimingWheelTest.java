@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimingWheelTest {
+
+  private static final long TICK = 10;
+  private static final long START = 1_000_000;
+
+  @ParameterizedTest
+  @ValueSource(longs = {1, 63, 64, 4_095, 4_096, 262_143, 262_144, 16_777_215, 16_777_216,
+      40_000_000})
+  void advance_expiresAtTick(long ticks) {
+    TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+    List<String> expired = new ArrayList<>();
+    wheel.schedule("key", START + ticks * TICK);
+    wheel.advance(START + (ticks - 1) * TICK, expired::add);
+    assertTrue(expired.isEmpty());
+    wheel.advance(START + ticks * TICK, expired::add);
+    assertEquals(List.of("key"), expired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void advance_pastExpiryNextTick() {
+    TimingWheel<String> wheel = new TimingWheel<>(TICK, START);
+    List<String> expired = new ArrayList<>();
+    wheel.schedule("key", START - 5 * TICK);
+    wheel.advance(START, expired::add);
+    assertTrue(expired.isEmpty());
+    wheel.advance(START + TICK, expired::add);
+    assertEquals(List.of("key"), expired);
+  }
+
+  @Test
+  void advance_randomSchedule() {
+    TimingWheel<Integer> wheel = new TimingWheel<>(TICK, START);
+    Random rng = new Random(0);
+    Map<Integer, Long> expectedTicks = new HashMap<>();
+    long now = START;
+    for (int key = 0; key < 10_000; key++) {
+      long expiry = now + rng.nextInt(300_000);
+      wheel.schedule(key, expiry);
+      expectedTicks.put(key, Math.max(Math.ceilDiv(expiry, TICK), now / TICK + 1));
+      if (key % 100 == 0) {
+        long advancedTo = now + rng.nextInt(1000);
+        long tick = advancedTo / TICK;
+        wheel.advance(advancedTo,
+            (expired) -> assertTrue(expectedTicks.remove(expired) <= tick));
+        now = advancedTo;
+      }
+    }
+    long end = now + 400_000;
+    wheel.advance(end, (expired) -> assertTrue(expectedTicks.remove(expired) <= end / TICK));
+    assertTrue(expectedTicks.isEmpty());
+    assertEquals(0, wheel.size());
+  }
+
+}
@@ -0,0 +1,183 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.CodebreakerApplication;
+import edu.cnm.deepdive.codebreaker.controller.CodebreakerExceptionHandler.AlreadySolvedException;
+import edu.cnm.deepdive.codebreaker.model.dao.GameRepository;
+import edu.cnm.deepdive.codebreaker.model.dao.GuessRepository;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = CodebreakerApplication.class,
+    properties = "write-behind.flush-interval-millis=50")
+@ActiveProfiles("write-behind")
+class WriteBehindGuessServiceTest {
+
+  private static final long TIMEOUT_MILLIS = 5_000;
+  private static final long POLL_MILLIS = 10;
+  private static final int THREADS = 8;
+  private static final int CONCURRENT_REPETITIONS = 20;
+
+  private final GameService gameService;
+  private final WriteBehindGuessService guessService;
+  private final GuessRepository guessRepository;
+  private final GameRepository gameRepository;
+
+  private Game game;
+
+  @Autowired
+  WriteBehindGuessServiceTest(GameService gameService, WriteBehindGuessService guessService,
+      GuessRepository guessRepository, GameRepository gameRepository) {
+    this.gameService = gameService;
+    this.guessService = guessService;
+    this.guessRepository = guessRepository;
+    this.gameRepository = gameRepository;
+  }
+
+  @BeforeEach
+  void setUp() {
+    Game game = new Game();
+    game.setPool("ABCD");
+    game.setLength(2);
+    this.game = gameService.add(game);
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameService.clear();
+  }
+
+  @Test
+  void addAll_visibleBeforeAndAfterWrite() throws InterruptedException {
+    // None of the guesses may match the code, or those following it would be discarded.
+    String[] texts = Stream.of("AA", "BB", "CC", "DD")
+        .filter((text) -> !text.equals(game.getText()))
+        .limit(3)
+        .toArray(String[]::new);
+    List<Guess> added = guessService.addAll(game, guesses(texts));
+    assertEquals(3, game.getGuessCount());
+    assertEquals(added.stream().map(Guess::getExternalKey).toList(),
+        guessService.list(game, null, 10).stream().map(Guess::getExternalKey).toList());
+    await(() -> guessRepository.findAllByGameOrderByIdAsc(game, Limit.of(10)).size() == 3);
+    assertEquals(added.stream().map(Guess::getExternalKey).toList(),
+        guessService.list(game, null, 10).stream().map(Guess::getExternalKey).toList());
+    assertEquals(List.of(texts[1], texts[2]),
+        guessService.recent(game, 2).stream().map(Guess::getText).toList());
+    assertTrue(guessService.get(game, added.get(1).getExternalKey()).isPresent());
+    await(() -> gameRepository
+        .findByExternalKey(game.getExternalKey())
+        .orElseThrow()
+        .getGuessCount() == 3);
+  }
+
+  @Test
+  void add_alreadySolvedInMemory() {
+    Game current = gameService.get(game.getExternalKey()).orElseThrow();
+    Guess solution = new Guess();
+    solution.setText(current.getText());
+    guessService.add(current, solution);
+    Game cached = gameService.get(game.getExternalKey()).orElseThrow();
+    assertTrue(cached.isSolved());
+    assertThrows(AlreadySolvedException.class,
+        () -> guessService.addAll(cached, guesses("AB")));
+  }
+
+  @RepeatedTest(CONCURRENT_REPETITIONS)
+  void add_concurrentSolutions_oneRecorded() throws Exception {
+    String solution = game.getText();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Guess>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        Game copy = gameService.get(game.getExternalKey()).orElseThrow();
+        futures.add(executor.submit(() -> {
+          start.await();
+          return guessService.add(copy, guesses(solution).get(0));
+        }));
+      }
+      start.countDown();
+      int recorded = 0;
+      for (Future<Guess> future : futures) {
+        try {
+          future.get(10, TimeUnit.SECONDS);
+          recorded++;
+        } catch (ExecutionException e) {
+          assertTrue(e.getCause() instanceof AlreadySolvedException);
+        }
+      }
+      assertEquals(1, recorded);
+      Game result = gameService.get(game.getExternalKey()).orElseThrow();
+      assertTrue(result.isSolved());
+      assertEquals(1, result.getGuessCount());
+      assertEquals(1, guessService.recent(result, THREADS).size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void add_staleSolvedGame_rejected() {
+    Game first = gameService.get(game.getExternalKey()).orElseThrow();
+    Game second = gameService.get(game.getExternalKey()).orElseThrow();
+    guessService.add(first, guesses(first.getText()).get(0));
+    assertThrows(AlreadySolvedException.class,
+        () -> guessService.addAll(second, guesses("AB")));
+    assertEquals(1, gameService.get(game.getExternalKey()).orElseThrow().getGuessCount());
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(POLL_MILLIS);
+    }
+  }
+
+  private static List<Guess> guesses(String... texts) {
+    return Stream.of(texts)
+        .map((text) -> {
+          Guess guess = new Guess();
+          guess.setText(text);
+          return guess;
+        })
+        .toList();
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.cnm.deepdive.codebreaker.view.UUIDStringifier.DecodeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class Base64UrlStringifierTest {
+
+  private static final int ITERATIONS = 1000;
+
+  private Base64UrlStringifier stringifier;
+
+  @BeforeEach
+  void setUp() {
+    stringifier = new Base64UrlStringifier(new SimpleMeterRegistry());
+  }
+
+  @Test
+  void toString_matchesBase64Url() {
+    Random rng = new Random(42);
+    for (int i = 0; i < ITERATIONS; i++) {
+      UUID value = new UUID(rng.nextLong(), rng.nextLong());
+      String expected = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes(value));
+      assertEquals(expected, stringifier.toString(value));
+      assertEquals(value, stringifier.fromString(expected));
+      assertEquals(Optional.of(value), stringifier.parse(expected));
+    }
+  }
+
+  @Test
+  void parse_padded() {
+    UUID value = UUID.randomUUID();
+    assertEquals(Optional.of(value), stringifier.parse(stringifier.toString(value) + "=="));
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = {"", "AAAAAAAAAAAAAAAAAAAAA", "AAAAAAAAAAAAAAAAAAAAAAA",
+      "AAAAAAAAAAAAAAAAAAAAA+", "AAAAAAAAAAAAAAAAAAAAA\u00e9", "AAAAAAAAAAAAAAAAAAAAAA=A"})
+  void parse_malformed(String value) {
+    assertTrue(stringifier.parse(value).isEmpty());
+    assertThrows(DecodeException.class, () -> stringifier.fromString(value));
+  }
+
+  @Test
+  void fromString_withoutStackTrace() {
+    DecodeException exception =
+        assertThrows(DecodeException.class, () -> stringifier.fromString("!"));
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  private static byte[] bytes(UUID value) {
+    return ByteBuffer
+        .allocate(16)
+        .putLong(value.getMostSignificantBits())
+        .putLong(value.getLeastSignificantBits())
+        .array();
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024 CNM Ingenuity, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package edu.cnm.deepdive.codebreaker.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import edu.cnm.deepdive.codebreaker.model.entity.Game;
+import edu.cnm.deepdive.codebreaker.model.entity.GameSnapshot;
+import edu.cnm.deepdive.codebreaker.model.entity.Guess;
+import edu.cnm.deepdive.codebreaker.model.entity.GuessSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GuessSerializerTest {
+
+  private static final String EPOCH = "1970-01-01T00:00:00.000+00:00";
+
+  private UUIDStringifier stringifier;
+  private ObjectMapper mapper;
+  private Game game;
+  private Guess guess;
+
+  @BeforeEach
+  void setUp() {
+    stringifier = new Base64UrlStringifier(new SimpleMeterRegistry());
+    GuessSerializer guessSerializer = new GuessSerializer(stringifier, 100, Duration.ofMinutes(1));
+    mapper = new ObjectMapper()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .registerModule(new SimpleModule()
+            .addSerializer(guessSerializer)
+            .addSerializer(new GameSerializer(stringifier, guessSerializer)));
+    game = new GameSnapshot(1L, UUID.randomUUID(), Instant.EPOCH, "ABCD", "ABCD", 4, null, false,
+        1, Instant.EPOCH, 1).restore();
+    guess = new GuessSnapshot(2L, UUID.randomUUID(), Instant.EPOCH, "ABCC", 3, 0).restore(game);
+  }
+
+  @Test
+  void serialize_guess() throws JsonProcessingException {
+    String expected = guessJson();
+    assertEquals(expected, mapper.writeValueAsString(guess));
+    assertEquals("[" + expected + "," + expected + "]",
+        mapper.writeValueAsString(List.of(guess, guess)));
+  }
+
+  @Test
+  void serialize_gameWithRecentGuesses() throws JsonProcessingException {
+    game.setRecentGuesses(List.of(guess));
+    String expected = "{\"id\":\"" + stringifier.toString(game.getExternalKey())
+        + "\",\"created\":\"" + EPOCH
+        + "\",\"pool\":\"ABCD\",\"length\":4,\"guessCount\":1,\"solved\":false,\"guesses\":["
+        + guessJson() + "]}";
+    assertEquals(expected, mapper.writeValueAsString(game));
+  }
+
+  private String guessJson() {
+    return "{\"id\":\"" + stringifier.toString(guess.getExternalKey())
+        + "\",\"created\":\"" + EPOCH
+        + "\",\"text\":\"ABCC\",\"exactMatches\":3,\"nearMatches\":0,\"solution\":false}";
+  }
+
+}